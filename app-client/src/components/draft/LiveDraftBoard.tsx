@@ -1,7 +1,14 @@
 import React, { useEffect, useState, useCallback, useRef } from 'react';
 import { useParams, useNavigate, useSearchParams } from 'react-router-dom';
 import { useWebSocket } from '../../contexts/WebSocketContext';
-import { DraftStateMessage, PickMessage } from '../../models/WebSocketMessages';
+import {
+  DraftStateMessage,
+  DraftUpdateMessage,
+  PickMessage,
+  isDraftEvent,
+} from '../../models/WebSocketMessages';
+import { applyDraftEvent } from '../../services/DraftEventReducer';
+import { CommandIdTracker } from '../../services/CommandIds';
 import { useMobile } from '../../hooks/useMobile';
 import MobileLiveDraftBoard from '../mobile/MobileLiveDraftBoard';
 import LivePlayerPool from './LivePlayerPool';
@@ -32,7 +39,10 @@ const LiveDraftBoard: React.FC<LiveDraftBoardProps> = () => {
   const [toasts, setToasts] = useState<ToastNotification[]>([]);
   const [showCompleteModal, setShowCompleteModal] = useState(false);
 
+  const draftStateRef = useRef<DraftStateMessage | null>(null);
   const previousPicksRef = useRef<PickMessage[]>([]);
+  // One ID per pick intent, reused when the same pick is retried
+  const commandIdsRef = useRef(new CommandIdTracker());
   const toastIdCounter = useRef(0);
 
   // Get user's position from URL query param
@@ -158,10 +168,30 @@ const LiveDraftBoard: React.FC<LiveDraftBoardProps> = () => {
 
     console.log('Subscribing to draft updates for:', uuid);
 
-    subscribeToDraft(uuid, (message: DraftStateMessage) => {
+    subscribeToDraft(uuid, (message: DraftUpdateMessage) => {
+      if (isDraftEvent(message)) {
+        // Events before the first snapshot are already included in it
+        if (!draftStateRef.current) return;
+
+        const next = applyDraftEvent(draftStateRef.current, message);
+        if (!next) {
+          console.log('Missed draft event, requesting fresh state');
+          if (message.type === 'RESYNC' && message.reason === 'DRAFT_CONFLICT') {
+            showToast('The draft was changed elsewhere, so the last change was not saved.', 'error');
+          }
+          sendMessage(`/app/draft/${uuid}/state`, { draftUuid: uuid });
+          return;
+        }
+        draftStateRef.current = next;
+        previousPicksRef.current = next.picks;
+        setDraftState(next);
+        return;
+      }
+
       console.log('Received draft state:', message);
       
       // Update previous picks reference without showing toasts
+      draftStateRef.current = message;
       previousPicksRef.current = message.picks;
       setDraftState(message);
       setLoading(false); // Ensure loading is false when we get state
@@ -200,6 +230,9 @@ const LiveDraftBoard: React.FC<LiveDraftBoardProps> = () => {
           draftUuid: uuid,
           playerId,
           position: userPosition,
+          commandId: commandIdsRef.current.idFor(
+            `${uuid}:pick:${draftStateRef.current?.currentPick}:${playerId}:${userPosition}`
+          ),
         });
       } catch (err) {
         console.error('Failed to make pick:', err);
@@ -221,6 +254,9 @@ const LiveDraftBoard: React.FC<LiveDraftBoardProps> = () => {
         playerId,
         targetPosition,
         forcingPosition: userPosition,
+        commandId: commandIdsRef.current.idFor(
+          `${uuid}:force-pick:${draftState.currentPick}:${playerId}:${targetPosition}:${userPosition}`
+        ),
       });
     } catch (err) {
       console.error('Failed to force pick:', err);
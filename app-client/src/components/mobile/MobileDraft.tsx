@@ -40,8 +40,8 @@ const MobileDraft: React.FC<MobileDraftProps> = ({
     useEffect(() => {
         fetch('/api/players/manage/headshots/available')
             .then(res => res.json())
-            .then((playerIds: number[]) => {
-                setPlayersWithHeadshots(new Set(playerIds));
+            .then((headshots: { playerId: number; version: string }[]) => {
+                setPlayersWithHeadshots(new Set(headshots.map(h => h.playerId)));
             })
             .catch(err => console.error('Failed to fetch headshot info:', err));
     }, []);
@@ -1,7 +1,14 @@
 import React, { useEffect, useState, useCallback, useRef } from 'react';
 import { useParams, useNavigate, useSearchParams } from 'react-router-dom';
 import { useWebSocket } from '../../contexts/WebSocketContext';
-import { DraftStateMessage, PickMessage } from '../../models/WebSocketMessages';
+import {
+  DraftStateMessage,
+  DraftUpdateMessage,
+  PickMessage,
+  isDraftEvent,
+} from '../../models/WebSocketMessages';
+import { applyDraftEvent } from '../../services/DraftEventReducer';
+import { CommandIdTracker } from '../../services/CommandIds';
 import Toast from '../shared/Toast';
 import DraftCompleteModal from '../draft/DraftCompleteModal';
 import './mobileLiveDraft.scss';
@@ -29,7 +36,10 @@ const MobileLiveDraftBoard: React.FC = () => {
   const [showFilters, setShowFilters] = useState(false);
   const [showCompleteModal, setShowCompleteModal] = useState(false);
 
+  const draftStateRef = useRef<DraftStateMessage | null>(null);
   const previousPicksRef = useRef<PickMessage[]>([]);
+  // One ID per pick intent, reused when the same pick is retried
+  const commandIdsRef = useRef(new CommandIdTracker());
   const toastIdCounter = useRef(0);
   const carouselRef = useRef<HTMLDivElement>(null);
 
@@ -127,7 +137,26 @@ const MobileLiveDraftBoard: React.FC = () => {
   useEffect(() => {
     if (!uuid || !isConnected) return;
 
-    subscribeToDraft(uuid, (message: DraftStateMessage) => {
+    subscribeToDraft(uuid, (message: DraftUpdateMessage) => {
+      if (isDraftEvent(message)) {
+        // Events before the first snapshot are already included in it
+        if (!draftStateRef.current) return;
+
+        const next = applyDraftEvent(draftStateRef.current, message);
+        if (!next) {
+          if (message.type === 'RESYNC' && message.reason === 'DRAFT_CONFLICT') {
+            showToast('The draft was changed elsewhere, so the last change was not saved.', 'error');
+          }
+          sendMessage(`/app/draft/${uuid}/state`, { draftUuid: uuid });
+          return;
+        }
+        draftStateRef.current = next;
+        previousPicksRef.current = next.picks;
+        setDraftState(next);
+        return;
+      }
+
+      draftStateRef.current = message;
       previousPicksRef.current = message.picks;
       setDraftState(message);
       setLoading(false);
@@ -141,7 +170,7 @@ const MobileLiveDraftBoard: React.FC = () => {
       setError('Failed to load draft state. Please refresh the page.');
       setLoading(false);
     }
-  }, [uuid, isConnected, subscribeToDraft, sendMessage]);
+  }, [uuid, isConnected, subscribeToDraft, sendMessage, showToast]);
 
   const isMyTurn = useCallback((): boolean => {
     if (!draftState || !userPosition) return false;
@@ -164,6 +193,9 @@ const MobileLiveDraftBoard: React.FC = () => {
           draftUuid: uuid,
           playerId,
           position: userPosition,
+          commandId: commandIdsRef.current.idFor(
+            `${uuid}:pick:${draftStateRef.current?.currentPick}:${playerId}:${userPosition}`
+          ),
         });
         setShowPlayerSheet(false);
       } catch (err) {
@@ -186,6 +218,9 @@ const MobileLiveDraftBoard: React.FC = () => {
           playerId,
           targetPosition,
           forcingPosition: userPosition,
+          commandId: commandIdsRef.current.idFor(
+            `${uuid}:force-pick:${draftState.currentPick}:${playerId}:${targetPosition}:${userPosition}`
+          ),
         });
         setShowPlayerSheet(false);
       } catch (err) {
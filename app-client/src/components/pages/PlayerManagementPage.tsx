@@ -60,7 +60,8 @@ const PlayerManagementPage: React.FC = () => {
             console.log('[PlayerManagement] Fetching players with headshots...');
             const response = await fetch('/api/players/manage/headshots/available');
             if (response.ok) {
-                const playerIds: number[] = await response.json();
+                const headshots: { playerId: number; version: string }[] = await response.json();
+                const playerIds = headshots.map(h => h.playerId);
                 console.log('[PlayerManagement] Players with headshots:', playerIds);
                 setPlayersWithHeadshots(new Set(playerIds));
             }
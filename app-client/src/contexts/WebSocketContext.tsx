@@ -1,7 +1,7 @@
 import React, { createContext, useContext, useEffect, useState, useCallback, ReactNode } from 'react';
 import { webSocketService } from '../services/WebSocketService';
 import {
-  DraftStateMessage,
+  DraftUpdateMessage,
   LobbyStateMessage,
   ErrorMessage,
   ParticipantJoinedMessage,
@@ -28,7 +28,7 @@ interface WebSocketContextValue {
   error: string | null;
   connect: (draftUuid: string) => Promise<void>;
   disconnect: () => void;
-  subscribeToDraft: (draftUuid: string, callback: (message: DraftStateMessage) => void) => void;
+  subscribeToDraft: (draftUuid: string, callback: (message: DraftUpdateMessage) => void) => void;
   subscribeToLobby: (draftUuid: string, callback: (message: LobbyStateMessage) => void) => void;
   onError: (callback: (error: ErrorMessage) => void) => void;
   onParticipantJoined: (callback: (message: ParticipantJoinedMessage) => void) => void;
@@ -83,9 +83,9 @@ export const WebSocketProvider: React.FC<WebSocketProviderProps> = ({ children }
   }, []);
 
   /**
-   * Subscribe to draft state updates
+   * Subscribe to draft events and state snapshots
    */
-  const subscribeToDraft = useCallback((draftUuid: string, callback: (message: DraftStateMessage) => void) => {
+  const subscribeToDraft = useCallback((draftUuid: string, callback: (message: DraftUpdateMessage) => void) => {
     const topic = `/topic/draft/${draftUuid}`;
     const userQueue = `/user/queue/draft-state`;
     webSocketService.subscribe(topic, callback);
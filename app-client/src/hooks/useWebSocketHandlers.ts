@@ -2,6 +2,9 @@ import { useEffect, useCallback } from 'react';
 import { useWebSocket } from '../contexts/WebSocketContext';
 import {
   DraftStateMessage,
+  DraftEventMessage,
+  DraftUpdateMessage,
+  isDraftEvent,
   LobbyStateMessage,
   ErrorMessage,
   ParticipantJoinedMessage,
@@ -15,6 +18,7 @@ import {
  */
 export interface WebSocketHandlers {
   onDraftStateUpdate?: (message: DraftStateMessage) => void;
+  onDraftEvent?: (event: DraftEventMessage) => void;
   onLobbyStateUpdate?: (message: LobbyStateMessage) => void;
   onPickMade?: (pick: PickMessage) => void;
   onError?: (error: ErrorMessage) => void;
@@ -41,9 +45,22 @@ export const useWebSocketHandlers = (draftUuid: string | null, handlers: WebSock
   } = useWebSocket();
 
   /**
-   * Handle draft state updates
+   * Handle draft events and state snapshots
    */
-  const handleDraftState = useCallback((message: DraftStateMessage) => {
+  const handleDraftState = useCallback((message: DraftUpdateMessage) => {
+    if (isDraftEvent(message)) {
+      console.log('Draft event received:', message);
+
+      if (handlers.onDraftEvent) {
+        handlers.onDraftEvent(message);
+      }
+
+      if (handlers.onPickMade && message.type === 'PICK_MADE' && message.pick) {
+        handlers.onPickMade(message.pick);
+      }
+      return;
+    }
+
     console.log('Draft state update received:', message);
     
     if (handlers.onDraftStateUpdate) {
@@ -121,7 +138,7 @@ export const useWebSocketHandlers = (draftUuid: string | null, handlers: WebSock
     }
 
     // Subscribe to draft state updates if handler is provided
-    if (handlers.onDraftStateUpdate || handlers.onPickMade) {
+    if (handlers.onDraftStateUpdate || handlers.onDraftEvent || handlers.onPickMade) {
       subscribeToDraft(draftUuid, handleDraftState);
     }
 
@@ -152,6 +169,7 @@ export const useWebSocketHandlers = (draftUuid: string | null, handlers: WebSock
   }, [
     draftUuid,
     handlers.onDraftStateUpdate,
+    handlers.onDraftEvent,
     handlers.onLobbyStateUpdate,
     handlers.onPickMade,
     handlers.onError,
@@ -46,8 +46,36 @@ export interface DraftStateMessage {
   participants: ParticipantInfo[];
   picks: PickMessage[];
   availablePlayers: PlayerResponse[];
+  sequence: number; // Last event sequence included in this snapshot
+  playerPoolVersion: number; // Version of the verified player pool availablePlayers was built from
 }
 
+export type DraftEventType = 'PICK_MADE' | 'PICK_UNDONE' | 'TURN_CHANGED' | 'RESYNC';
+
+/**
+ * Incremental draft change broadcast on /topic/draft/{uuid}.
+ * Sequence numbers increase by exactly one per event; a gap means the client must resync.
+ * RESYNC means the server dropped changes it could not save; it has no sequence and always requires a resync.
+ */
+export interface DraftEventMessage {
+  type: DraftEventType;
+  draftUuid: string;
+  sequence: number | null; // null for RESYNC
+  pick?: PickMessage; // PICK_MADE, PICK_UNDONE
+  player?: PlayerResponse; // PICK_UNDONE - the player returned to the pool
+  beforePlayerId?: number | null; // PICK_UNDONE - the available player it goes in front of (null for the end)
+  status?: string; // TURN_CHANGED
+  currentRound?: number; // TURN_CHANGED
+  currentPick?: number; // TURN_CHANGED
+  currentTurnPosition?: string | null; // TURN_CHANGED
+  reason?: 'WRITE_FAILED' | 'DRAFT_CONFLICT'; // RESYNC - why the server dropped its state
+}
+
+export type DraftUpdateMessage = DraftStateMessage | DraftEventMessage;
+
+export const isDraftEvent = (message: DraftUpdateMessage): message is DraftEventMessage =>
+  (message as DraftEventMessage).type !== undefined;
+
 export interface LobbyStateMessage {
   draftUuid: string;
   draftName: string;
@@ -105,6 +133,8 @@ export interface MakePickRequest {
   draftUuid: string;
   playerId: number;
   position: string;
+  /** Generated once per pick and reused on resend, so a resent pick is not applied twice */
+  commandId?: string;
 }
 
 export interface ForcePickRequest {
@@ -112,4 +142,6 @@ export interface ForcePickRequest {
   playerId: number;
   targetPosition: string;
   forcingPosition: string;
+  /** Generated once per pick and reused on resend, so a resent pick is not applied twice */
+  commandId?: string;
 }
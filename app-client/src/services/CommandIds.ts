@@ -0,0 +1,43 @@
+/**
+ * Generate a random (version 4) UUID for a draft command.
+ * crypto.randomUUID only exists in secure contexts (HTTPS or localhost), so elsewhere the UUID
+ * is built from crypto.getRandomValues, which is available everywhere, or Math.random as a last resort.
+ */
+export const generateCommandId = (): string => {
+  if (typeof crypto !== 'undefined' && typeof crypto.randomUUID === 'function') {
+    return crypto.randomUUID();
+  }
+
+  const bytes = new Uint8Array(16);
+  if (typeof crypto !== 'undefined' && typeof crypto.getRandomValues === 'function') {
+    crypto.getRandomValues(bytes);
+  } else {
+    for (let i = 0; i < bytes.length; i++) {
+      bytes[i] = Math.floor(Math.random() * 256);
+    }
+  }
+  bytes[6] = (bytes[6] & 0x0f) | 0x40;
+  bytes[8] = (bytes[8] & 0x3f) | 0x80;
+
+  const hex = Array.from(bytes, (b) => b.toString(16).padStart(2, '0')).join('');
+  return `${hex.slice(0, 8)}-${hex.slice(8, 12)}-${hex.slice(12, 16)}-${hex.slice(16, 20)}-${hex.slice(20)}`;
+};
+
+/**
+ * Remembers the command ID of the user's latest intent, so retrying or resending the same intent
+ * reuses its ID and the server applies it at most once.
+ * An intent is identified by a key, e.g. the command, pick number and player; a different key
+ * is a new intent and gets a new ID.
+ */
+export class CommandIdTracker {
+  private key: string | null = null;
+  private id: string | null = null;
+
+  idFor(key: string): string {
+    if (this.id === null || this.key !== key) {
+      this.key = key;
+      this.id = generateCommandId();
+    }
+    return this.id;
+  }
+}
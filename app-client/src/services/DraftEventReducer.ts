@@ -0,0 +1,81 @@
+import { DraftEventMessage, DraftStateMessage, PlayerResponse } from '../models/WebSocketMessages';
+
+/**
+ * Return a copy of the available players with a player put back at its ADP rank:
+ * in front of the given player, or at the end if there is none or it is not in the list.
+ */
+const insertBefore = (
+  players: PlayerResponse[],
+  player: PlayerResponse,
+  beforePlayerId: number | null | undefined
+): PlayerResponse[] => {
+  const index = beforePlayerId == null ? -1 : players.findIndex((p) => p.id === beforePlayerId);
+  if (index < 0) {
+    return [...players, player];
+  }
+  return [...players.slice(0, index), player, ...players.slice(index)];
+};
+
+/**
+ * Apply a single draft event to the current draft state snapshot.
+ *
+ * @param state The current draft state
+ * @param event The event received on /topic/draft/{uuid}
+ * @returns The updated state, the unchanged state if the event was already applied,
+ *          or null if a gap was detected or the server asked for a resync
+ *          and the client must request a fresh snapshot
+ */
+export const applyDraftEvent = (
+  state: DraftStateMessage,
+  event: DraftEventMessage
+): DraftStateMessage | null => {
+  // The server dropped changes it could not save; events since the snapshot may be gone
+  if (event.type === 'RESYNC' || event.sequence === null) {
+    return null;
+  }
+
+  // Already included in the current snapshot (e.g. arrived while a resync was in flight)
+  if (event.sequence <= state.sequence) {
+    return state;
+  }
+
+  // Missed one or more events
+  if (event.sequence !== state.sequence + 1) {
+    return null;
+  }
+
+  switch (event.type) {
+    case 'PICK_MADE': {
+      const pick = event.pick!;
+      return {
+        ...state,
+        sequence: event.sequence,
+        picks: [...state.picks, pick],
+        availablePlayers: state.availablePlayers.filter((p) => p.id !== pick.playerId),
+      };
+    }
+    case 'PICK_UNDONE': {
+      const pick = event.pick!;
+      return {
+        ...state,
+        sequence: event.sequence,
+        picks: state.picks.filter((p) => p.pickNumber !== pick.pickNumber),
+        availablePlayers: event.player
+          ? insertBefore(state.availablePlayers, event.player, event.beforePlayerId)
+          : state.availablePlayers,
+      };
+    }
+    case 'TURN_CHANGED':
+      return {
+        ...state,
+        sequence: event.sequence,
+        status: event.status ?? state.status,
+        currentRound: event.currentRound ?? state.currentRound,
+        currentPick: event.currentPick ?? state.currentPick,
+        currentTurnPosition: event.currentTurnPosition ?? '',
+      };
+    default:
+      // Unknown event type - resync to be safe
+      return null;
+  }
+};
@@ -5,3 +5,5 @@
 
 export { WebSocketService, webSocketService } from './WebSocketService';
 export { WebSocketMessageSender } from './WebSocketMessageSender';
+export { applyDraftEvent } from './DraftEventReducer';
+export { generateCommandId, CommandIdTracker } from './CommandIds';
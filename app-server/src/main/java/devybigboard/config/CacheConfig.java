@@ -1,21 +1,44 @@
 package devybigboard.config;
 
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import devybigboard.models.HeadshotImage;
+import devybigboard.models.HeadshotKey;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
- * Configuration for Spring caching.
- * Enables caching for player headshots to reduce S3 egress costs.
+ * Configuration for in-memory caches.
+ * Player headshots are cached to reduce S3 egress costs, bounded by total bytes
+ * so heap usage stays predictable however many players have images.
  */
 @Configuration
-@EnableCaching
 public class CacheConfig {
-    
+
+    /**
+     * Headshot cache keyed by player ID and rendition size.
+     * Entries are weighed by image size and evicted with Caffeine's W-TinyLFU policy once
+     * the total exceeds maxBytes; optionally they also expire after not being read for a while.
+     *
+     * @param maxBytes upper bound on the approximate heap used by cached images
+     * @param expireAfterAccess idle time after which an image is dropped; zero disables expiry
+     */
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("playerHeadshots");
+    public Cache<HeadshotKey, HeadshotImage> headshotCache(
+            @Value("${app.headshots.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.headshots.cache.expire-after-access:0s}") Duration expireAfterAccess) {
+        Caffeine<HeadshotKey, HeadshotImage> builder = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((HeadshotKey key, HeadshotImage image) -> image.weight())
+                // Run eviction on the calling thread so the weight never lags far behind the bound
+                .executor(Runnable::run)
+                .recordStats();
+        if (!expireAfterAccess.isZero() && !expireAfterAccess.isNegative()) {
+            builder.expireAfterAccess(expireAfterAccess);
+        }
+        return builder.build();
     }
 }
@@ -5,10 +5,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class S3Config {
@@ -25,6 +30,32 @@ public class S3Config {
     @Value("${app.s3.secret-access-key}")
     private String secretAccessKey;
 
+    /** Path-style URLs, needed by local S3 stand-ins such as MinIO or LocalStack */
+    @Value("${app.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+
+    @Value("${app.s3.max-connections:64}")
+    private int maxConnections;
+
+    @Value("${app.s3.connection-acquisition-timeout:5s}")
+    private Duration connectionAcquisitionTimeout;
+
+    @Value("${app.s3.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${app.s3.socket-timeout:10s}")
+    private Duration socketTimeout;
+
+    @Value("${app.s3.api-call-timeout:30s}")
+    private Duration apiCallTimeout;
+
+    @Value("${app.s3.api-call-attempt-timeout:10s}")
+    private Duration apiCallAttemptTimeout;
+
+    /**
+     * S3 client with an explicitly sized connection pool and per-operation timeouts,
+     * so a slow or unreachable bucket fails requests quickly instead of holding threads.
+     */
     @Bean
     public S3Client s3Client() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKeyId, secretAccessKey);
@@ -33,6 +64,26 @@ public class S3Config {
                 .endpointOverride(URI.create(endpoint))
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .forcePathStyle(pathStyleAccess)
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                        .connectionTimeout(connectTimeout)
+                        .socketTimeout(socketTimeout))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(apiCallTimeout)
+                        .apiCallAttemptTimeout(apiCallAttemptTimeout)
+                        .build())
                 .build();
     }
+
+    /**
+     * Virtual-thread executor for S3 calls made on behalf of web requests.
+     * Request threads hand blocking S3 I/O to it and are released until the result is ready;
+     * AssetService bounds how many calls are in flight.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService s3Executor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("s3-", 0).factory());
+    }
 }
@@ -1,12 +1,21 @@
 package devybigboard.controllers;
 
+import devybigboard.models.AdpSegment;
 import devybigboard.models.CompletedDraftResponse;
+import devybigboard.models.FilterBatchRequest;
+import devybigboard.models.FilterBatchResponse;
 import devybigboard.models.LeagueFilter;
 import devybigboard.models.Player;
+import devybigboard.models.PlayerBoard;
 import devybigboard.models.PlayerWithAdp;
 import devybigboard.services.DevyBoardService;
 import devybigboard.services.DraftService;
 import devybigboard.services.ExportService;
+import devybigboard.services.LeagueFilterService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,11 +27,14 @@ public class ApiController {
     private final DevyBoardService devyBoardService;
     private final DraftService draftService;
     private final ExportService exportService;
+    private final LeagueFilterService leagueFilterService;
 
-    public ApiController(DevyBoardService devyBoardService, DraftService draftService, ExportService exportService) {
+    public ApiController(DevyBoardService devyBoardService, DraftService draftService, ExportService exportService,
+                         LeagueFilterService leagueFilterService) {
         this.devyBoardService = devyBoardService;
         this.draftService = draftService;
         this.exportService = exportService;
+        this.leagueFilterService = leagueFilterService;
     }
 
     @GetMapping("/draft/count")
@@ -30,9 +42,58 @@ public class ApiController {
         return draftService.draftsCompletedCount();
     }
 
+    /**
+     * Get the ADP-sorted board of verified players.
+     * GET /api/players
+     * GET /api/players?window=30d&snake=true&teams=10-12
+     *
+     * Without parameters the all-time board is returned. With any of window, snake or teams,
+     * ADP is computed only over matching completed drafts and each row also carries a
+     * round-normalized ADP, pick count and pick range.
+     *
+     * Boards are served from an in-memory cache with a strong ETag; a matching
+     * If-None-Match header gets a 304 without a body.
+     *
+     * @param window only drafts completed in the last N days, e.g. 30d, or "all"
+     * @param snake true for snake drafts only, false for linear drafts only
+     * @param teams a league size such as 12 or a range such as 10-12
+     * @param ifNoneMatch the ETag(s) the client already has
+     * @return 200 OK with the board, or 304 Not Modified
+     */
     @GetMapping("/players")
-    public List<PlayerWithAdp> allPlayers() {
-        return devyBoardService.getAllPlayers();
+    public ResponseEntity<List<?>> allPlayers(
+            @RequestParam(required = false) String window,
+            @RequestParam(required = false) String snake,
+            @RequestParam(required = false) String teams,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AdpSegment segment = AdpSegment.parse(window, snake, teams);
+        PlayerBoard<?> board = segment.isUnrestricted()
+                ? devyBoardService.getPlayerBoard()
+                : devyBoardService.getSegmentBoard(segment);
+
+        if (ConditionalRequests.etagMatches(ifNoneMatch, board.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(board.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(board.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(board.players());
+    }
+
+    /**
+     * Rebuild the materialized ADP aggregate from all completed drafts.
+     * POST /api/players/adp/rebuild
+     *
+     * @return the number of players with an ADP after the rebuild
+     */
+    @PostMapping("/players/adp/rebuild")
+    public java.util.Map<String, Object> rebuildAdp() {
+        int players = devyBoardService.rebuildAdp();
+        return java.util.Map.of("success", true, "playersWithAdp", players);
     }
 
     @PostMapping("/draft/complete")
@@ -48,12 +109,12 @@ public class ApiController {
 
     @GetMapping("/filters")
     public List<LeagueFilter> getAllFilters() {
-        return draftService.getAllLeagueFilters();
+        return leagueFilterService.getAllLeagueFilters();
     }
 
     @PostMapping("/filters")
     public long createFilter(@RequestBody String leagueName) {
-        return draftService.createLeagueFilter(leagueName);
+        return leagueFilterService.createLeagueFilter(leagueName);
     }
 
     @PostMapping("/filters/{filterId}/add")
@@ -61,7 +122,7 @@ public class ApiController {
             @PathVariable long filterId,
             @RequestBody Player player
     ) {
-        draftService.addPlayerToFilter(filterId, player);
+        leagueFilterService.addPlayerToFilter(filterId, player);
     }
 
     @PostMapping("/filters/{filterId}/remove")
@@ -69,7 +130,25 @@ public class ApiController {
             @PathVariable long filterId,
             @RequestBody Player player
     ) {
-        draftService.removePlayerFromFilter(filterId, player);
+        leagueFilterService.removePlayerFromFilter(filterId, player);
+    }
+
+    /**
+     * Add and remove many players in one request.
+     * POST /api/filters/{filterId}/players:batch
+     *
+     * Both lists are applied in one transaction with JDBC batch updates.
+     *
+     * @param filterId the filter to change
+     * @param request the player IDs to add and to remove
+     * @return the filter version and player count after the change
+     */
+    @PostMapping("/filters/{filterId}/players:batch")
+    public FilterBatchResponse batchUpdateFilter(
+            @PathVariable long filterId,
+            @RequestBody FilterBatchRequest request
+    ) {
+        return leagueFilterService.applyBatch(filterId, request);
     }
 
     @GetMapping("/players/filter/{filterId}")
@@ -79,7 +158,7 @@ public class ApiController {
 
     @DeleteMapping("/filters/{filterId}")
     public void deleteFilter(@PathVariable long filterId) {
-        draftService.deleteLeagueFilter(filterId);
+        leagueFilterService.deleteLeagueFilter(filterId);
     }
 
     /**
@@ -140,7 +219,7 @@ public class ApiController {
      */
     @GetMapping("/drafts/{uuid}")
     public devybigboard.models.DraftResponse getDraftByUuidNew(@PathVariable String uuid) {
-        devybigboard.models.Draft draft = draftService.getDraftByUuid(uuid);
+        devybigboard.models.Draft draft = draftService.getDraftAggregate(uuid);
         return new devybigboard.models.DraftResponse(draft);
     }
 
@@ -154,7 +233,7 @@ public class ApiController {
      */
     @GetMapping("/drafts/{uuid}/export/csv")
     public org.springframework.http.ResponseEntity<byte[]> exportDraftToCSV(@PathVariable String uuid) {
-        devybigboard.models.Draft draft = draftService.getDraftByUuid(uuid);
+        devybigboard.models.Draft draft = draftService.getDraftAggregate(uuid);
         byte[] csv = exportService.exportToCSV(draft);
         
         return org.springframework.http.ResponseEntity.ok()
@@ -174,7 +253,7 @@ public class ApiController {
      */
     @GetMapping("/drafts/{uuid}/export/json")
     public org.springframework.http.ResponseEntity<String> exportDraftToJSON(@PathVariable String uuid) {
-        devybigboard.models.Draft draft = draftService.getDraftByUuid(uuid);
+        devybigboard.models.Draft draft = draftService.getDraftAggregate(uuid);
         String json = exportService.exportToJSON(draft);
         
         return org.springframework.http.ResponseEntity.ok()
@@ -192,7 +271,7 @@ public class ApiController {
      */
     @GetMapping("/drafts/{uuid}/export/pdf")
     public org.springframework.http.ResponseEntity<byte[]> exportDraftToPDF(@PathVariable String uuid) {
-        devybigboard.models.Draft draft = draftService.getDraftByUuid(uuid);
+        devybigboard.models.Draft draft = draftService.getDraftAggregate(uuid);
         byte[] pdf = exportService.exportToPDF(draft);
         
         return org.springframework.http.ResponseEntity.ok()
@@ -339,5 +418,4 @@ public class ApiController {
             })
             .collect(java.util.stream.Collectors.toList());
     }
-
-}
\ No newline at end of file
+}
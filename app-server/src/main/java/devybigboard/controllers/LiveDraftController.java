@@ -1,9 +1,11 @@
 package devybigboard.controllers;
 
+import devybigboard.exceptions.DraftConflictException;
 import devybigboard.exceptions.DraftNotFoundException;
 import devybigboard.exceptions.ValidationException;
 import devybigboard.models.*;
 import devybigboard.services.DraftService;
+import devybigboard.services.LiveDraftEngineService;
 import devybigboard.services.ParticipantService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -24,7 +26,10 @@ import java.util.stream.Collectors;
  * 
  * Uses STOMP protocol over WebSocket with two main topics:
  * - /topic/draft/{draftUuid}/lobby - for lobby state updates
- * - /topic/draft/{draftUuid} - for draft state updates during active draft
+ * - /topic/draft/{draftUuid} - for draft events (PICK_MADE, PICK_UNDONE, TURN_CHANGED) during active draft
+ * 
+ * Full draft state snapshots are broadcast when the draft starts and otherwise sent
+ * only to users who request them via /draft/{draftUuid}/state.
  */
 @Controller
 public class LiveDraftController {
@@ -33,13 +38,16 @@ public class LiveDraftController {
     
     private final DraftService draftService;
     private final ParticipantService participantService;
+    private final LiveDraftEngineService liveDraftEngineService;
     private final SimpMessagingTemplate messagingTemplate;
     
     public LiveDraftController(DraftService draftService, 
                               ParticipantService participantService,
+                              LiveDraftEngineService liveDraftEngineService,
                               SimpMessagingTemplate messagingTemplate) {
         this.draftService = draftService;
         this.participantService = participantService;
+        this.liveDraftEngineService = liveDraftEngineService;
         this.messagingTemplate = messagingTemplate;
     }
     
@@ -229,8 +237,8 @@ public class LiveDraftController {
             // Start the draft
             Draft startedDraft = draftService.startDraft(request.getDraftUuid());
             
-            // Get first turn position
-            String firstTurnPosition = draftService.getCurrentTurn(request.getDraftUuid());
+            // Get first turn position (loads the in-memory draft engine)
+            String firstTurnPosition = liveDraftEngineService.getCurrentTurn(request.getDraftUuid());
             
             // Broadcast draft started message to lobby
             DraftStartedMessage startedMessage = new DraftStartedMessage(
@@ -248,6 +256,9 @@ public class LiveDraftController {
             
             logger.info("Draft {} started successfully", request.getDraftUuid());
             
+        } catch (DraftConflictException e) {
+            logger.warn("Conflict starting draft: {}", e.getMessage());
+            sendErrorToUser(e.getMessage(), "DRAFT_CONFLICT", headerAccessor);
         } catch (DraftNotFoundException | ValidationException | IllegalStateException e) {
             logger.error("Error starting draft: {}", e.getMessage());
             sendErrorToUser(e.getMessage(), "START_ERROR", headerAccessor);
@@ -259,8 +270,9 @@ public class LiveDraftController {
     
     /**
      * Handle making a pick during the draft.
-     * Validates it's the participant's turn, makes the pick,
-     * and broadcasts updated draft state to all participants.
+     * Validates it's the participant's turn and applies the pick against the in-memory
+     * draft engine, which broadcasts PICK_MADE and TURN_CHANGED events to all participants.
+     * A resent command with the same commandId is neither applied nor broadcast again.
      * 
      * @param request the pick request containing draftUuid, playerId, and position
      * @param headerAccessor the message header accessor for getting session info
@@ -271,20 +283,20 @@ public class LiveDraftController {
             logger.info("Pick request for draft {} - player: {}, position: {}", 
                 request.getDraftUuid(), request.getPlayerId(), request.getPosition());
             
-            // Validate it's this position's turn
-            if (!draftService.isValidPick(request.getDraftUuid(), request.getPosition())) {
-                throw new ValidationException("It's not your turn to pick");
-            }
-            
-            // Make the pick
-            draftService.makePick(
+            // Validate turn and make the pick (throws ValidationException if not this position's turn)
+            DraftCommandResult result = liveDraftEngineService.makePick(
                 request.getDraftUuid(), 
                 request.getPlayerId(), 
-                request.getPosition()
+                request.getPosition(),
+                request.getCommandId()
             );
             
-            // Broadcast updated draft state
-            broadcastDraftState(request.getDraftUuid());
+            // A resent command was already applied and broadcast
+            if (result.replayed()) {
+                logger.info("Ignoring resent pick command {} for draft {}", 
+                    request.getCommandId(), request.getDraftUuid());
+                return;
+            }
             
             logger.info("Pick made successfully in draft {} by position {}", 
                 request.getDraftUuid(), request.getPosition());
@@ -300,8 +312,9 @@ public class LiveDraftController {
     
     /**
      * Handle forcing a pick for another position during the draft.
-     * Bypasses turn validation, makes the pick with attribution,
-     * and broadcasts updated draft state to all participants.
+     * Bypasses turn validation and makes the pick with attribution;
+     * the draft engine broadcasts PICK_MADE and TURN_CHANGED events to all participants.
+     * A resent command with the same commandId is neither applied nor broadcast again.
      * 
      * @param request the force pick request containing draftUuid, playerId, targetPosition, and forcingPosition
      * @param headerAccessor the message header accessor for getting session info
@@ -314,20 +327,25 @@ public class LiveDraftController {
                 request.getTargetPosition(), request.getForcingPosition());
             
             // Force the pick (no turn validation)
-            draftService.forcePick(
+            DraftCommandResult result = liveDraftEngineService.forcePick(
                 request.getDraftUuid(), 
                 request.getPlayerId(), 
                 request.getTargetPosition(), 
-                request.getForcingPosition()
+                request.getForcingPosition(),
+                request.getCommandId()
             );
             
-            // Broadcast updated draft state
-            broadcastDraftState(request.getDraftUuid());
+            // A resent command was already applied and broadcast
+            if (result.replayed()) {
+                logger.info("Ignoring resent force pick command {} for draft {}", 
+                    request.getCommandId(), request.getDraftUuid());
+                return;
+            }
             
             logger.info("Force pick made successfully in draft {} by position {} for position {}", 
                 request.getDraftUuid(), request.getForcingPosition(), request.getTargetPosition());
             
-        } catch (DraftNotFoundException | IllegalStateException | IllegalArgumentException e) {
+        } catch (DraftNotFoundException | ValidationException | IllegalStateException | IllegalArgumentException e) {
             logger.error("Error forcing pick: {}", e.getMessage());
             sendErrorToUser(e.getMessage(), "FORCE_PICK_ERROR", headerAccessor);
         } catch (Exception e) {
@@ -338,8 +356,8 @@ public class LiveDraftController {
     
     /**
      * Handle undoing the last pick in the draft.
-     * Removes the most recent pick, reverts draft state,
-     * and broadcasts updated draft state to all participants.
+     * Removes the most recent pick and reverts draft state;
+     * the draft engine broadcasts PICK_UNDONE and TURN_CHANGED events to all participants.
      * 
      * @param request simple request containing draftUuid and position
      * @param headerAccessor the message header accessor for getting session info
@@ -349,11 +367,8 @@ public class LiveDraftController {
         try {
             logger.info("Undo pick request for draft {}", request.getDraftUuid());
             
-            // Undo the last pick
-            draftService.undoLastPick(request.getDraftUuid(), "SYSTEM");
-            
-            // Broadcast updated draft state
-            broadcastDraftState(request.getDraftUuid());
+            // Undo the last pick; the engine broadcasts the events
+            liveDraftEngineService.undoLastPick(request.getDraftUuid());
             
             logger.info("Last pick undone successfully in draft {}", request.getDraftUuid());
             
@@ -369,7 +384,7 @@ public class LiveDraftController {
     /**
      * Handle request for current draft state.
      * Returns complete draft state to the requesting user.
-     * Used for reconnection and state synchronization.
+     * Used for reconnection and when a client detects a gap in the event sequence.
      * 
      * @param request simple request containing draftUuid
      * @param headerAccessor the message header accessor for getting session info
@@ -381,11 +396,8 @@ public class LiveDraftController {
         try {
             logger.info("Draft state request for draft {}", request.getDraftUuid());
             
-            // Get complete draft state
-            DraftState draftState = draftService.getDraftState(request.getDraftUuid());
-            
-            // Convert to message format
-            return buildDraftStateMessage(draftState);
+            // Get complete draft state from the in-memory draft engine
+            return liveDraftEngineService.getDraftStateMessage(request.getDraftUuid());
             
         } catch (DraftNotFoundException e) {
             logger.error("Error getting draft state: {}", e.getMessage());
@@ -454,8 +466,7 @@ public class LiveDraftController {
      */
     private void broadcastDraftState(String draftUuid) {
         try {
-            DraftState draftState = draftService.getDraftState(draftUuid);
-            DraftStateMessage message = buildDraftStateMessage(draftState);
+            DraftStateMessage message = liveDraftEngineService.getDraftStateMessage(draftUuid);
             messagingTemplate.convertAndSend("/topic/draft/" + draftUuid, message);
         } catch (Exception e) {
             logger.error("Error broadcasting draft state for draft {}", draftUuid, e);
@@ -495,43 +506,6 @@ public class LiveDraftController {
         );
     }
     
-    /**
-     * Build a DraftStateMessage from a DraftState object.
-     * 
-     * @param draftState the draft state object
-     * @return the draft state message
-     */
-    private DraftStateMessage buildDraftStateMessage(DraftState draftState) {
-        // Convert participants to DTOs
-        List<ParticipantInfo> participantInfos = draftState.getParticipants().stream()
-            .map(ParticipantInfo::fromEntity)
-            .collect(Collectors.toList());
-        
-        // Convert picks to DTOs
-        List<PickMessage> pickMessages = draftState.getPicks().stream()
-            .map(PickMessage::fromEntity)
-            .collect(Collectors.toList());
-        
-        // Convert available players to DTOs
-        List<PlayerResponse> availablePlayers = draftState.getAvailablePlayers().stream()
-            .map(PlayerResponse::new)
-            .collect(Collectors.toList());
-        
-        return new DraftStateMessage(
-            draftState.getUuid(),
-            draftState.getStatus(),
-            draftState.getCurrentRound(),
-            draftState.getCurrentPick(),
-            draftState.getCurrentTurnPosition(),
-            draftState.getParticipantCount(),
-            draftState.getTotalRounds(),
-            draftState.getIsSnakeDraft(),
-            participantInfos,
-            pickMessages,
-            availablePlayers
-        );
-    }
-    
     /**
      * Send an error message to the requesting user only.
      * Uses the session ID from the message header accessor.
@@ -2,27 +2,43 @@ package devybigboard.controllers;
 
 import devybigboard.dao.PlayerAssetRepository;
 import devybigboard.exceptions.PlayerNotFoundException;
+import devybigboard.exceptions.StorageUnavailableException;
 import devybigboard.exceptions.UnauthorizedException;
 import devybigboard.exceptions.ValidationException;
 import devybigboard.models.Player;
 import devybigboard.models.PlayerAsset;
 import devybigboard.models.PlayerDTO;
 import devybigboard.models.PlayerResponse;
+import devybigboard.models.HeadshotCacheStats;
+import devybigboard.models.HeadshotContent;
+import devybigboard.models.HeadshotImportResult;
+import devybigboard.models.HeadshotVersion;
 import devybigboard.services.AssetService;
+import devybigboard.services.HeadshotImportService;
+import devybigboard.services.HeadshotService;
 import devybigboard.services.PlayerService;
 import devybigboard.services.VerificationService;
 import jakarta.validation.Valid;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -33,17 +49,24 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/players/manage")
 public class PlayerController {
     
+    private static final Logger logger = LoggerFactory.getLogger(PlayerController.class);
+    
     private final PlayerService playerService;
     private final VerificationService verificationService;
     private final AssetService assetService;
     private final PlayerAssetRepository playerAssetRepository;
+    private final HeadshotService headshotService;
+    private final HeadshotImportService headshotImportService;
     
     public PlayerController(PlayerService playerService, VerificationService verificationService, 
-                          AssetService assetService, PlayerAssetRepository playerAssetRepository) {
+                          AssetService assetService, PlayerAssetRepository playerAssetRepository,
+                          HeadshotService headshotService, HeadshotImportService headshotImportService) {
         this.playerService = playerService;
         this.verificationService = verificationService;
         this.assetService = assetService;
         this.playerAssetRepository = playerAssetRepository;
+        this.headshotService = headshotService;
+        this.headshotImportService = headshotImportService;
     }
     
     /**
@@ -86,12 +109,11 @@ public class PlayerController {
      * @throws PlayerNotFoundException if the player does not exist (returns 404)
      */
     @PostMapping("/{id}/headshot")
-    @CacheEvict(value = "playerHeadshots", key = "#id")
     public ResponseEntity<PlayerResponse> uploadHeadshot(
             @PathVariable Long id,
             @RequestParam("file") MultipartFile file) {
         try {
-            System.out.println("[PlayerController] Uploading headshot for player ID: " + id);
+            logger.info("Uploading headshot for player ID: {}", id);
             
             if (file.isEmpty()) {
                 throw new ValidationException("File cannot be empty");
@@ -105,7 +127,7 @@ public class PlayerController {
             
             // Verify player exists
             Player player = playerService.getPlayerById(id);
-            System.out.println("[PlayerController] Player found: " + player.getName());
+            logger.debug("Player found: {}", player.getName());
             
             // Check if player already has an asset
             Optional<PlayerAsset> existingAsset = playerAssetRepository.findByPlayerId(id);
@@ -113,38 +135,93 @@ public class PlayerController {
             // Delete old image from S3 if exists
             if (existingAsset.isPresent()) {
                 String oldFilename = existingAsset.get().getFilename();
-                System.out.println("[PlayerController] Deleting old image: " + oldFilename);
+                logger.info("Deleting old image: {}", oldFilename);
                 try {
-                    assetService.deleteImage("players/headshots/" + oldFilename);
+                    headshotService.deleteHeadshotFiles(oldFilename);
                 } catch (Exception e) {
-                    System.err.println("[PlayerController] Failed to delete old image: " + e.getMessage());
+                    logger.warn("Failed to delete old image {}", oldFilename, e);
                 }
             }
             
-            // Upload to S3 in players/headshots folder - returns just filename
-            String filename = assetService.uploadImage(file, "players/headshots");
-            System.out.println("[PlayerController] Image uploaded with filename: " + filename);
+            // Read the upload once: stage it in a local file and hash it on the way
+            Path staged = Files.createTempFile("headshot-", ".upload");
+            String filename;
+            String contentHash;
+            try {
+                try (var upload = file.getInputStream()) {
+                    contentHash = HeadshotService.copyAndHash(upload, staged);
+                }
+                
+                // Upload to S3 in players/headshots folder - returns just filename
+                filename = assetService.uploadImage(staged, file.getOriginalFilename(), contentType, "players/headshots");
+                logger.info("Image uploaded with filename: {}", filename);
+                
+                // Render the thumbnails; if this fails they are created on first request
+                try (var original = new BufferedInputStream(Files.newInputStream(staged))) {
+                    headshotService.createRenditions(filename, original);
+                }
+            } finally {
+                Files.deleteIfExists(staged);
+            }
             
             // Create or update player asset
             PlayerAsset asset;
             if (existingAsset.isPresent()) {
                 asset = existingAsset.get();
                 asset.setFilename(filename);
-                System.out.println("[PlayerController] Updating existing asset");
+                asset.setContentHash(contentHash);
+                logger.debug("Updating existing asset");
             } else {
                 asset = new PlayerAsset(id, filename);
-                System.out.println("[PlayerController] Creating new asset");
+                asset.setContentHash(contentHash);
+                logger.debug("Creating new asset");
             }
             playerAssetRepository.save(asset);
-            System.out.println("[PlayerController] Asset saved to database");
+            headshotService.evict(id);
+            logger.debug("Asset saved to database");
             
             return ResponseEntity.ok(new PlayerResponse(player));
         } catch (IOException e) {
-            System.err.println("[PlayerController] Upload failed: " + e.getMessage());
+            logger.error("Headshot upload failed for player ID {}", id, e);
             throw new ValidationException("Failed to upload image: " + e.getMessage());
         }
     }
     
+    /**
+     * Import many headshots from one zip file.
+     * POST /api/players/manage/headshots/import
+     * 
+     * Entries are matched to players by file name: the player ID (1234.png) or the player's
+     * name (john_smith.jpg). Existing headshots of matched players are replaced.
+     * 
+     * @param file the zip file
+     * @return 200 OK with the outcome of every entry
+     * @throws ValidationException if the file is missing, not a zip or unreadable (returns 400)
+     */
+    @PostMapping("/headshots/import")
+    public ResponseEntity<HeadshotImportResult> importHeadshots(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new ValidationException("File cannot be empty");
+        }
+        String originalFilename = file.getOriginalFilename();
+        String contentType = file.getContentType();
+        boolean zip = (originalFilename != null && originalFilename.toLowerCase().endsWith(".zip"))
+                || (contentType != null && contentType.contains("zip"));
+        if (!zip) {
+            throw new ValidationException("File must be a zip");
+        }
+        
+        try (var in = file.getInputStream()) {
+            HeadshotImportResult result = headshotImportService.importZip(in);
+            logger.info("Headshot import: {} imported, {} failed, {} skipped",
+                    result.imported(), result.failed(), result.skipped());
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            logger.error("Headshot import failed", e);
+            throw new ValidationException("Failed to read zip: " + e.getMessage());
+        }
+    }
+    
     /**
      * Get all players (verified and pending).
      * GET /api/players
@@ -157,7 +234,7 @@ public class PlayerController {
         List<PlayerResponse> response = players.stream()
             .map(PlayerResponse::new)
             .collect(Collectors.toList());
-        System.out.println("[PlayerController] Returning " + response.size() + " players");
+        logger.debug("Returning {} players", response.size());
         return ResponseEntity.ok(response);
     }
     
@@ -165,60 +242,139 @@ public class PlayerController {
      * Get player headshot image by player ID.
      * GET /api/players/manage/{id}/headshot
      * 
-     * Cached to reduce S3 egress costs. Cache is evicted when a new headshot is uploaded.
-     * Only caches non-null results (when headshot exists).
+     * The ETag is derived from the image's content hash stored on the player's asset, so a
+     * matching If-None-Match header gets a 304 without touching the headshot cache or S3.
+     * Requests whose v parameter is the current version from /headshots/available are cached
+     * as immutable, since a new image always has a new version.
+     * 
+     * Small images are served from a byte-bounded in-memory cache; larger ones are streamed
+     * from the local disk cache or S3 with a bounded buffer. The response carries the image's
+     * real Content-Type and its Content-Length. Disk and S3 reads run asynchronously, so the
+     * request thread is released while they are in progress; if S3 is saturated the response
+     * is 503 with Retry-After.
+     * 
+     * With a size, a JPEG rendition that fits in a size x size box is served instead of the original.
      * 
      * @param id the player ID
-     * @return The image file or 404 if not found
+     * @param size optional rendition size, one of HeadshotService.RENDITION_SIZES
+     * @param v optional headshot version the client expects
+     * @param ifNoneMatch the ETag(s) the client already has
+     * @return The image file, 304 Not Modified, or 404 if not found
+     * @throws ValidationException if the size is not supported (returns 400)
      */
     @GetMapping("/{id}/headshot")
-    @Cacheable(value = "playerHeadshots", key = "#id", unless = "#result == null || #result.body == null")
-    public ResponseEntity<byte[]> getPlayerHeadshot(@PathVariable Long id) {
-        try {
-            Optional<PlayerAsset> asset = playerAssetRepository.findByPlayerId(id);
-            
-            if (asset.isEmpty()) {
-                System.out.println("[PlayerController] No headshot found for player ID: " + id);
-                return ResponseEntity.notFound().build();
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getPlayerHeadshot(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String v,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (size != null && !HeadshotService.RENDITION_SIZES.contains(size)) {
+            throw new ValidationException("size must be one of " + HeadshotService.RENDITION_SIZES);
+        }
+        Optional<PlayerAsset> asset = playerAssetRepository.findByPlayerId(id);
+        
+        if (asset.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        
+        int renditionSize = size != null ? size : 0;
+        String etag = HeadshotService.etag(asset.get(), renditionSize);
+        CacheControl cacheControl = HeadshotService.version(asset.get()).equals(v)
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.maxAge(7, TimeUnit.DAYS).cachePublic();
+        
+        if (ConditionalRequests.etagMatches(ifNoneMatch, etag)) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .<StreamingResponseBody>build());
+        }
+        
+        return headshotService.openHeadshotAsync(asset.get(), renditionSize)
+                .thenApply(content -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(content.contentType()))
+                        .contentLength(content.contentLength())
+                        .cacheControl(cacheControl)
+                        .eTag(etag)
+                        .body((StreamingResponseBody) content.body()::writeTo))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof StorageUnavailableException) {
+                        logger.warn("Storage busy, headshot for player ID {} not served", id);
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .build();
+                    }
+                    logger.warn("Error fetching headshot for player ID {}: {}", id, cause.getMessage());
+                    return ResponseEntity.notFound().build();
+                });
+    }
+    
+    /**
+     * Get the in-memory headshot cache counters.
+     * GET /api/players/manage/headshots/cache
+     * 
+     * @return entry count, size in bytes, hit, miss and eviction counts
+     */
+    @GetMapping("/headshots/cache")
+    public ResponseEntity<HeadshotCacheStats> getHeadshotCacheStats() {
+        return ResponseEntity.ok(headshotService.getCacheStats());
+    }
+    
+    /**
+     * Get every player's headshot rendition in one response.
+     * GET /api/players/manage/headshots/bundle?size=64
+     * 
+     * The body is a length-prefixed binary bundle, described on HeadshotBundle, so a board page
+     * can load all of its images with one request instead of one per player. It carries a strong
+     * ETag that changes whenever a headshot is added, replaced or removed; a matching If-None-Match
+     * header gets a 304. The body is streamed from the disk tier, and a bundle that is not built
+     * yet is built without holding the request thread.
+     * 
+     * @param size rendition size, one of HeadshotService.RENDITION_SIZES
+     * @param ifNoneMatch the ETag(s) the client already has
+     * @return 200 OK with the bundle, or 304 Not Modified
+     * @throws ValidationException if the size is not supported (returns 400)
+     */
+    @GetMapping("/headshots/bundle")
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getHeadshotBundle(
+            @RequestParam(defaultValue = "64") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return headshotService.getBundle(size).thenApply(bundle -> {
+            if (ConditionalRequests.etagMatches(ifNoneMatch, bundle.etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(bundle.etag())
+                        .cacheControl(CacheControl.noCache())
+                        .<StreamingResponseBody>build();
             }
             
-            String filename = asset.get().getFilename();
-            String fullKey = "players/headshots/" + filename;
-            System.out.println("[PlayerController] Fetching headshot for player ID " + id + " - filename: " + filename);
-            
-            // Read from S3
-            InputStream imageStream = assetService.readImage(fullKey);
-            byte[] imageBytes = imageStream.readAllBytes();
-            imageStream.close();
-            
-            System.out.println("[PlayerController] Returning " + imageBytes.length + " bytes for player ID: " + id);
-            
+            HeadshotContent content = bundle.content();
+            logger.debug("Returning {}px headshot bundle of {} bytes", size, content.contentLength());
             return ResponseEntity.ok()
-                    .contentType(org.springframework.http.MediaType.IMAGE_JPEG)
-                    .cacheControl(org.springframework.http.CacheControl.maxAge(7, java.util.concurrent.TimeUnit.DAYS)
-                            .cachePublic())
-                    .eTag(filename) // Use filename as ETag for cache validation
-                    .body(imageBytes);
-        } catch (Exception e) {
-            System.err.println("[PlayerController] Error fetching headshot for player ID " + id + ": " + e.getMessage());
-            return ResponseEntity.notFound().build();
-        }
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(content.contentLength())
+                    .eTag(bundle.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .body((StreamingResponseBody) content.body()::writeTo);
+        });
     }
     
     /**
-     * Get list of player IDs that have headshots.
+     * Get the players that have headshots, with the version of each headshot.
      * GET /api/players/manage/headshots/available
      * 
-     * @return List of player IDs with headshots
+     * Clients can put the version in the image URL as ?v= to cache it without revalidation.
+     * 
+     * @return List of player IDs with headshot versions
      */
     @GetMapping("/headshots/available")
-    public ResponseEntity<List<Long>> getPlayersWithHeadshots() {
+    public ResponseEntity<List<HeadshotVersion>> getPlayersWithHeadshots() {
         List<PlayerAsset> assets = playerAssetRepository.findAll();
-        List<Long> playerIds = assets.stream()
-                .map(PlayerAsset::getPlayerId)
+        List<HeadshotVersion> headshots = assets.stream()
+                .map(asset -> new HeadshotVersion(asset.getPlayerId(), HeadshotService.version(asset)))
                 .collect(Collectors.toList());
-        System.out.println("[PlayerController] " + playerIds.size() + " players have headshots");
-        return ResponseEntity.ok(playerIds);
+        logger.debug("{} players have headshots", headshots.size());
+        return ResponseEntity.ok(headshots);
     }
     
     /**
@@ -272,7 +428,6 @@ public class PlayerController {
      * @throws PlayerNotFoundException if the player does not exist (returns 404)
      */
     @DeleteMapping("/{id}")
-    @CacheEvict(value = "playerHeadshots", key = "#id")
     public ResponseEntity<Void> deletePlayer(
             @PathVariable Long id,
             @RequestParam String code) {
@@ -282,6 +437,7 @@ public class PlayerController {
             }
             
             playerService.deletePlayer(id);
+            headshotService.evict(id);
             return ResponseEntity.noContent().build();
         } catch (UnauthorizedException | PlayerNotFoundException e) {
             throw e; // Will be handled by global exception handler
@@ -1,85 +1,78 @@
 package devybigboard.controllers;
 
-import devybigboard.dao.PlayerAssetRepository;
-import devybigboard.models.PlayerAsset;
-import devybigboard.services.AssetService;
+import devybigboard.models.HeadshotPurgeStatus;
+import devybigboard.models.HeadshotReconciliationReport;
+import devybigboard.services.HeadshotPurgeService;
+import devybigboard.services.HeadshotReconciliationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.net.URI;
 
 @RestController
 @RequestMapping("/S3-delete")
 public class S3MaintenanceController {
     
-    private final AssetService assetService;
-    private final PlayerAssetRepository playerAssetRepository;
+    private static final Logger logger = LoggerFactory.getLogger(S3MaintenanceController.class);
     
-    public S3MaintenanceController(AssetService assetService, PlayerAssetRepository playerAssetRepository) {
-        this.assetService = assetService;
-        this.playerAssetRepository = playerAssetRepository;
+    private final HeadshotPurgeService headshotPurgeService;
+    private final HeadshotReconciliationService headshotReconciliationService;
+    
+    public S3MaintenanceController(HeadshotPurgeService headshotPurgeService,
+                                   HeadshotReconciliationService headshotReconciliationService) {
+        this.headshotPurgeService = headshotPurgeService;
+        this.headshotReconciliationService = headshotReconciliationService;
     }
     
     /**
-     * Delete all player headshots from S3 and database.
+     * Start deleting all player headshots from S3 and database.
      * DELETE /S3-delete
      * 
      * WARNING: This will permanently delete all player headshot images!
      * 
-     * @return Summary of deletion operation
+     * The deletion runs in the background with batched, parallel S3 requests;
+     * poll GET /S3-delete/status for progress. If a deletion is already running,
+     * its status is returned instead of starting another.
+     * 
+     * @return 202 Accepted with the job status
      */
     @DeleteMapping
-    public ResponseEntity<Map<String, Object>> deleteAllAssets() {
-        System.out.println("[S3Maintenance] Starting deletion of all assets...");
-        
-        Map<String, Object> result = new HashMap<>();
-        int deletedFromS3 = 0;
-        int failedS3Deletions = 0;
-        
-        try {
-            // Get all assets from database
-            List<PlayerAsset> assets = playerAssetRepository.findAll();
-            int totalAssets = assets.size();
-            
-            System.out.println("[S3Maintenance] Found " + totalAssets + " assets in database");
-            
-            // Delete each file from S3
-            for (PlayerAsset asset : assets) {
-                try {
-                    String fullKey = "players/headshots/" + asset.getFilename();
-                    System.out.println("[S3Maintenance] Deleting from S3: " + fullKey);
-                    assetService.deleteImage(fullKey);
-                    deletedFromS3++;
-                } catch (Exception e) {
-                    System.err.println("[S3Maintenance] Failed to delete from S3: " + asset.getFilename() + " - " + e.getMessage());
-                    failedS3Deletions++;
-                }
-            }
-            
-            // Delete all records from database
-            playerAssetRepository.deleteAll();
-            System.out.println("[S3Maintenance] Deleted all records from database");
-            
-            result.put("success", true);
-            result.put("totalAssets", totalAssets);
-            result.put("deletedFromS3", deletedFromS3);
-            result.put("failedS3Deletions", failedS3Deletions);
-            result.put("deletedFromDatabase", totalAssets);
-            result.put("message", "All assets have been deleted");
-            
-            System.out.println("[S3Maintenance] Deletion complete: " + deletedFromS3 + " deleted, " + failedS3Deletions + " failed");
-            
-            return ResponseEntity.ok(result);
-            
-        } catch (Exception e) {
-            System.err.println("[S3Maintenance] Error during deletion: " + e.getMessage());
-            result.put("success", false);
-            result.put("error", e.getMessage());
-            result.put("deletedFromS3", deletedFromS3);
-            result.put("failedS3Deletions", failedS3Deletions);
-            return ResponseEntity.status(500).body(result);
-        }
+    public ResponseEntity<HeadshotPurgeStatus> deleteAllAssets() {
+        HeadshotPurgeStatus status = headshotPurgeService.startPurge();
+        logger.info("Deletion job {} is {}", status.jobId(), status.state());
+        return ResponseEntity.accepted()
+                .location(URI.create("/S3-delete/status"))
+                .body(status);
+    }
+    
+    /**
+     * Get the progress of the most recent deletion.
+     * GET /S3-delete/status
+     * 
+     * @return 200 OK with the job status, or 404 if no deletion has run since startup
+     */
+    @GetMapping("/status")
+    public ResponseEntity<HeadshotPurgeStatus> getDeletionStatus() {
+        return headshotPurgeService.getStatus()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+    
+    /**
+     * Delete headshot objects in S3 that no player asset refers to.
+     * POST /S3-delete/reconcile
+     * 
+     * Runs the same pass as the nightly reconciliation and waits for it to finish.
+     * 
+     * @return 200 OK with the report, or 409 Conflict if a reconciliation is already running
+     */
+    @PostMapping("/reconcile")
+    public ResponseEntity<HeadshotReconciliationReport> reconcileHeadshots() {
+        return headshotReconciliationService.reconcile()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
     }
 }
@@ -1,17 +1,24 @@
 package devybigboard.dao;
 
 import devybigboard.models.CompletedDraftResponse;
+import devybigboard.models.DraftStateView;
 import devybigboard.models.LeagueFilter;
+import devybigboard.models.ParticipantInfo;
+import devybigboard.models.PickMessage;
 import devybigboard.models.PlayerWithAdp;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public class DraftDao {
@@ -81,12 +88,13 @@ public class DraftDao {
     private final RowMapper<LeagueFilter> leagueFilterMapper = (rs, rowNum) -> new LeagueFilter(
             rs.getLong("id"),
             rs.getString("league_name"),
+            rs.getLong("version"),
             rs.getTimestamp("created_at").toInstant()
     );
 
     public List<LeagueFilter> getAllLeagueFilters() {
         String sql = """
-        SELECT id, league_name, created_at
+        SELECT id, league_name, version, created_at
         FROM filters
         ORDER BY created_at DESC
     """;
@@ -105,8 +113,8 @@ public class DraftDao {
     public long createFilter(String leagueName) {
         KeyHolder keyHolder = new GeneratedKeyHolder();
         String sql = """
-            INSERT INTO filters (league_name)
-            VALUES (:leagueName)
+            INSERT INTO filters (league_name, version, created_at)
+            VALUES (:leagueName, 0, CURRENT_TIMESTAMP)
         """;
 
         MapSqlParameterSource params = new MapSqlParameterSource().addValue("leagueName", leagueName);
@@ -114,39 +122,274 @@ public class DraftDao {
         return keyHolder.getKey().longValue();
     }
 
-    public void addPlayerToFilter(long filterId, String playerName, String playerPosition, String playerTeam) {
+    public void addPlayerToFilter(long filterId, long playerId) {
         String sql = """
-        INSERT INTO filter_players (filter_id, player_name, player_position, player_team)
-        VALUES (:filterId, :playerName, :playerPosition, :playerTeam)
+        INSERT INTO filter_players (filter_id, player_id)
+        VALUES (:filterId, :playerId)
+        ON DUPLICATE KEY UPDATE player_id = player_id
     """;
 
         var params = new MapSqlParameterSource()
                 .addValue("filterId", filterId)
-                .addValue("playerName", playerName)
-                .addValue("playerPosition", playerPosition)
-                .addValue("playerTeam", playerTeam);
+                .addValue("playerId", playerId);
 
         namedParameterJdbcTemplate.update(sql, params);
     }
 
-    public void removePlayerFromFilter(long filterId, String playerName, String playerPosition, String playerTeam) {
+    public void removePlayerFromFilter(long filterId, long playerId) {
         String sql = """
         DELETE FROM filter_players
         WHERE filter_id = :filterId
-          AND player_name = :playerName
-          AND player_position = :playerPosition
-          AND player_team = :playerTeam
+          AND player_id = :playerId
     """;
 
         var params = new MapSqlParameterSource()
                 .addValue("filterId", filterId)
-                .addValue("playerName", playerName)
-                .addValue("playerPosition", playerPosition)
-                .addValue("playerTeam", playerTeam);
+                .addValue("playerId", playerId);
 
         namedParameterJdbcTemplate.update(sql, params);
     }
 
+    /**
+     * Add players to a league filter with a single JDBC batch. Players already in the filter are ignored.
+     */
+    public void addPlayersToFilter(long filterId, List<Long> playerIds) {
+        String sql = """
+        INSERT INTO filter_players (filter_id, player_id)
+        VALUES (:filterId, :playerId)
+        ON DUPLICATE KEY UPDATE player_id = player_id
+    """;
+
+        namedParameterJdbcTemplate.batchUpdate(sql, filterPlayerParams(filterId, playerIds));
+    }
+
+    /**
+     * Remove players from a league filter with a single JDBC batch. Players not in the filter are ignored.
+     */
+    public void removePlayersFromFilter(long filterId, List<Long> playerIds) {
+        String sql = """
+        DELETE FROM filter_players
+        WHERE filter_id = :filterId
+          AND player_id = :playerId
+    """;
+
+        namedParameterJdbcTemplate.batchUpdate(sql, filterPlayerParams(filterId, playerIds));
+    }
+
+    private SqlParameterSource[] filterPlayerParams(long filterId, List<Long> playerIds) {
+        return playerIds.stream()
+                .map(playerId -> new MapSqlParameterSource()
+                        .addValue("filterId", filterId)
+                        .addValue("playerId", playerId))
+                .toArray(SqlParameterSource[]::new);
+    }
+
+    /**
+     * Increment a league filter's version. Also locks the filter row until the transaction ends,
+     * so concurrent changes to the same filter are applied one after another.
+     *
+     * @return false if the filter does not exist
+     */
+    public boolean incrementFilterVersion(long filterId) {
+        String sql = "UPDATE filters SET version = version + 1 WHERE id = :filterId";
+
+        var params = new MapSqlParameterSource()
+                .addValue("filterId", filterId);
+
+        return namedParameterJdbcTemplate.update(sql, params) > 0;
+    }
+
+    public long getFilterVersion(long filterId) {
+        String sql = "SELECT version FROM filters WHERE id = :filterId";
+
+        var params = new MapSqlParameterSource()
+                .addValue("filterId", filterId);
+
+        return namedParameterJdbcTemplate.queryForObject(sql, params, Long.class);
+    }
+
+    public int countFilterPlayers(long filterId) {
+        String sql = "SELECT COUNT(*) FROM filter_players WHERE filter_id = :filterId";
+
+        var params = new MapSqlParameterSource()
+                .addValue("filterId", filterId);
+
+        return namedParameterJdbcTemplate.queryForObject(sql, params, Integer.class);
+    }
+
+    /**
+     * Get the IDs of every player in a league filter.
+     *
+     * @param filterId the filter to read
+     * @return the player IDs in ascending order; empty if the filter does not exist
+     */
+    public long[] getFilterPlayerIds(long filterId) {
+        String sql = """
+        SELECT player_id
+        FROM filter_players
+        WHERE filter_id = :filterId
+        ORDER BY player_id
+    """;
+
+        var params = new MapSqlParameterSource()
+                .addValue("filterId", filterId);
+
+        return namedParameterJdbcTemplate.queryForList(sql, params, Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+
+    public void insertLivePick(long draftId, long playerId, int pickNumber, String position,
+                               String forcedBy, int roundNumber, LocalDateTime pickedAt) {
+        String sql = """
+        INSERT INTO draft_picks (draft_id, player_id, pick_number, position, forced_by, round_number, picked_at)
+        VALUES (:draftId, :playerId, :pickNumber, :position, :forcedBy, :roundNumber, :pickedAt)
+    """;
+
+        var params = new MapSqlParameterSource()
+                .addValue("draftId", draftId)
+                .addValue("playerId", playerId)
+                .addValue("pickNumber", pickNumber)
+                .addValue("position", position)
+                .addValue("forcedBy", forcedBy)
+                .addValue("roundNumber", roundNumber)
+                .addValue("pickedAt", pickedAt);
+
+        namedParameterJdbcTemplate.update(sql, params);
+    }
+
+    public void deleteLivePick(long draftId, int pickNumber) {
+        String sql = """
+        DELETE FROM draft_picks
+        WHERE draft_id = :draftId
+          AND pick_number = :pickNumber
+    """;
+
+        var params = new MapSqlParameterSource()
+                .addValue("draftId", draftId)
+                .addValue("pickNumber", pickNumber);
+
+        namedParameterJdbcTemplate.update(sql, params);
+    }
+
+    /**
+     * Write a live draft's progress if the row is still at the expected version, and bump the version.
+     *
+     * @return false if the draft was changed by another writer (or deleted) since that version
+     */
+    public boolean updateDraftProgress(long draftId, long expectedVersion, int currentPick, int currentRound,
+                                       String status, LocalDateTime completedAt) {
+        String sql = """
+        UPDATE drafts
+        SET current_pick = :currentPick,
+            current_round = :currentRound,
+            status = :status,
+            completed_at = :completedAt,
+            version = version + 1
+        WHERE id = :draftId AND version = :expectedVersion
+    """;
+
+        var params = new MapSqlParameterSource()
+                .addValue("draftId", draftId)
+                .addValue("expectedVersion", expectedVersion)
+                .addValue("currentPick", currentPick)
+                .addValue("currentRound", currentRound)
+                .addValue("status", status)
+                .addValue("completedAt", completedAt);
+
+        return namedParameterJdbcTemplate.update(sql, params) == 1;
+    }
+
+
+    private final RowMapper<PickMessage> pickMessageMapper = (rs, rowNum) -> new PickMessage(
+            rs.getLong("player_id"),
+            rs.getString("player_name"),
+            rs.getString("player_position"),
+            rs.getString("team"),
+            rs.getString("college"),
+            rs.getObject("round_number", Integer.class),
+            rs.getInt("pick_number"),
+            rs.getString("picked_by"),
+            rs.getString("forced_by"),
+            rs.getObject("picked_at", LocalDateTime.class)
+    );
+
+    /**
+     * Read a draft's state, participants and picks straight into message DTOs in two queries,
+     * without loading any JPA entities. Call inside a transaction for a consistent view.
+     *
+     * @param uuid the unique identifier of the draft
+     * @return the draft state, or empty if the draft does not exist
+     */
+    public Optional<DraftStateView> findDraftStateView(String uuid) {
+        String draftSql = """
+        SELECT d.id, d.uuid, d.draft_name, d.status, d.participant_count, d.total_rounds,
+               d.is_snake_draft, d.current_pick, d.current_round, d.started_at, d.completed_at, d.version,
+               p.position, p.nickname, p.is_ready, p.is_verified, p.joined_at
+        FROM drafts d
+        LEFT JOIN draft_participants p ON p.draft_id = d.id
+        WHERE d.uuid = :uuid
+        ORDER BY p.position
+    """;
+
+        var params = new MapSqlParameterSource()
+                .addValue("uuid", uuid);
+
+        DraftStateView draft = namedParameterJdbcTemplate.query(draftSql, params, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            long draftId = rs.getLong("id");
+            String draftUuid = rs.getString("uuid");
+            String draftName = rs.getString("draft_name");
+            String status = rs.getString("status");
+            int participantCount = rs.getInt("participant_count");
+            int totalRounds = rs.getInt("total_rounds");
+            boolean snakeDraft = rs.getBoolean("is_snake_draft");
+            int currentPick = rs.getInt("current_pick");
+            int currentRound = rs.getInt("current_round");
+            LocalDateTime startedAt = rs.getObject("started_at", LocalDateTime.class);
+            LocalDateTime completedAt = rs.getObject("completed_at", LocalDateTime.class);
+            long version = rs.getLong("version");
+
+            List<ParticipantInfo> participants = new ArrayList<>(participantCount);
+            do {
+                String position = rs.getString("position");
+                if (position != null) {
+                    participants.add(new ParticipantInfo(
+                            position,
+                            rs.getString("nickname"),
+                            rs.getBoolean("is_ready"),
+                            rs.getBoolean("is_verified"),
+                            rs.getObject("joined_at", LocalDateTime.class)));
+                }
+            } while (rs.next());
+
+            return new DraftStateView(draftId, draftUuid, draftName, status, participantCount, totalRounds,
+                    snakeDraft, currentPick, currentRound, startedAt, completedAt, version,
+                    participants, List.of());
+        });
+        if (draft == null) {
+            return Optional.empty();
+        }
+
+        String picksSql = """
+        SELECT dp.player_id, pl.name AS player_name, pl.position AS player_position, pl.team, pl.college,
+               dp.round_number, dp.pick_number, dp.position AS picked_by, dp.forced_by, dp.picked_at
+        FROM draft_picks dp
+        JOIN players pl ON pl.id = dp.player_id
+        WHERE dp.draft_id = :draftId
+        ORDER BY dp.pick_number
+    """;
+
+        var pickParams = new MapSqlParameterSource()
+                .addValue("draftId", draft.draftId());
+
+        return Optional.of(draft.withPicks(
+                namedParameterJdbcTemplate.query(picksSql, pickParams, pickMessageMapper)));
+    }
+
 
     public void deleteFilter(long filterId) {
         String sql = "DELETE FROM filters WHERE id = :filterId";
@@ -21,6 +21,39 @@ public interface DraftRepository extends JpaRepository<Draft, Long> {
      */
     Optional<Draft> findByUuid(String uuid);
     
+    /**
+     * Find a draft by its UUID with its picks and each pick's player fetched in the same query.
+     * 
+     * @param uuid The unique identifier of the draft
+     * @return Optional containing the draft if found
+     */
+    @Query("SELECT d FROM Draft d LEFT JOIN FETCH d.picks p LEFT JOIN FETCH p.player WHERE d.uuid = :uuid")
+    Optional<Draft> findWithPicksByUuid(@Param("uuid") String uuid);
+    
+    /**
+     * Find a draft by its UUID with its participants fetched in the same query.
+     * 
+     * @param uuid The unique identifier of the draft
+     * @return Optional containing the draft if found
+     */
+    @Query("SELECT d FROM Draft d LEFT JOIN FETCH d.participants WHERE d.uuid = :uuid")
+    Optional<Draft> findWithParticipantsByUuid(@Param("uuid") String uuid);
+    
+    /**
+     * Load a draft with its picks, their players and its participants in two queries,
+     * regardless of the number of picks. The two lists cannot be fetched in one query,
+     * so the second query fills in the participants of the instance returned by the first.
+     * Must be called inside a transaction so both queries share a persistence context.
+     * 
+     * @param uuid The unique identifier of the draft
+     * @return Optional containing the fully loaded draft if found
+     */
+    default Optional<Draft> findAggregateByUuid(String uuid) {
+        Optional<Draft> draft = findWithPicksByUuid(uuid);
+        draft.ifPresent(found -> findWithParticipantsByUuid(uuid));
+        return draft;
+    }
+    
     /**
      * Find the top N most recent drafts ordered by creation date descending.
      * 
@@ -0,0 +1,233 @@
+package devybigboard.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Maintains the player_adp aggregate (sum, count, min and max pick per player over completed drafts)
+ * so ADP reads do not have to scan draft_picks.
+ *
+ * Alongside it, player_adp_segments keeps the same sums per completion date, draft type and league size,
+ * so windowed and segmented ADP can be computed from a small number of pre-aggregated rows.
+ */
+@Repository
+public class PlayerAdpDao {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /** Segment key of a draft; the same expressions are used by every statement so rows always line up. */
+    private static final String SEGMENT_DATE = "CAST(COALESCE(d.completed_at, d.created_at) AS DATE)";
+    private static final String SEGMENT_SNAKE = "COALESCE(d.is_snake_draft, FALSE)";
+    private static final String SEGMENT_PARTICIPANTS = "GREATEST(COALESCE(d.participant_count, 1), 1)";
+
+    private static final String SEGMENT_INSERT = """
+        INSERT INTO player_adp_segments (draft_date, is_snake_draft, participant_count, player_id,
+                                         pick_sum, pick_count, min_pick, max_pick, round_value_sum)
+        SELECT %1$s, %2$s, %3$s, dp.player_id,
+               SUM(dp.pick_number), COUNT(*), MIN(dp.pick_number), MAX(dp.pick_number),
+               SUM((dp.pick_number - 1) * 1.0 / %3$s + 1)
+        FROM draft_picks dp
+        JOIN drafts d ON d.id = dp.draft_id
+        """.formatted(SEGMENT_DATE, SEGMENT_SNAKE, SEGMENT_PARTICIPANTS);
+
+    public PlayerAdpDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Add every pick of a completed draft to the aggregate.
+     * Must be called exactly once per completion, after all of the draft's picks are written.
+     */
+    public void addDraft(long draftId) {
+        String sql = """
+        INSERT INTO player_adp (player_id, pick_sum, pick_count, min_pick, max_pick)
+        SELECT dp.player_id, SUM(dp.pick_number), COUNT(*), MIN(dp.pick_number), MAX(dp.pick_number)
+        FROM draft_picks dp
+        WHERE dp.draft_id = :draftId
+        GROUP BY dp.player_id
+        ON DUPLICATE KEY UPDATE
+            pick_sum = pick_sum + VALUES(pick_sum),
+            pick_count = pick_count + VALUES(pick_count),
+            min_pick = LEAST(min_pick, VALUES(min_pick)),
+            max_pick = GREATEST(max_pick, VALUES(max_pick))
+    """;
+
+        var params = new MapSqlParameterSource()
+                .addValue("draftId", draftId);
+
+        namedParameterJdbcTemplate.update(sql, params);
+
+        String segmentSql = SEGMENT_INSERT + """
+        WHERE dp.draft_id = :draftId
+        GROUP BY %s, %s, %s, dp.player_id
+        ON DUPLICATE KEY UPDATE
+            pick_sum = pick_sum + VALUES(pick_sum),
+            pick_count = pick_count + VALUES(pick_count),
+            min_pick = LEAST(min_pick, VALUES(min_pick)),
+            max_pick = GREATEST(max_pick, VALUES(max_pick)),
+            round_value_sum = round_value_sum + VALUES(round_value_sum)
+    """.formatted(SEGMENT_DATE, SEGMENT_SNAKE, SEGMENT_PARTICIPANTS);
+
+        namedParameterJdbcTemplate.update(segmentSql, params);
+    }
+
+    /**
+     * Remove every pick of a draft from the aggregate, e.g. when an undo re-opens a completed draft.
+     * Must be called while the draft's picks are still present. Sum and count are decremented;
+     * min and max are recomputed only for the players in this draft.
+     */
+    public void removeDraft(long draftId) {
+        String subtractSql = """
+        UPDATE player_adp pa
+        SET pick_sum = pick_sum - (
+                SELECT SUM(dp.pick_number) FROM draft_picks dp
+                WHERE dp.draft_id = :draftId AND dp.player_id = pa.player_id
+            ),
+            pick_count = pick_count - (
+                SELECT COUNT(*) FROM draft_picks dp
+                WHERE dp.draft_id = :draftId AND dp.player_id = pa.player_id
+            )
+        WHERE pa.player_id IN (SELECT player_id FROM draft_picks WHERE draft_id = :draftId)
+    """;
+
+        String deleteEmptySql = """
+        DELETE FROM player_adp
+        WHERE pick_count <= 0
+          AND player_id IN (SELECT player_id FROM draft_picks WHERE draft_id = :draftId)
+    """;
+
+        String rangeSql = """
+        UPDATE player_adp pa
+        SET min_pick = COALESCE((
+                SELECT MIN(dp.pick_number) FROM draft_picks dp
+                JOIN drafts d ON d.id = dp.draft_id
+                WHERE dp.player_id = pa.player_id AND d.id <> :draftId AND UPPER(d.status) = 'COMPLETED'
+            ), min_pick),
+            max_pick = COALESCE((
+                SELECT MAX(dp.pick_number) FROM draft_picks dp
+                JOIN drafts d ON d.id = dp.draft_id
+                WHERE dp.player_id = pa.player_id AND d.id <> :draftId AND UPPER(d.status) = 'COMPLETED'
+            ), max_pick)
+        WHERE pa.player_id IN (SELECT player_id FROM draft_picks WHERE draft_id = :draftId)
+    """;
+
+        var params = new MapSqlParameterSource()
+                .addValue("draftId", draftId);
+
+        namedParameterJdbcTemplate.update(subtractSql, params);
+        namedParameterJdbcTemplate.update(deleteEmptySql, params);
+        namedParameterJdbcTemplate.update(rangeSql, params);
+
+        removeDraftFromSegment(draftId);
+    }
+
+    /**
+     * Remove a draft's picks from its player_adp_segments rows.
+     * The draft's segment key is read first so every statement touches only that date, type and size.
+     */
+    private void removeDraftFromSegment(long draftId) {
+        String keySql = """
+        SELECT %s AS draft_date, %s AS is_snake_draft, %s AS participant_count
+        FROM drafts d
+        WHERE d.id = :draftId
+    """.formatted(SEGMENT_DATE, SEGMENT_SNAKE, SEGMENT_PARTICIPANTS);
+
+        var params = new MapSqlParameterSource()
+                .addValue("draftId", draftId);
+
+        var keys = namedParameterJdbcTemplate.query(keySql, params, (rs, rowNum) -> new MapSqlParameterSource()
+                .addValue("draftId", draftId)
+                .addValue("draftDate", rs.getObject("draft_date", LocalDate.class))
+                .addValue("snake", rs.getBoolean("is_snake_draft"))
+                .addValue("participants", rs.getInt("participant_count")));
+        if (keys.isEmpty()) {
+            return;
+        }
+        var keyParams = keys.get(0);
+
+        String segmentKey = """
+        s.draft_date = :draftDate AND s.is_snake_draft = :snake AND s.participant_count = :participants
+          AND s.player_id IN (SELECT player_id FROM draft_picks WHERE draft_id = :draftId)
+    """;
+
+        String subtractSql = """
+        UPDATE player_adp_segments s
+        SET pick_sum = pick_sum - (
+                SELECT SUM(dp.pick_number) FROM draft_picks dp
+                WHERE dp.draft_id = :draftId AND dp.player_id = s.player_id
+            ),
+            pick_count = pick_count - (
+                SELECT COUNT(*) FROM draft_picks dp
+                WHERE dp.draft_id = :draftId AND dp.player_id = s.player_id
+            ),
+            round_value_sum = round_value_sum - (
+                SELECT SUM((dp.pick_number - 1) * 1.0 / :participants + 1) FROM draft_picks dp
+                WHERE dp.draft_id = :draftId AND dp.player_id = s.player_id
+            )
+        WHERE
+    """ + segmentKey;
+
+        String deleteEmptySql = """
+        DELETE FROM player_adp_segments s
+        WHERE s.pick_count <= 0 AND
+    """ + segmentKey;
+
+        String otherDrafts = """
+                JOIN drafts d ON d.id = dp.draft_id
+                WHERE dp.player_id = s.player_id AND d.id <> :draftId AND UPPER(d.status) = 'COMPLETED'
+                  AND %s = s.draft_date AND %s = s.is_snake_draft AND %s = s.participant_count
+        """.formatted(SEGMENT_DATE, SEGMENT_SNAKE, SEGMENT_PARTICIPANTS);
+
+        String rangeSql = """
+        UPDATE player_adp_segments s
+        SET min_pick = COALESCE((
+                SELECT MIN(dp.pick_number) FROM draft_picks dp
+        """ + otherDrafts + """
+            ), min_pick),
+            max_pick = COALESCE((
+                SELECT MAX(dp.pick_number) FROM draft_picks dp
+        """ + otherDrafts + """
+            ), max_pick)
+        WHERE
+    """ + segmentKey;
+
+        namedParameterJdbcTemplate.update(subtractSql, keyParams);
+        namedParameterJdbcTemplate.update(deleteEmptySql, keyParams);
+        namedParameterJdbcTemplate.update(rangeSql, keyParams);
+    }
+
+    /**
+     * Rebuild the whole aggregate, and the segment table, from draft_picks of completed drafts.
+     * Intended for backfills and repairs; normal updates go through addDraft/removeDraft.
+     *
+     * @return the number of players with an ADP after the rebuild
+     */
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM player_adp");
+
+        String sql = """
+        INSERT INTO player_adp (player_id, pick_sum, pick_count, min_pick, max_pick)
+        SELECT dp.player_id, SUM(dp.pick_number), COUNT(*), MIN(dp.pick_number), MAX(dp.pick_number)
+        FROM draft_picks dp
+        JOIN drafts d ON d.id = dp.draft_id
+        WHERE UPPER(d.status) = 'COMPLETED'
+        GROUP BY dp.player_id
+    """;
+
+        int players = jdbcTemplate.update(sql);
+
+        jdbcTemplate.update("DELETE FROM player_adp_segments");
+        jdbcTemplate.update(SEGMENT_INSERT + """
+        WHERE UPPER(d.status) = 'COMPLETED'
+        GROUP BY %s, %s, %s, dp.player_id
+    """.formatted(SEGMENT_DATE, SEGMENT_SNAKE, SEGMENT_PARTICIPANTS));
+
+        return players;
+    }
+}
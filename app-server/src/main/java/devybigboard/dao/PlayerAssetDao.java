@@ -0,0 +1,82 @@
+package devybigboard.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk reads and writes of player_assets for imports; single-asset changes go through PlayerAssetRepository.
+ */
+@Repository
+public class PlayerAssetDao {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public PlayerAssetDao(JdbcTemplate jdbcTemplate) {
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Get the current filenames of the given players' assets and lock their rows until the transaction ends,
+     * so the files they replace can be cleaned up after commit.
+     *
+     * @return filename by player ID, for players that have an asset
+     */
+    public Map<Long, String> lockFilenames(Collection<Long> playerIds) {
+        Map<Long, String> filenames = new HashMap<>();
+        if (playerIds.isEmpty()) {
+            return filenames;
+        }
+
+        String sql = """
+        SELECT player_id, filename
+        FROM player_assets
+        WHERE player_id IN (:playerIds)
+        FOR UPDATE
+    """;
+
+        var params = new MapSqlParameterSource()
+                .addValue("playerIds", playerIds);
+
+        namedParameterJdbcTemplate.query(sql, params, rs -> {
+            filenames.put(rs.getLong("player_id"), rs.getString("filename"));
+        });
+        return filenames;
+    }
+
+    /**
+     * Insert or replace player assets with a single JDBC batch.
+     */
+    public void upsertAssets(List<AssetRow> assets) {
+        String sql = """
+        INSERT INTO player_assets (player_id, filename, content_hash, created_at, updated_at)
+        VALUES (:playerId, :filename, :contentHash, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        ON DUPLICATE KEY UPDATE
+            filename = VALUES(filename),
+            content_hash = VALUES(content_hash),
+            updated_at = VALUES(updated_at)
+    """;
+
+        SqlParameterSource[] params = assets.stream()
+                .map(asset -> new MapSqlParameterSource()
+                        .addValue("playerId", asset.playerId())
+                        .addValue("filename", asset.filename())
+                        .addValue("contentHash", asset.contentHash()))
+                .toArray(SqlParameterSource[]::new);
+
+        namedParameterJdbcTemplate.batchUpdate(sql, params);
+    }
+
+    /**
+     * One row of an upsert.
+     */
+    public record AssetRow(long playerId, String filename, String contentHash) {
+    }
+}
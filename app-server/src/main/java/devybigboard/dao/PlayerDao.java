@@ -1,11 +1,15 @@
 package devybigboard.dao;
 
+import devybigboard.models.AdpSegment;
 import devybigboard.models.PlayerWithAdp;
+import devybigboard.models.SegmentedPlayerAdp;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,13 +24,9 @@ public class PlayerDao {
     public List<PlayerWithAdp> getAllPlayers() {
         String sql = """
         SELECT p.id, p.name, p.position, p.team, p.draftyear,
-               COALESCE((
-                   SELECT AVG(dp.pick_number)
-                   FROM draft_picks dp
-                   JOIN drafts d ON d.id = dp.draft_id
-                   WHERE dp.player_id = p.id
-               ), 999) AS adp
+               COALESCE(pa.pick_sum * 1.0 / pa.pick_count, 999) AS adp
         FROM players p
+        LEFT JOIN player_adp pa ON pa.player_id = p.id
         WHERE p.verified = true
         ORDER BY adp
     """;
@@ -44,45 +44,87 @@ public class PlayerDao {
         });
     }
 
-    public List<PlayerWithAdp> getPlayersExcludingFilter(long filterId) {
+    /**
+     * Get every verified player with ADP computed over one segment of completed drafts.
+     * Reads the pre-aggregated player_adp_segments rows, so the cost depends on the window length
+     * and number of league shapes, not on the number of picks.
+     *
+     * @param segment the draft type, league size and window to include
+     * @param since the first completion date to include, or null for all time
+     * @return players ordered by segment ADP; players never picked in the segment have ADP 999
+     */
+    public List<SegmentedPlayerAdp> getPlayersForSegment(AdpSegment segment, LocalDate since) {
+        var params = new MapSqlParameterSource();
+        StringBuilder where = new StringBuilder("1 = 1");
+        if (since != null) {
+            where.append(" AND s.draft_date >= :since");
+            params.addValue("since", since);
+        }
+        if (segment.snakeDraft() != null) {
+            where.append(" AND s.is_snake_draft = :snake");
+            params.addValue("snake", segment.snakeDraft());
+        }
+        if (segment.minParticipants() != null) {
+            where.append(" AND s.participant_count BETWEEN :minParticipants AND :maxParticipants");
+            params.addValue("minParticipants", segment.minParticipants());
+            params.addValue("maxParticipants", segment.maxParticipants());
+        }
+
         String sql = """
         SELECT p.id, p.name, p.position, p.team, p.draftyear,
-               COALESCE((
-                   SELECT AVG(dp.pick_number)
-                   FROM draft_picks dp
-                   JOIN drafts d ON d.id = dp.draft_id
-                   WHERE dp.player_id = p.id
-               ), 999) AS adp
+               COALESCE(seg.pick_sum * 1.0 / seg.pick_count, 999) AS adp,
+               seg.round_value_sum / seg.pick_count AS round_adp,
+               COALESCE(seg.pick_count, 0) AS times_drafted,
+               seg.min_pick, seg.max_pick
         FROM players p
+        LEFT JOIN (
+            SELECT s.player_id, SUM(s.pick_sum) AS pick_sum, SUM(s.pick_count) AS pick_count,
+                   MIN(s.min_pick) AS min_pick, MAX(s.max_pick) AS max_pick,
+                   SUM(s.round_value_sum) AS round_value_sum
+            FROM player_adp_segments s
+            WHERE %s
+            GROUP BY s.player_id
+        ) seg ON seg.player_id = p.id
         WHERE p.verified = true
-          AND NOT EXISTS (
-            SELECT 1
-            FROM filter_players fp
-            WHERE fp.filter_id = :filterId
-              AND fp.player_name = p.name
-              AND fp.player_position = p.position
-              AND fp.player_team = p.team
-        )
         ORDER BY adp
-    """;
-
-        var params = new MapSqlParameterSource()
-                .addValue("filterId", filterId);
+    """.formatted(where);
 
         return new NamedParameterJdbcTemplate(jdbcTemplate)
                 .query(sql, params, (rs, rowNum) -> {
                     Integer draftyear = rs.getObject("draftyear", Integer.class);
-                    return new PlayerWithAdp(
+                    Double roundAdp = rs.getObject("round_adp") != null ? rs.getDouble("round_adp") : null;
+                    return new SegmentedPlayerAdp(
                         rs.getLong("id"),
                         rs.getString("name"),
                         rs.getString("position"),
                         rs.getString("team"),
                         draftyear != null ? draftyear : 0,
-                        rs.getDouble("adp")
+                        rs.getDouble("adp"),
+                        roundAdp,
+                        rs.getInt("times_drafted"),
+                        rs.getObject("min_pick", Integer.class),
+                        rs.getObject("max_pick", Integer.class)
                     );
                 });
     }
 
+    /**
+     * Count how many of the given player IDs exist.
+     *
+     * @param playerIds distinct player IDs
+     * @return the number of IDs with a player row
+     */
+    public int countExistingPlayers(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
 
+        String sql = "SELECT COUNT(*) FROM players WHERE id IN (:playerIds)";
+
+        var params = new MapSqlParameterSource()
+                .addValue("playerIds", playerIds);
+
+        return new NamedParameterJdbcTemplate(jdbcTemplate).queryForObject(sql, params, Integer.class);
+    }
 
 }
\ No newline at end of file
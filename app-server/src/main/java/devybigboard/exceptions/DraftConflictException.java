@@ -0,0 +1,12 @@
+package devybigboard.exceptions;
+
+/**
+ * Exception thrown when a draft was changed by another request while a command was being applied,
+ * and the command could not be retried against the new state.
+ */
+public class DraftConflictException extends RuntimeException {
+    
+    public DraftConflictException(String uuid, Throwable cause) {
+        super("Draft " + uuid + " was changed by another request; reload the draft and try again", cause);
+    }
+}
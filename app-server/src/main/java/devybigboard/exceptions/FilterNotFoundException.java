@@ -0,0 +1,11 @@
+package devybigboard.exceptions;
+
+/**
+ * Exception thrown when a league filter is not found by ID.
+ */
+public class FilterNotFoundException extends RuntimeException {
+
+    public FilterNotFoundException(long filterId) {
+        super("Filter not found with id: " + filterId);
+    }
+}
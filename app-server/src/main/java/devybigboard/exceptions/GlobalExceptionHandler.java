@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -77,6 +78,46 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
     
+    /**
+     * Handle DraftConflictException - returns 409
+     */
+    @ExceptionHandler(DraftConflictException.class)
+    public ResponseEntity<ErrorResponse> handleDraftConflictException(
+            DraftConflictException ex, WebRequest request) {
+        logger.warn("Draft conflict: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "Conflict",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
+    /**
+     * Handle FilterNotFoundException - returns 404
+     */
+    @ExceptionHandler(FilterNotFoundException.class)
+    public Object handleFilterNotFoundException(
+            FilterNotFoundException ex, WebRequest request, HttpServletRequest httpRequest) {
+        logger.error("Filter not found: {}", ex.getMessage(), ex);
+        
+        if (isBrowserRequest(httpRequest)) {
+            return new ModelAndView("forward:/index.html");
+        }
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.NOT_FOUND.value(),
+            "Not Found",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+    
     /**
      * Handle UnauthorizedException - returns 403
      */
@@ -171,6 +212,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
     }
     
+    /**
+     * Handle StorageUnavailableException - returns 503 with Retry-After
+     */
+    @ExceptionHandler(StorageUnavailableException.class)
+    public Object handleStorageUnavailableException(
+            StorageUnavailableException ex, WebRequest request, HttpServletRequest httpRequest) {
+        logger.warn("Storage unavailable: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            "Image storage is busy. Please try again shortly.",
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(errorResponse);
+    }
+    
     /**
      * Handle all other exceptions - returns 500
      */
@@ -0,0 +1,12 @@
+package devybigboard.exceptions;
+
+/**
+ * Exception thrown when object storage cannot take another request right now,
+ * e.g. because the S3 concurrency limit stayed exhausted for the whole acquire timeout.
+ */
+public class StorageUnavailableException extends RuntimeException {
+
+    public StorageUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,97 @@
+package devybigboard.models;
+
+import devybigboard.exceptions.ValidationException;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Filter describing which completed drafts an ADP is computed over.
+ * Null components mean "no restriction".
+ *
+ * @param windowDays only drafts completed in the last N days
+ * @param snakeDraft only snake (true) or linear (false) drafts
+ * @param minParticipants smallest league size to include
+ * @param maxParticipants largest league size to include
+ */
+public record AdpSegment(Integer windowDays, Boolean snakeDraft, Integer minParticipants, Integer maxParticipants) {
+
+    public static final int MAX_WINDOW_DAYS = 3650;
+
+    private static final Pattern WINDOW = Pattern.compile("(\\d{1,4})d");
+    private static final Pattern TEAMS = Pattern.compile("(\\d{1,2})(?:-(\\d{1,2}))?");
+
+    /**
+     * Parse the query parameters of /api/players.
+     *
+     * @param window a window such as "30d", or "all"/null for all time
+     * @param snake "true" for snake drafts, "false" for linear drafts, or null for both
+     * @param teams a league size such as "12" or a range such as "10-12", or null for all sizes
+     * @return the segment
+     * @throws ValidationException if a parameter is malformed
+     */
+    public static AdpSegment parse(String window, String snake, String teams) {
+        Integer windowDays = null;
+        if (window != null && !window.isBlank() && !"all".equalsIgnoreCase(window)) {
+            Matcher matcher = WINDOW.matcher(window.trim().toLowerCase());
+            if (!matcher.matches()) {
+                throw new ValidationException("window must look like 30d or all");
+            }
+            windowDays = Integer.parseInt(matcher.group(1));
+            if (windowDays < 1 || windowDays > MAX_WINDOW_DAYS) {
+                throw new ValidationException("window must be between 1d and " + MAX_WINDOW_DAYS + "d");
+            }
+        }
+
+        Boolean snakeDraft = null;
+        if (snake != null && !snake.isBlank()) {
+            if (!"true".equalsIgnoreCase(snake) && !"false".equalsIgnoreCase(snake)) {
+                throw new ValidationException("snake must be true or false");
+            }
+            snakeDraft = Boolean.parseBoolean(snake);
+        }
+
+        Integer minParticipants = null;
+        Integer maxParticipants = null;
+        if (teams != null && !teams.isBlank()) {
+            Matcher matcher = TEAMS.matcher(teams.trim());
+            if (!matcher.matches()) {
+                throw new ValidationException("teams must look like 12 or 10-12");
+            }
+            minParticipants = Integer.parseInt(matcher.group(1));
+            maxParticipants = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : minParticipants;
+            if (minParticipants > maxParticipants) {
+                throw new ValidationException("teams range must be ascending");
+            }
+        }
+
+        return new AdpSegment(windowDays, snakeDraft, minParticipants, maxParticipants);
+    }
+
+    /**
+     * @return true if this segment covers every completed draft
+     */
+    public boolean isUnrestricted() {
+        return windowDays == null && snakeDraft == null && minParticipants == null;
+    }
+
+    /**
+     * Get the first draft date included in the window.
+     *
+     * @param today the current date
+     * @return the earliest included date, or null for all time
+     */
+    public LocalDate since(LocalDate today) {
+        return windowDays != null ? today.minusDays(windowDays - 1L) : null;
+    }
+
+    /**
+     * Stable key identifying this segment, used for caching and ETags.
+     */
+    public String key() {
+        return (windowDays != null ? windowDays + "d" : "all")
+            + "-" + (snakeDraft != null ? (snakeDraft ? "snake" : "linear") : "any")
+            + "-" + (minParticipants != null ? minParticipants + "to" + maxParticipants : "anysize");
+    }
+}
@@ -66,6 +66,14 @@ public class Draft {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
     
+    /**
+     * Optimistic lock version, incremented by every update of the draft row.
+     * Null until the draft is first saved.
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
     // Constructors
     public Draft() {
     }
@@ -152,6 +160,14 @@ public class Draft {
         this.completedAt = completedAt;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public String getCreatedBy() {
         return createdBy;
     }
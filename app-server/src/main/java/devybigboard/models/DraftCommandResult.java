@@ -0,0 +1,12 @@
+package devybigboard.models;
+
+import java.util.List;
+
+/**
+ * Outcome of a live draft command.
+ *
+ * @param events the events the command produced, in sequence order
+ * @param replayed true if this is a resent command whose events were already broadcast
+ */
+public record DraftCommandResult(List<DraftEventMessage> events, boolean replayed) {
+}
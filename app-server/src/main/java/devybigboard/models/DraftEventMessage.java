@@ -0,0 +1,173 @@
+package devybigboard.models;
+
+/**
+ * WebSocket message representing a single incremental change to an active draft.
+ * Broadcast on /topic/draft/{draftUuid} after picks, force-picks and undos instead of
+ * the full DraftStateMessage. Every event carries a per-draft sequence number that
+ * increases by exactly one; a client that sees a gap requests a fresh snapshot.
+ *
+ * Event types:
+ * - PICK_MADE: pick holds the pick that was added
+ * - PICK_UNDONE: pick holds the pick that was removed, player the returned pool entry (null if no longer verified),
+ *   and beforePlayerId the available player it goes in front of in ADP order (null for the end of the list)
+ * - TURN_CHANGED: status, currentRound, currentPick and currentTurnPosition hold the new turn
+ * - RESYNC: the server dropped its in-memory state because a change could not be saved;
+ *   events since the last snapshot may not have been kept, so clients must request a fresh snapshot.
+ *   Has no sequence; reason says why the state was dropped.
+ */
+public class DraftEventMessage {
+
+    public static final String PICK_MADE = "PICK_MADE";
+    public static final String PICK_UNDONE = "PICK_UNDONE";
+    public static final String TURN_CHANGED = "TURN_CHANGED";
+    public static final String RESYNC = "RESYNC";
+
+    /** RESYNC reason when a change could not be written to the database. */
+    public static final String WRITE_FAILED = "WRITE_FAILED";
+
+    /** RESYNC reason when another writer changed the draft first, so the change was not saved. */
+    public static final String DRAFT_CONFLICT = "DRAFT_CONFLICT";
+
+    private String type;
+    private String draftUuid;
+    private Long sequence;
+    private PickMessage pick;
+    private PlayerResponse player;
+    private Long beforePlayerId;
+    private String status;
+    private Integer currentRound;
+    private Integer currentPick;
+    private String currentTurnPosition;
+    private String reason;
+
+    // Constructors
+    public DraftEventMessage() {
+    }
+
+    public DraftEventMessage(String type, String draftUuid, Long sequence) {
+        this.type = type;
+        this.draftUuid = draftUuid;
+        this.sequence = sequence;
+    }
+
+    // Factory methods
+    public static DraftEventMessage pickMade(String draftUuid, long sequence, PickMessage pick) {
+        DraftEventMessage event = new DraftEventMessage(PICK_MADE, draftUuid, sequence);
+        event.setPick(pick);
+        return event;
+    }
+
+    public static DraftEventMessage pickUndone(String draftUuid, long sequence, PickMessage pick, PlayerResponse player,
+                                               Long beforePlayerId) {
+        DraftEventMessage event = new DraftEventMessage(PICK_UNDONE, draftUuid, sequence);
+        event.setPick(pick);
+        event.setPlayer(player);
+        event.setBeforePlayerId(beforePlayerId);
+        return event;
+    }
+
+    public static DraftEventMessage turnChanged(String draftUuid, long sequence, String status,
+                                                int currentRound, int currentPick, String currentTurnPosition) {
+        DraftEventMessage event = new DraftEventMessage(TURN_CHANGED, draftUuid, sequence);
+        event.setStatus(status);
+        event.setCurrentRound(currentRound);
+        event.setCurrentPick(currentPick);
+        event.setCurrentTurnPosition(currentTurnPosition);
+        return event;
+    }
+
+    public static DraftEventMessage resync(String draftUuid, String reason) {
+        DraftEventMessage event = new DraftEventMessage(RESYNC, draftUuid, null);
+        event.setReason(reason);
+        return event;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getDraftUuid() {
+        return draftUuid;
+    }
+
+    public void setDraftUuid(String draftUuid) {
+        this.draftUuid = draftUuid;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public PickMessage getPick() {
+        return pick;
+    }
+
+    public void setPick(PickMessage pick) {
+        this.pick = pick;
+    }
+
+    public PlayerResponse getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(PlayerResponse player) {
+        this.player = player;
+    }
+
+    public Long getBeforePlayerId() {
+        return beforePlayerId;
+    }
+
+    public void setBeforePlayerId(Long beforePlayerId) {
+        this.beforePlayerId = beforePlayerId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getCurrentRound() {
+        return currentRound;
+    }
+
+    public void setCurrentRound(Integer currentRound) {
+        this.currentRound = currentRound;
+    }
+
+    public Integer getCurrentPick() {
+        return currentPick;
+    }
+
+    public void setCurrentPick(Integer currentPick) {
+        this.currentPick = currentPick;
+    }
+
+    public String getCurrentTurnPosition() {
+        return currentTurnPosition;
+    }
+
+    public void setCurrentTurnPosition(String currentTurnPosition) {
+        this.currentTurnPosition = currentTurnPosition;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -4,7 +4,9 @@ import java.util.List;
 
 /**
  * WebSocket message representing the complete state of an active draft.
- * Sent to all participants when draft state changes (picks made, round changes).
+ * Sent when a draft starts and on request as a snapshot; incremental changes are sent
+ * as DraftEventMessage. The sequence is the last event sequence included in the snapshot,
+ * and playerPoolVersion the version of the verified player pool availablePlayers was built from.
  */
 public class DraftStateMessage {
     
@@ -19,6 +21,8 @@ public class DraftStateMessage {
     private List<ParticipantInfo> participants;
     private List<PickMessage> picks;
     private List<PlayerResponse> availablePlayers;
+    private Long sequence;
+    private Long playerPoolVersion;
     
     // Constructors
     public DraftStateMessage() {
@@ -130,4 +134,20 @@ public class DraftStateMessage {
     public void setAvailablePlayers(List<PlayerResponse> availablePlayers) {
         this.availablePlayers = availablePlayers;
     }
+    
+    public Long getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+    
+    public Long getPlayerPoolVersion() {
+        return playerPoolVersion;
+    }
+    
+    public void setPlayerPoolVersion(Long playerPoolVersion) {
+        this.playerPoolVersion = playerPoolVersion;
+    }
 }
@@ -0,0 +1,25 @@
+package devybigboard.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only view of a draft's persisted state, read with plain JDBC straight into the
+ * message DTOs. Used to build draft state snapshots and live draft engines without
+ * hydrating or dirty-checking Draft, DraftParticipant, DraftPick and Player entities.
+ *
+ * @param participants the participants in position order
+ * @param picks the picks in pick order
+ * @param version the version of the drafts row the view was read at
+ */
+public record DraftStateView(long draftId, String uuid, String draftName, String status,
+                             int participantCount, int totalRounds, boolean snakeDraft,
+                             int currentPick, int currentRound,
+                             LocalDateTime startedAt, LocalDateTime completedAt, long version,
+                             List<ParticipantInfo> participants, List<PickMessage> picks) {
+
+    public DraftStateView withPicks(List<PickMessage> picks) {
+        return new DraftStateView(draftId, uuid, draftName, status, participantCount, totalRounds, snakeDraft,
+            currentPick, currentRound, startedAt, completedAt, version, participants, picks);
+    }
+}
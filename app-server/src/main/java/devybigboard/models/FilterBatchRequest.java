@@ -0,0 +1,12 @@
+package devybigboard.models;
+
+import java.util.List;
+
+/**
+ * Request body for POST /api/filters/{id}/players:batch.
+ * Both lists are optional; a player may not appear in both.
+ *
+ * @param add IDs of players to add to the filter
+ * @param remove IDs of players to remove from the filter
+ */
+public record FilterBatchRequest(List<Long> add, List<Long> remove) {}
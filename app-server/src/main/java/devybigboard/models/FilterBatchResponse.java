@@ -0,0 +1,10 @@
+package devybigboard.models;
+
+/**
+ * Result of a batch change to a league filter.
+ *
+ * @param filterId the filter that was changed
+ * @param version the filter version after the change
+ * @param playerCount number of players in the filter after the change
+ */
+public record FilterBatchResponse(long filterId, long version, int playerCount) {}
@@ -0,0 +1,67 @@
+package devybigboard.models;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Entity mapping of the filter_players table: one player excluded by a league filter.
+ * Rows are keyed by player ID; read and written through DraftDao.
+ */
+@Entity
+@Table(name = "filter_players")
+@IdClass(FilterPlayer.Key.class)
+public class FilterPlayer {
+
+    @Id
+    @Column(name = "filter_id")
+    private Long filterId;
+
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "filter_id", insertable = false, updatable = false)
+    private LeagueFilterEntity filter;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", insertable = false, updatable = false)
+    private Player player;
+
+    public FilterPlayer() {
+    }
+
+    public Long getFilterId() {
+        return filterId;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Composite primary key: filter and player.
+     */
+    public static class Key implements Serializable {
+
+        private Long filterId;
+        private Long playerId;
+
+        public Key() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(filterId, key.filterId) && Objects.equals(playerId, key.playerId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filterId, playerId);
+        }
+    }
+}
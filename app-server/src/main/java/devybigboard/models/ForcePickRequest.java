@@ -3,6 +3,7 @@ package devybigboard.models;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 /**
  * WebSocket request to force a pick for another position during a draft.
@@ -23,6 +24,13 @@ public class ForcePickRequest {
     @Pattern(regexp = "^[A-Z]$", message = "Forcing position must be a single uppercase letter (A-Z)")
     private String forcingPosition;
     
+    /**
+     * Optional client-generated ID, reused when the client resends the same command.
+     * A resent command within the dedupe window is not applied or broadcast again.
+     */
+    @Size(max = 64, message = "Command ID must be at most 64 characters")
+    private String commandId;
+    
     // Constructors
     public ForcePickRequest() {
     }
@@ -66,4 +74,12 @@ public class ForcePickRequest {
     public void setForcingPosition(String forcingPosition) {
         this.forcingPosition = forcingPosition;
     }
+    
+    public String getCommandId() {
+        return commandId;
+    }
+    
+    public void setCommandId(String commandId) {
+        this.commandId = commandId;
+    }
 }
@@ -0,0 +1,17 @@
+package devybigboard.models;
+
+/**
+ * Immutable bundle of headshot renditions for every player with a headshot, tagged with a strong ETag
+ * derived from the PlayerAsset rows it was built from, so it changes whenever a headshot does
+ * and is the same on every instance and across restarts.
+ *
+ * The body is big-endian and length-prefixed:
+ * an int entry count, then per entry a long player ID, the content type as modified UTF-8
+ * (as written by DataOutputStream.writeUTF), an int byte length and the image bytes.
+ *
+ * @param etag the bundle ETag
+ * @param size the rendition size of every entry
+ * @param content the encoded bundle, streamed from the disk tier when it is enabled
+ */
+public record HeadshotBundle(String etag, int size, HeadshotContent content) {
+}
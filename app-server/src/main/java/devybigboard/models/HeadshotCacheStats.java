@@ -0,0 +1,15 @@
+package devybigboard.models;
+
+/**
+ * Snapshot of the in-memory headshot cache counters.
+ *
+ * @param entries number of cached headshots
+ * @param weightBytes approximate heap used by cached headshots
+ * @param maxBytes configured upper bound on weightBytes
+ * @param hitCount lookups served from memory
+ * @param missCount lookups that had to read from storage
+ * @param evictionCount headshots evicted for size or expiry
+ * @param hitRate hitCount / (hitCount + missCount), or 1.0 when there were no lookups
+ */
+public record HeadshotCacheStats(long entries, long weightBytes, long maxBytes,
+                                 long hitCount, long missCount, long evictionCount, double hitRate) {}
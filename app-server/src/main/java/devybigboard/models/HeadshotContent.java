@@ -0,0 +1,29 @@
+package devybigboard.models;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A headshot ready to be written to a response, from whichever tier holds it.
+ * The body is written once; it may hold an open file or S3 stream until then.
+ *
+ * @param filename the name of the file the image was read from
+ * @param contentType the image MIME type
+ * @param contentLength the image size in bytes
+ * @param body writes the image to the response
+ */
+public record HeadshotContent(String filename, String contentType, long contentLength, BodyWriter body) {
+
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Wrap an in-memory headshot.
+     */
+    public static HeadshotContent of(HeadshotImage image) {
+        return new HeadshotContent(image.filename(), image.contentType(), image.bytes().length,
+                out -> out.write(image.bytes()));
+    }
+}
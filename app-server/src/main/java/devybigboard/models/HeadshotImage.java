@@ -0,0 +1,18 @@
+package devybigboard.models;
+
+/**
+ * A player headshot held in memory.
+ *
+ * @param filename the name of the file the bytes were read from
+ * @param contentType the image MIME type
+ * @param bytes the image data; never modified after construction
+ */
+public record HeadshotImage(String filename, String contentType, byte[] bytes) {
+
+    /**
+     * Approximate heap cost of this image, used to bound the headshot cache by bytes.
+     */
+    public int weight() {
+        return bytes.length + (filename.length() + contentType.length()) * 2 + 64;
+    }
+}
@@ -0,0 +1,24 @@
+package devybigboard.models;
+
+/**
+ * Outcome of one zip entry in a bulk headshot import.
+ *
+ * @param entry the entry path inside the zip
+ * @param playerId the player the entry was matched to, or null if it was not matched
+ * @param status IMPORTED, FAILED or SKIPPED
+ * @param message why the entry failed or was skipped, or null
+ */
+public record HeadshotImportEntry(String entry, Long playerId, String status, String message) {
+
+    public static HeadshotImportEntry imported(String entry, long playerId) {
+        return new HeadshotImportEntry(entry, playerId, "IMPORTED", null);
+    }
+
+    public static HeadshotImportEntry failed(String entry, Long playerId, String message) {
+        return new HeadshotImportEntry(entry, playerId, "FAILED", message);
+    }
+
+    public static HeadshotImportEntry skipped(String entry, String message) {
+        return new HeadshotImportEntry(entry, null, "SKIPPED", message);
+    }
+}
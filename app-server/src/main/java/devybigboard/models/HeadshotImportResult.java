@@ -0,0 +1,23 @@
+package devybigboard.models;
+
+import java.util.List;
+
+/**
+ * Summary of a bulk headshot import with the outcome of every zip entry, in zip order.
+ */
+public record HeadshotImportResult(int imported, int failed, int skipped, List<HeadshotImportEntry> entries) {
+
+    public static HeadshotImportResult of(List<HeadshotImportEntry> entries) {
+        int imported = 0;
+        int failed = 0;
+        int skipped = 0;
+        for (HeadshotImportEntry entry : entries) {
+            switch (entry.status()) {
+                case "IMPORTED" -> imported++;
+                case "FAILED" -> failed++;
+                default -> skipped++;
+            }
+        }
+        return new HeadshotImportResult(imported, failed, skipped, List.copyOf(entries));
+    }
+}
@@ -0,0 +1,14 @@
+package devybigboard.models;
+
+/**
+ * Key of one headshot rendition in the in-memory cache.
+ *
+ * @param playerId the player ID
+ * @param size the rendition's bounding box in pixels, or 0 for the original upload
+ */
+public record HeadshotKey(long playerId, int size) {
+
+    public static HeadshotKey original(long playerId) {
+        return new HeadshotKey(playerId, 0);
+    }
+}
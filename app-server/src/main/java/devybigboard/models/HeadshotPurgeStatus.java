@@ -0,0 +1,29 @@
+package devybigboard.models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of a background job that deletes every player headshot from S3 and the database.
+ *
+ * @param jobId the job ID
+ * @param state RUNNING, COMPLETED or FAILED
+ * @param totalAssets player assets found when the job started
+ * @param totalKeys S3 keys to delete, originals and renditions
+ * @param deletedKeys S3 keys deleted so far
+ * @param failedKeys S3 keys that could not be deleted so far
+ * @param completedBatches DeleteObjects batches finished so far
+ * @param totalBatches DeleteObjects batches in the job
+ * @param deletedFromDatabase player assets removed after their S3 objects were deleted
+ * @param startedAt when the job started
+ * @param finishedAt when the job finished, or null while it is running
+ * @param error why the job failed, or null
+ */
+public record HeadshotPurgeStatus(String jobId, String state, int totalAssets, int totalKeys,
+                                  int deletedKeys, int failedKeys, int completedBatches, int totalBatches,
+                                  int deletedFromDatabase, LocalDateTime startedAt, LocalDateTime finishedAt,
+                                  String error) {
+
+    public boolean isRunning() {
+        return "RUNNING".equals(state);
+    }
+}
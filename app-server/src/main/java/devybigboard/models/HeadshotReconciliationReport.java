@@ -0,0 +1,17 @@
+package devybigboard.models;
+
+/**
+ * Result of one pass reconciling S3 headshot objects against player_assets.
+ *
+ * @param scannedObjects objects listed under the headshot prefix
+ * @param expectedKeys keys that player_assets refers to, originals and renditions
+ * @param orphanedObjects listed objects that no asset refers to
+ * @param deletedObjects orphans deleted
+ * @param failedDeletions orphans S3 did not delete
+ * @param skippedRecent orphans left alone because they are newer than the minimum age
+ * @param durationMillis how long the pass took
+ */
+public record HeadshotReconciliationReport(int scannedObjects, int expectedKeys, int orphanedObjects,
+                                           int deletedObjects, int failedDeletions, int skippedRecent,
+                                           long durationMillis) {
+}
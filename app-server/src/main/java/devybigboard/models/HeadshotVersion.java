@@ -0,0 +1,11 @@
+package devybigboard.models;
+
+/**
+ * A player that has a headshot, with the version of that headshot.
+ * The version changes whenever the image does, so clients that already have it can skip revalidation.
+ *
+ * @param playerId the player ID
+ * @param version the image content hash, or the filename for headshots uploaded before hashes were stored
+ */
+public record HeadshotVersion(long playerId, String version) {
+}
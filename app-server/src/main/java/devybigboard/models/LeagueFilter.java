@@ -5,5 +5,6 @@ import java.time.Instant;
 public record LeagueFilter(
         long id,
         String leagueName,
+        long version,
         Instant createdAt
 ) {}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package devybigboard.models;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity mapping of the filters table.
+ * Filters are read and written through DraftDao; the API exposes them as LeagueFilter records.
+ */
+@Entity
+@Table(name = "filters")
+public class LeagueFilterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "league_name", nullable = false)
+    private String leagueName;
+
+    /** Incremented by every change to the filter's players. */
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    public LeagueFilterEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getLeagueName() {
+        return leagueName;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
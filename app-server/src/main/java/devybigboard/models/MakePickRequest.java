@@ -3,6 +3,7 @@ package devybigboard.models;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 /**
  * WebSocket request to make a pick during a draft.
@@ -19,6 +20,13 @@ public class MakePickRequest {
     @Pattern(regexp = "^[A-Z]$", message = "Position must be a single uppercase letter (A-Z)")
     private String position;
     
+    /**
+     * Optional client-generated ID, reused when the client resends the same command.
+     * A resent command within the dedupe window is not applied or broadcast again.
+     */
+    @Size(max = 64, message = "Command ID must be at most 64 characters")
+    private String commandId;
+    
     // Constructors
     public MakePickRequest() {
     }
@@ -53,4 +61,12 @@ public class MakePickRequest {
     public void setPosition(String position) {
         this.position = position;
     }
+    
+    public String getCommandId() {
+        return commandId;
+    }
+    
+    public void setCommandId(String commandId) {
+        this.commandId = commandId;
+    }
 }
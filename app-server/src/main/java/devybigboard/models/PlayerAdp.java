@@ -0,0 +1,81 @@
+package devybigboard.models;
+
+import jakarta.persistence.*;
+
+/**
+ * Materialized ADP aggregate for a single player over all completed drafts.
+ * Maintained incrementally by PlayerAdpDao when drafts complete, are saved or are re-opened by an undo;
+ * ADP is pickSum / pickCount.
+ */
+@Entity
+@Table(name = "player_adp")
+public class PlayerAdp {
+
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(name = "pick_sum", nullable = false)
+    private Long pickSum;
+
+    @Column(name = "pick_count", nullable = false)
+    private Integer pickCount;
+
+    @Column(name = "min_pick", nullable = false)
+    private Integer minPick;
+
+    @Column(name = "max_pick", nullable = false)
+    private Integer maxPick;
+
+    public PlayerAdp() {
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public Long getPickSum() {
+        return pickSum;
+    }
+
+    public void setPickSum(Long pickSum) {
+        this.pickSum = pickSum;
+    }
+
+    public Integer getPickCount() {
+        return pickCount;
+    }
+
+    public void setPickCount(Integer pickCount) {
+        this.pickCount = pickCount;
+    }
+
+    public Integer getMinPick() {
+        return minPick;
+    }
+
+    public void setMinPick(Integer minPick) {
+        this.minPick = minPick;
+    }
+
+    public Integer getMaxPick() {
+        return maxPick;
+    }
+
+    public void setMaxPick(Integer maxPick) {
+        this.maxPick = maxPick;
+    }
+
+    /**
+     * Get the average draft position.
+     *
+     * @return the average pick number, or null if the player has never been picked
+     */
+    public Double getAdp() {
+        return pickCount != null && pickCount > 0 ? (double) pickSum / pickCount : null;
+    }
+}
@@ -0,0 +1,117 @@
+package devybigboard.models;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Daily ADP aggregate for one player within one draft type and league size.
+ * Windowed and segmented ADP is computed by summing these rows, so it never scans draft_picks.
+ * Maintained by PlayerAdpDao alongside the all-time player_adp aggregate.
+ */
+@Entity
+@Table(name = "player_adp_segments")
+@IdClass(PlayerAdpSegment.Key.class)
+public class PlayerAdpSegment {
+
+    @Id
+    @Column(name = "draft_date")
+    private LocalDate draftDate;
+
+    @Id
+    @Column(name = "is_snake_draft")
+    private Boolean isSnakeDraft;
+
+    @Id
+    @Column(name = "participant_count")
+    private Integer participantCount;
+
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(name = "pick_sum", nullable = false)
+    private Long pickSum;
+
+    @Column(name = "pick_count", nullable = false)
+    private Integer pickCount;
+
+    @Column(name = "min_pick", nullable = false)
+    private Integer minPick;
+
+    @Column(name = "max_pick", nullable = false)
+    private Integer maxPick;
+
+    @Column(name = "round_value_sum", nullable = false)
+    private Double roundValueSum;
+
+    public PlayerAdpSegment() {
+    }
+
+    public LocalDate getDraftDate() {
+        return draftDate;
+    }
+
+    public Boolean getIsSnakeDraft() {
+        return isSnakeDraft;
+    }
+
+    public Integer getParticipantCount() {
+        return participantCount;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public Long getPickSum() {
+        return pickSum;
+    }
+
+    public Integer getPickCount() {
+        return pickCount;
+    }
+
+    public Integer getMinPick() {
+        return minPick;
+    }
+
+    public Integer getMaxPick() {
+        return maxPick;
+    }
+
+    public Double getRoundValueSum() {
+        return roundValueSum;
+    }
+
+    /**
+     * Composite primary key: draft date, draft type, league size and player.
+     */
+    public static class Key implements Serializable {
+
+        private LocalDate draftDate;
+        private Boolean isSnakeDraft;
+        private Integer participantCount;
+        private Long playerId;
+
+        public Key() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(draftDate, key.draftDate)
+                && Objects.equals(isSnakeDraft, key.isSnakeDraft)
+                && Objects.equals(participantCount, key.participantCount)
+                && Objects.equals(playerId, key.playerId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(draftDate, isSnakeDraft, participantCount, playerId);
+        }
+    }
+}
@@ -22,6 +22,10 @@ public class PlayerAsset {
     @Column(name = "filename", nullable = false, length = 255)
     private String filename;
     
+    /** Hex SHA-256 of the uploaded image, or null for headshots uploaded before hashes were stored */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -62,6 +66,14 @@ public class PlayerAsset {
         this.filename = filename;
     }
     
+    public String getContentHash() {
+        return contentHash;
+    }
+    
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,16 @@
+package devybigboard.models;
+
+import java.util.List;
+
+/**
+ * Immutable ADP-sorted board of verified players, tagged with a strong ETag
+ * that changes whenever the ADP aggregate or the verified player pool changes.
+ *
+ * @param <T> the player row type
+ */
+public record PlayerBoard<T>(String etag, List<T> players) {
+
+    public PlayerBoard {
+        players = List.copyOf(players);
+    }
+}
@@ -0,0 +1,79 @@
+package devybigboard.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Read-only list of players backed by a shared player pool and the pool indexes to list, in order.
+ * Serializes by splicing each player's pre-serialized JSON fragment into the output,
+ * so building and sending a draft-state message does not create or re-serialize
+ * a PlayerResponse per available player.
+ *
+ * The fragments must have been produced by the same ObjectMapper configuration used for WebSocket messages.
+ */
+@JsonSerialize(using = PreSerializedPlayerList.Serializer.class)
+public class PreSerializedPlayerList extends AbstractList<PlayerResponse> {
+
+    private final List<PlayerResponse> players;
+    private final List<? extends SerializableString> fragments;
+    private final int[] included;
+
+    /**
+     * @param players every player in the pool, by pool index
+     * @param fragments the JSON fragment of every player, by pool index
+     * @param order every pool index, in the order to list the players in
+     * @param excluded pool indexes to leave out; later changes are not reflected
+     */
+    public PreSerializedPlayerList(List<PlayerResponse> players,
+                                   List<? extends SerializableString> fragments,
+                                   int[] order,
+                                   BitSet excluded) {
+        this.players = players;
+        this.fragments = fragments;
+        this.included = new int[players.size() - excluded.cardinality()];
+        int size = 0;
+        for (int poolIndex : order) {
+            if (!excluded.get(poolIndex)) {
+                included[size++] = poolIndex;
+            }
+        }
+    }
+
+    @Override
+    public PlayerResponse get(int index) {
+        return players.get(included[index]);
+    }
+
+    @Override
+    public int size() {
+        return included.length;
+    }
+
+    /**
+     * Writes the JSON array directly from the cached fragments.
+     */
+    public static class Serializer extends StdSerializer<PreSerializedPlayerList> {
+
+        public Serializer() {
+            super(PreSerializedPlayerList.class);
+        }
+
+        @Override
+        public void serialize(PreSerializedPlayerList value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartArray(value, value.included.length);
+            for (int poolIndex : value.included) {
+                gen.writeRawValue(value.fragments.get(poolIndex));
+            }
+            gen.writeEndArray();
+        }
+    }
+}
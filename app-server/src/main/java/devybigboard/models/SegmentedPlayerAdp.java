@@ -0,0 +1,11 @@
+package devybigboard.models;
+
+/**
+ * Player with ADP computed over a segment of completed drafts.
+ *
+ * @param adp average pick number, 999 if never picked in the segment
+ * @param roundAdp average round-normalized pick value ((pick - 1) / teams + 1), comparable across league sizes
+ * @param timesDrafted number of picks of this player in the segment
+ */
+public record SegmentedPlayerAdp(Long id, String name, String position, String team, int draftyear,
+                                 double adp, Double roundAdp, int timesDrafted, Integer minPick, Integer maxPick) {}
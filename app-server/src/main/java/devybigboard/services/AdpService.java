@@ -0,0 +1,146 @@
+package devybigboard.services;
+
+import devybigboard.dao.PlayerAdpDao;
+import devybigboard.dao.PlayerDao;
+import devybigboard.models.AdpSegment;
+import devybigboard.models.PlayerBoard;
+import devybigboard.models.PlayerWithAdp;
+import devybigboard.models.SegmentedPlayerAdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service that owns the player_adp aggregate and the cached ADP board built from it.
+ * Every change to the aggregate goes through this service so the board is invalidated
+ * only when a draft completes or is re-opened, or when the verified player pool changes.
+ */
+@Service
+public class AdpService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdpService.class);
+
+    /** Upper bound on cached segment boards; the cache is cleared when it is exceeded. */
+    private static final int MAX_SEGMENT_BOARDS = 64;
+
+    private final PlayerAdpDao playerAdpDao;
+    private final PlayerDao playerDao;
+    private final PlayerService playerService;
+
+    private final TransactionalVersion adpVersion = new TransactionalVersion();
+    private volatile PlayerBoard<PlayerWithAdp> board;
+    private final Map<String, PlayerBoard<SegmentedPlayerAdp>> segmentBoards = new ConcurrentHashMap<>();
+
+    public AdpService(PlayerAdpDao playerAdpDao, PlayerDao playerDao, PlayerService playerService) {
+        this.playerAdpDao = playerAdpDao;
+        this.playerDao = playerDao;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Add a completed draft's picks to the ADP aggregate.
+     *
+     * @param draftId the ID of the draft that was completed
+     */
+    public void recordCompletedDraft(long draftId) {
+        playerAdpDao.addDraft(draftId);
+        adpVersion.bump();
+        playerService.adpChanged();
+    }
+
+    /**
+     * Remove a draft's picks from the ADP aggregate before it is re-opened or deleted.
+     *
+     * @param draftId the ID of the draft that is no longer completed
+     */
+    public void removeCompletedDraft(long draftId) {
+        playerAdpDao.removeDraft(draftId);
+        adpVersion.bump();
+        playerService.adpChanged();
+    }
+
+    /**
+     * Rebuild the ADP aggregate from all completed drafts.
+     *
+     * @return the number of players with an ADP after the rebuild
+     */
+    @Transactional
+    public int rebuild() {
+        int players = playerAdpDao.rebuild();
+        adpVersion.bump();
+        playerService.adpChanged();
+        logger.info("Rebuilt player ADP aggregate for {} players", players);
+        return players;
+    }
+
+    /**
+     * Get the ADP-sorted board of verified players.
+     * The same immutable instance is returned until the ADP aggregate or the player pool changes.
+     *
+     * @return the current board and its ETag
+     */
+    public PlayerBoard<PlayerWithAdp> getBoard() {
+        String etag = currentEtag();
+        PlayerBoard<PlayerWithAdp> current = board;
+        if (current != null && current.etag().equals(etag)) {
+            return current;
+        }
+
+        synchronized (adpVersion) {
+            current = board;
+            etag = currentEtag();
+            if (current != null && current.etag().equals(etag)) {
+                return current;
+            }
+
+            PlayerBoard<PlayerWithAdp> rebuilt = new PlayerBoard<>(etag, playerDao.getAllPlayers());
+            // Only publish if nothing changed while the board was loading
+            if (etag.equals(currentEtag())) {
+                board = rebuilt;
+            }
+            return rebuilt;
+        }
+    }
+
+    /**
+     * Get the board of verified players ranked by ADP over a segment of completed drafts.
+     * Boards are cached per segment and invalidated like the all-time board; windowed boards
+     * also roll over when the date changes.
+     *
+     * @param segment the window, draft type and league size to include
+     * @return the segment board and its ETag
+     */
+    public PlayerBoard<SegmentedPlayerAdp> getSegmentBoard(AdpSegment segment) {
+        LocalDate since = segment.since(LocalDate.now());
+        String key = segment.key();
+        String etag = segmentEtag(key, since);
+        PlayerBoard<SegmentedPlayerAdp> current = segmentBoards.get(key);
+        if (current != null && current.etag().equals(etag)) {
+            return current;
+        }
+
+        PlayerBoard<SegmentedPlayerAdp> rebuilt = new PlayerBoard<>(etag, playerDao.getPlayersForSegment(segment, since));
+        // Only publish if nothing changed while the board was loading
+        if (etag.equals(segmentEtag(key, since))) {
+            if (segmentBoards.size() >= MAX_SEGMENT_BOARDS && !segmentBoards.containsKey(key)) {
+                segmentBoards.clear();
+            }
+            segmentBoards.put(key, rebuilt);
+        }
+        return rebuilt;
+    }
+
+    private String segmentEtag(String key, LocalDate since) {
+        return "\"adp-" + adpVersion.get() + "-" + playerService.getVerifiedPlayerPoolVersion()
+            + "-" + key + (since != null ? "-" + since : "") + "\"";
+    }
+
+    private String currentEtag() {
+        return "\"adp-" + adpVersion.get() + "-" + playerService.getVerifiedPlayerPoolVersion() + "\"";
+    }
+}
@@ -1,29 +1,85 @@
 package devybigboard.services;
 
+import devybigboard.exceptions.StorageUnavailableException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+/**
+ * S3 storage for images.
+ *
+ * At most app.s3.max-concurrency requests are sent to S3 at a time; callers wait up to
+ * app.s3.acquire-timeout for a slot and then get a StorageUnavailableException, so a burst of
+ * headshot traffic queues briefly and then sheds load instead of piling up blocked threads.
+ * Streams returned by openImage release their slot when the object metadata arrives;
+ * reading the body is bounded by the S3 client's connection pool.
+ */
 @Service
 public class AssetService {
 
+    /** Most keys S3 accepts in one DeleteObjects request */
+    public static final int MAX_DELETE_BATCH = 1000;
+
     private final S3Client s3Client;
     private final String bucketName;
     private final String endpoint;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
 
     public AssetService(S3Client s3Client, 
                        @Value("${app.s3.bucket-name}") String bucketName,
-                       @Value("${app.s3.endpoint}") String endpoint) {
+                       @Value("${app.s3.endpoint}") String endpoint,
+                       @Value("${app.s3.max-concurrency:32}") int maxConcurrency,
+                       @Value("${app.s3.acquire-timeout:2s}") Duration acquireTimeout) {
         this.s3Client = s3Client;
         this.bucketName = bucketName;
         this.endpoint = endpoint;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency), true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Run one S3 request within the concurrency limit.
+     */
+    private <T> T limited(Supplier<T> request) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageUnavailableException("Interrupted while waiting for S3");
+        }
+        if (!acquired) {
+            throw new StorageUnavailableException("Too many concurrent S3 requests");
+        }
+        try {
+            return request.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Get the number of S3 requests that can start without waiting.
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
     }
 
     /**
@@ -42,12 +98,48 @@ public class AssetService {
                 .contentType(contentType)
                 .build();
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        RequestBody body = RequestBody.fromInputStream(file.getInputStream(), file.getSize());
+        limited(() -> s3Client.putObject(putObjectRequest, body));
 
         // Return just the filename part (after the last /)
         return fileName.substring(fileName.lastIndexOf('/') + 1);
     }
 
+    /**
+     * Upload an image held in memory under a new unique name
+     * @param bytes The image data
+     * @param originalFileName Original file name, used for the extension
+     * @param contentType MIME type
+     * @param folder Optional folder path (e.g., "players", "logos")
+     * @return The filename (not full URL)
+     */
+    public String uploadImage(byte[] bytes, String originalFileName, String contentType, String folder) {
+        String fileName = generateFileName(originalFileName, folder);
+        putImage(fileName, bytes, contentType);
+        return fileName.substring(fileName.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Upload an image staged in a local file under a new unique name
+     * @param file The image file; the S3 client reads it directly
+     * @param originalFileName Original file name, used for the extension
+     * @param contentType MIME type
+     * @param folder Optional folder path (e.g., "players", "logos")
+     * @return The filename (not full URL)
+     */
+    public String uploadImage(Path file, String originalFileName, String contentType, String folder) {
+        String fileName = generateFileName(originalFileName, folder);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .contentType(contentType)
+                .build();
+
+        limited(() -> s3Client.putObject(putObjectRequest, RequestBody.fromFile(file)));
+        return fileName.substring(fileName.lastIndexOf('/') + 1);
+    }
+
     /**
      * Upload an image from InputStream
      * @param inputStream The image input stream
@@ -66,23 +158,49 @@ public class AssetService {
                 .contentType(contentType)
                 .build();
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, contentLength));
+        limited(() -> s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, contentLength)));
 
         return getPublicUrl(fileName);
     }
 
+    /**
+     * Upload an image under an exact key, replacing any existing object
+     * @param fileKey The S3 key/path of the file
+     * @param bytes The image data
+     * @param contentType MIME type
+     */
+    public void putImage(String fileKey, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileKey)
+                .contentType(contentType)
+                .build();
+
+        limited(() -> s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes)));
+    }
+
     /**
      * Read/Download an image from S3
      * @param fileKey The S3 key/path of the file
      * @return InputStream of the file
      */
     public InputStream readImage(String fileKey) {
+        return openImage(fileKey);
+    }
+
+    /**
+     * Open an image in S3 for streaming, with its metadata.
+     * The caller must close the stream; it holds an HTTP connection until then.
+     * @param fileKey The S3 key/path of the file
+     * @return the object stream; response() has the content length and type
+     */
+    public ResponseInputStream<GetObjectResponse> openImage(String fileKey) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(fileKey)
                 .build();
 
-        return s3Client.getObject(getObjectRequest);
+        return limited(() -> s3Client.getObject(getObjectRequest));
     }
 
     /**
@@ -95,7 +213,54 @@ public class AssetService {
                 .key(fileKey)
                 .build();
 
-        s3Client.deleteObject(deleteObjectRequest);
+        limited(() -> s3Client.deleteObject(deleteObjectRequest));
+    }
+
+    /**
+     * Delete up to MAX_DELETE_BATCH images from S3 with one DeleteObjects request
+     * @param fileKeys The S3 keys/paths of the files to delete
+     * @return the keys S3 reported as not deleted; missing keys count as deleted
+     */
+    public List<String> deleteImages(Collection<String> fileKeys) {
+        if (fileKeys.size() > MAX_DELETE_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_DELETE_BATCH + " keys can be deleted per request");
+        }
+        if (fileKeys.isEmpty()) {
+            return List.of();
+        }
+
+        List<ObjectIdentifier> objects = fileKeys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .build();
+
+        return limited(() -> s3Client.deleteObjects(deleteObjectsRequest)).errors().stream()
+                .map(S3Error::key)
+                .toList();
+    }
+
+    /**
+     * List every object under a prefix, one page of up to 1000 objects at a time.
+     * Pages arrive in key order; only the current page is held in memory.
+     * @param prefix The key prefix, e.g. "players/headshots/"
+     * @param pageConsumer Called with each page of objects
+     */
+    public void listImages(String prefix, Consumer<List<S3Object>> pageConsumer) {
+        String continuationToken = null;
+        do {
+            ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix(prefix)
+                    .continuationToken(continuationToken)
+                    .build();
+
+            ListObjectsV2Response page = limited(() -> s3Client.listObjectsV2(listRequest));
+            pageConsumer.accept(page.contents());
+            continuationToken = Boolean.TRUE.equals(page.isTruncated()) ? page.nextContinuationToken() : null;
+        } while (continuationToken != null);
     }
 
     /**
@@ -118,7 +283,7 @@ public class AssetService {
                     .bucket(bucketName)
                     .key(fileKey)
                     .build();
-            s3Client.headObject(headObjectRequest);
+            limited(() -> s3Client.headObject(headObjectRequest));
             return true;
         } catch (NoSuchKeyException e) {
             return false;
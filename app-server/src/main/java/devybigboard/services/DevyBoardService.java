@@ -2,9 +2,12 @@ package devybigboard.services;
 
 import devybigboard.dao.DraftDao;
 import devybigboard.dao.PlayerDao;
+import devybigboard.models.AdpSegment;
 import devybigboard.models.CompletedDraftResponse;
 import devybigboard.models.Player;
+import devybigboard.models.PlayerBoard;
 import devybigboard.models.PlayerWithAdp;
+import devybigboard.models.SegmentedPlayerAdp;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -15,10 +18,15 @@ public class DevyBoardService {
 
     private final DraftDao draftDao;
     private final PlayerDao playerDao;
+    private final AdpService adpService;
+    private final LeagueFilterService leagueFilterService;
 
-    public DevyBoardService(DraftDao draftDao, PlayerDao playerDao) {
+    public DevyBoardService(DraftDao draftDao, PlayerDao playerDao, AdpService adpService,
+                            LeagueFilterService leagueFilterService) {
         this.draftDao = draftDao;
         this.playerDao = playerDao;
+        this.adpService = adpService;
+        this.leagueFilterService = leagueFilterService;
     }
 
     // TODO: Refactor these methods to work with new JPA entities
@@ -30,15 +38,62 @@ public class DevyBoardService {
     }
 
     public List<PlayerWithAdp> getAllPlayers() {
-        return playerDao.getAllPlayers();
+        return adpService.getBoard().players();
+    }
+
+    /**
+     * Get the cached ADP board together with its ETag.
+     *
+     * @return the current player board
+     */
+    public PlayerBoard<PlayerWithAdp> getPlayerBoard() {
+        return adpService.getBoard();
+    }
+
+    /**
+     * Get the cached board ranked by ADP over a window or segment of completed drafts.
+     *
+     * @param segment the window, draft type and league size to include
+     * @return the segment board
+     */
+    public PlayerBoard<SegmentedPlayerAdp> getSegmentBoard(AdpSegment segment) {
+        return adpService.getSegmentBoard(segment);
     }
 
     public CompletedDraftResponse getDraftByUuid(String uuid) {
         throw new UnsupportedOperationException("Will be reimplemented with JPA repositories");
     }
 
+    /**
+     * Get the ADP board without the players in a league filter.
+     * Computed by subtracting the filter's cached ID set from the cached board, in ADP order.
+     *
+     * @param filterId the league filter to exclude
+     * @return the remaining players ordered by ADP
+     */
     public List<PlayerWithAdp> getPlayersExcludingFilter(long filterId) {
-        return playerDao.getPlayersExcludingFilter(filterId);
+        List<PlayerWithAdp> board = adpService.getBoard().players();
+        PlayerIdSet excluded = leagueFilterService.getPlayerIds(filterId);
+        if (excluded.isEmpty()) {
+            return board;
+        }
+
+        List<PlayerWithAdp> remaining = new ArrayList<>(board.size());
+        for (PlayerWithAdp player : board) {
+            if (!excluded.contains(player.id())) {
+                remaining.add(player);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Rebuild the player_adp aggregate from all completed drafts.
+     *
+     * @return the number of players with an ADP after the rebuild
+     */
+    public int rebuildAdp() {
+        return adpService.rebuild();
     }
 
 }
\ No newline at end of file
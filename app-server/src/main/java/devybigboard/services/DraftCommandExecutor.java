@@ -0,0 +1,61 @@
+package devybigboard.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs tasks keyed by draft UUID on a fixed set of single-threaded lanes.
+ * Every task for a draft goes to the same lane, so tasks for one draft run one at a time in
+ * submission order without locks, while different drafts spread over the lanes and run in parallel.
+ */
+final class DraftCommandExecutor {
+
+    private final ExecutorService[] lanes;
+
+    DraftCommandExecutor(String name, int laneCount) {
+        lanes = new ExecutorService[Math.max(1, laneCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            String threadName = name + "-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    int laneOf(String uuid) {
+        return Math.floorMod(uuid.hashCode(), lanes.length);
+    }
+
+    /**
+     * Run a task on the draft's lane after every task submitted for it before.
+     */
+    <T> CompletableFuture<T> submit(String uuid, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, lanes[laneOf(uuid)]);
+    }
+
+    void execute(String uuid, Runnable task) {
+        lanes[laneOf(uuid)].execute(task);
+    }
+
+    /**
+     * Stop accepting tasks and wait for the queued ones to finish.
+     *
+     * @return true if every lane drained within the timeout
+     */
+    boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean drained = true;
+        for (ExecutorService lane : lanes) {
+            drained &= lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        return drained;
+    }
+}
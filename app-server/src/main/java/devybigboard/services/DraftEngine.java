@@ -0,0 +1,367 @@
+package devybigboard.services;
+
+import devybigboard.models.DraftStateView;
+import devybigboard.models.ParticipantInfo;
+import devybigboard.models.PickMessage;
+import devybigboard.models.Player;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory authoritative state of a single live draft.
+ * Holds the precomputed turn order, the availability of pool players and the pick log
+ * so that picks can be validated and applied without touching the database.
+ *
+ * Instances are owned by {@link LiveDraftEngineService}, which is responsible for
+ * loading them from the database and writing changes back in the background.
+ * All mutating methods are synchronized on the engine instance.
+ */
+public class DraftEngine {
+
+    private final Long draftId;
+    private final String uuid;
+    private final String draftName;
+    private final int participantCount;
+    private final int totalRounds;
+    private final boolean snakeDraft;
+    private final LocalDateTime startedAt;
+    private final List<ParticipantInfo> participants;
+
+    /** Position letter for every overall pick number, index 0 = pick 1. */
+    private final char[] turnOrder;
+
+    private final List<PickMessage> picks = new ArrayList<>();
+
+    /** Picked players keyed by index in the attached verified player pool. */
+    private PlayerAvailability availability = new PlayerAvailability(VerifiedPlayerPool.EMPTY);
+
+    private String status;
+    private int currentPick;
+    private int currentRound;
+    private LocalDateTime completedAt;
+
+    /**
+     * Sequence number of the last event published for this draft.
+     * Seeded from the load time in milliseconds so it keeps increasing across
+     * engine reloads and server restarts; clients treat any jump as a gap and resync.
+     */
+    private long sequence = System.currentTimeMillis();
+
+    /** Version of the drafts row after every write queued so far has been applied. */
+    private long rowVersion;
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    public DraftEngine(Long draftId, String uuid, String draftName, String status,
+                       int participantCount, int totalRounds, boolean snakeDraft,
+                       int currentPick, int currentRound,
+                       LocalDateTime startedAt, LocalDateTime completedAt,
+                       List<ParticipantInfo> participants, List<PickMessage> existingPicks) {
+        this.draftId = draftId;
+        this.uuid = uuid;
+        this.draftName = draftName;
+        this.status = status;
+        this.participantCount = participantCount;
+        this.totalRounds = totalRounds;
+        this.snakeDraft = snakeDraft;
+        this.currentPick = currentPick;
+        this.currentRound = currentRound;
+        this.startedAt = startedAt;
+        this.completedAt = completedAt;
+        this.participants = List.copyOf(participants);
+        this.turnOrder = buildTurnOrder(participantCount, totalRounds, snakeDraft);
+
+        for (PickMessage pick : existingPicks) {
+            picks.add(pick);
+            availability.markPicked(pick.getPlayerId());
+        }
+    }
+
+    /**
+     * Build an engine from a draft's persisted state.
+     *
+     * @param view the draft state read from the database
+     * @return a new engine reflecting the persisted state of the draft
+     */
+    public static DraftEngine fromView(DraftStateView view) {
+        DraftEngine engine = new DraftEngine(
+            view.draftId(),
+            view.uuid(),
+            view.draftName(),
+            view.status(),
+            view.participantCount(),
+            view.totalRounds(),
+            view.snakeDraft(),
+            view.currentPick(),
+            view.currentRound(),
+            view.startedAt(),
+            view.completedAt(),
+            view.participants(),
+            view.picks()
+        );
+        engine.rowVersion = view.version();
+        return engine;
+    }
+
+    /**
+     * Precompute the position letter for every pick in the draft.
+     * Linear draft: all rounds go A→B→C→D.
+     * Snake draft: odd rounds go A→B→C→D, even rounds go D→C→B→A.
+     */
+    static char[] buildTurnOrder(int participantCount, int totalRounds, boolean snakeDraft) {
+        char[] order = new char[participantCount * totalRounds];
+        for (int i = 0; i < order.length; i++) {
+            int round = (i / participantCount) + 1;
+            int pickInRound = i % participantCount;
+            int positionIndex = snakeDraft && round % 2 == 0
+                ? participantCount - 1 - pickInRound
+                : pickInRound;
+            order[i] = (char) ('A' + positionIndex);
+        }
+        return order;
+    }
+
+    /**
+     * Get the position letter of the participant whose turn it is.
+     *
+     * @return the position letter, or null if the draft is not in progress
+     */
+    public synchronized String getCurrentTurnPosition() {
+        if (!"IN_PROGRESS".equals(status) || currentPick > turnOrder.length) {
+            return null;
+        }
+        return String.valueOf(turnOrder[currentPick - 1]);
+    }
+
+    /**
+     * Check whether a position is allowed to pick right now.
+     *
+     * @param position the position letter (A-Z)
+     * @return true if it is this position's turn
+     */
+    public synchronized boolean isTurn(String position) {
+        String currentTurn = getCurrentTurnPosition();
+        return currentTurn != null && currentTurn.equals(position);
+    }
+
+    /**
+     * Check whether a player has already been picked in this draft.
+     *
+     * @param playerId the player ID
+     * @return true if the player is already on a roster
+     */
+    public synchronized boolean isPicked(long playerId) {
+        return availability.isPicked(playerId);
+    }
+
+    /**
+     * Re-key the availability index to a verified player pool snapshot.
+     * A re-ranked snapshot of the attached pool version keeps the index and only changes the
+     * ADP order; a new pool version rebuilds the index from the pick log.
+     *
+     * @param pool the current verified player pool
+     */
+    public synchronized void attachPool(VerifiedPlayerPool pool) {
+        VerifiedPlayerPool current = availability.getPool();
+        if (current == pool) {
+            return;
+        }
+        if (current.getVersion() == pool.getVersion()) {
+            // Only the ADP order changed; pool indexes and the picked set stay valid
+            availability = availability.withPool(pool);
+            return;
+        }
+        PlayerAvailability rebuilt = new PlayerAvailability(pool);
+        for (PickMessage pick : picks) {
+            rebuilt.markPicked(pick.getPlayerId());
+        }
+        availability = rebuilt;
+    }
+
+    /**
+     * Apply a pick to the in-memory state, advancing the pick counter and round.
+     *
+     * @param player the player being picked
+     * @param position the position letter (A-Z) the pick belongs to
+     * @param forcedBy the position letter that forced the pick, or null for a regular pick
+     * @return the pick that was recorded
+     * @throws IllegalStateException if the draft is not in progress
+     * @throws IllegalArgumentException if the player has already been picked
+     */
+    public synchronized PickMessage applyPick(Player player, String position, String forcedBy) {
+        if (!"IN_PROGRESS".equals(status)) {
+            throw new IllegalStateException("Draft is not in progress");
+        }
+
+        if (availability.isPicked(player.getId())) {
+            throw new IllegalArgumentException("Player has already been picked in this draft");
+        }
+
+        PickMessage pick = new PickMessage(
+            player.getId(),
+            player.getName(),
+            player.getPosition(),
+            player.getTeam(),
+            player.getCollege(),
+            currentRound,
+            currentPick,
+            position,
+            forcedBy,
+            LocalDateTime.now()
+        );
+        picks.add(pick);
+        availability.markPicked(player.getId());
+
+        // Advance to the next pick; keep the current round once the draft is done
+        currentPick++;
+        if (currentPick <= turnOrder.length) {
+            currentRound = ((currentPick - 1) / participantCount) + 1;
+        } else {
+            status = "COMPLETED";
+            completedAt = LocalDateTime.now();
+        }
+
+        touch();
+        return pick;
+    }
+
+    /**
+     * Remove the most recent pick, reverting the pick counter, round and completion status.
+     *
+     * @return the pick that was removed
+     * @throws IllegalStateException if the draft is not in progress or completed, or there are no picks
+     */
+    public synchronized PickMessage undoLastPick() {
+        if (!"IN_PROGRESS".equals(status) && !"COMPLETED".equals(status)) {
+            throw new IllegalStateException("Draft must be in progress or completed to undo picks");
+        }
+
+        if (picks.isEmpty()) {
+            throw new IllegalStateException("No picks to undo");
+        }
+
+        PickMessage lastPick = picks.remove(picks.size() - 1);
+        availability.markAvailable(lastPick.getPlayerId());
+
+        currentPick--;
+        currentRound = ((currentPick - 1) / participantCount) + 1;
+
+        if ("COMPLETED".equals(status)) {
+            status = "IN_PROGRESS";
+            completedAt = null;
+        }
+
+        touch();
+        return lastPick;
+    }
+
+    /**
+     * Get the available player that follows a player in the attached pool's ADP order,
+     * which is where that player goes back into the available list.
+     *
+     * @param playerId the player ID
+     * @return the following available player's ID, or null if the player belongs at the end
+     */
+    public synchronized Long nextAvailablePlayerId(long playerId) {
+        return availability.nextAvailableAfter(playerId);
+    }
+
+    /**
+     * Get a snapshot of the pick log in pick order.
+     *
+     * @return an immutable copy of all picks made so far
+     */
+    public synchronized List<PickMessage> getPicks() {
+        return List.copyOf(picks);
+    }
+
+    /**
+     * Get a detached copy of the availability index for iterating outside the engine lock.
+     *
+     * @return a copy of the current availability
+     */
+    synchronized PlayerAvailability copyAvailability() {
+        return availability.copy();
+    }
+
+    /**
+     * Advance and return the event sequence number.
+     * Callers must hold the engine lock across the mutation and the events it produces.
+     *
+     * @return the next sequence number
+     */
+    public synchronized long nextSequence() {
+        return ++sequence;
+    }
+
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Claim the next version of the drafts row for a queued write.
+     *
+     * @return the version the row must still have when the write is applied
+     */
+    synchronized long claimRowVersion() {
+        return rowVersion++;
+    }
+
+    void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    // Getters
+    public Long getDraftId() {
+        return draftId;
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    public String getDraftName() {
+        return draftName;
+    }
+
+    public synchronized String getStatus() {
+        return status;
+    }
+
+    public int getParticipantCount() {
+        return participantCount;
+    }
+
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+
+    public boolean isSnakeDraft() {
+        return snakeDraft;
+    }
+
+    public synchronized int getCurrentPick() {
+        return currentPick;
+    }
+
+    public synchronized int getCurrentRound() {
+        return currentRound;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public synchronized LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public List<ParticipantInfo> getParticipants() {
+        return participants;
+    }
+}
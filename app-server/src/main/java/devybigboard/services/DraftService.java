@@ -2,27 +2,51 @@ package devybigboard.services;
 
 import devybigboard.dao.DraftDao;
 import devybigboard.dao.DraftRepository;
+import devybigboard.exceptions.DraftConflictException;
 import devybigboard.exceptions.DraftNotFoundException;
 import devybigboard.models.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 @Service
 public class DraftService {
 
+    private static final Logger logger = LoggerFactory.getLogger(DraftService.class);
+
     private final DraftDao draftDao;
     private final DraftRepository draftRepository;
+    private final AdpService adpService;
     private final PlayerService playerService;
+    private final LiveDraftEngineService liveDraftEngineService;
+    private final TransactionTemplate transaction;
+    private final int maxConflictAttempts;
 
-    public DraftService(DraftDao draftDao, DraftRepository draftRepository, PlayerService playerService) {
+    public DraftService(DraftDao draftDao, DraftRepository draftRepository, AdpService adpService,
+                        PlayerService playerService, LiveDraftEngineService liveDraftEngineService,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${app.drafts.conflict-attempts:3}") int maxConflictAttempts) {
         this.draftDao = draftDao;
         this.draftRepository = draftRepository;
+        this.adpService = adpService;
         this.playerService = playerService;
+        this.liveDraftEngineService = liveDraftEngineService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxConflictAttempts = Math.max(1, maxConflictAttempts);
     }
     
     // ========== Live Draft Methods ==========
@@ -67,6 +91,7 @@ public class DraftService {
     
     /**
      * Delete a draft by UUID.
+     * Its in-memory live draft engine is dropped once the delete commits.
      * 
      * @param uuid the unique identifier of the draft
      * @throws DraftNotFoundException if draft does not exist
@@ -74,7 +99,16 @@ public class DraftService {
     @Transactional
     public void deleteDraft(String uuid) {
         Draft draft = getDraftByUuid(uuid);
+        if ("COMPLETED".equalsIgnoreCase(draft.getStatus())) {
+            adpService.removeCompletedDraft(draft.getId());
+        }
         draftRepository.delete(draft);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                liveDraftEngineService.evict(uuid);
+            }
+        });
     }
     
     /**
@@ -117,9 +151,14 @@ public class DraftService {
      * @return the updated draft entity
      * @throws DraftNotFoundException if draft does not exist
      * @throws IllegalStateException if draft cannot be started
+     * @throws DraftConflictException if the draft kept changing concurrently on every attempt
      */
-    @Transactional
     public Draft startDraft(String uuid) {
+        // Safe to retry: the re-read draft is validated again, so a concurrent start fails cleanly
+        return runCommand(uuid, maxConflictAttempts, () -> startDraftAttempt(uuid));
+    }
+    
+    private Draft startDraftAttempt(String uuid) {
         Draft draft = getDraftByUuid(uuid);
         
         if (!"LOBBY".equals(draft.getStatus())) {
@@ -149,8 +188,10 @@ public class DraftService {
      */
     @Transactional(readOnly = true)
     public String getCurrentTurn(String uuid) {
-        Draft draft = getDraftByUuid(uuid);
-        
+        return getCurrentTurn(getDraftByUuid(uuid));
+    }
+    
+    private String getCurrentTurn(Draft draft) {
         if (!"IN_PROGRESS".equals(draft.getStatus())) {
             return null;
         }
@@ -210,279 +251,10 @@ public class DraftService {
         return currentTurn != null && currentTurn.equals(position);
     }
     
-    /**
-     * Make a pick in a live draft.
-     * Validates draft status, player availability, creates the pick record,
-     * and updates draft state (current pick, round, and completion status).
-     * 
-     * @param uuid the unique identifier of the draft
-     * @param playerId the ID of the player being picked
-     * @param position the position letter (A-Z) making the pick
-     * @return the updated draft entity
-     * @throws DraftNotFoundException if draft does not exist
-     * @throws IllegalStateException if draft is not in progress
-     * @throws IllegalArgumentException if player is not available or already picked
-     */
-    @Transactional
-    public Draft makePick(String uuid, Long playerId, String position) {
-        // Get the draft
-        Draft draft = getDraftByUuid(uuid);
-        
-        // Validate draft status is IN_PROGRESS
-        if (!"IN_PROGRESS".equals(draft.getStatus())) {
-            throw new IllegalStateException("Draft is not in progress");
-        }
-        
-        // Get the player
-        Player player = playerService.getPlayerById(playerId);
-        
-        // Validate player is available (not already picked in this draft)
-        boolean playerAlreadyPicked = draft.getPicks().stream()
-            .anyMatch(pick -> pick.getPlayer().getId().equals(playerId));
-        
-        if (playerAlreadyPicked) {
-            throw new IllegalArgumentException("Player has already been picked in this draft");
-        }
-        
-        // Create DraftPick record with position and roundNumber
-        DraftPick pick = new DraftPick();
-        pick.setDraft(draft);
-        pick.setPlayer(player);
-        pick.setPickNumber(draft.getCurrentPick());
-        pick.setPosition(position);
-        pick.setRoundNumber(draft.getCurrentRound());
-        pick.setPickedAt(LocalDateTime.now());
-        
-        // Add pick to draft
-        draft.addPick(pick);
-        
-        // Calculate total picks needed
-        int totalPicks = draft.getParticipantCount() * draft.getTotalRounds();
-        
-        // Increment currentPick counter
-        int newPickNumber = draft.getCurrentPick() + 1;
-        draft.setCurrentPick(newPickNumber);
-        
-        // Update currentRound based on the NEW pick number (the next pick to be made)
-        // If newPickNumber > totalPicks, we're done, so keep current round
-        if (newPickNumber <= totalPicks) {
-            int picksPerRound = draft.getParticipantCount();
-            int newRound = ((newPickNumber - 1) / picksPerRound) + 1;
-            draft.setCurrentRound(newRound);
-        }
-        
-        // Set status to COMPLETED if all picks made
-        if (newPickNumber > totalPicks) {
-            draft.setStatus("COMPLETED");
-            draft.setCompletedAt(LocalDateTime.now());
-        }
-        
-        // Save and return updated draft state
-        return draftRepository.save(draft);
-    }
-    
-    /**
-     * Force a pick in a live draft, bypassing turn validation.
-     * Any participant can force a pick for any position, with attribution tracking.
-     * 
-     * @param uuid the unique identifier of the draft
-     * @param playerId the ID of the player being picked
-     * @param targetPosition the position letter (A-Z) for whom the pick is being made
-     * @param forcingPosition the position letter (A-Z) of the participant forcing the pick
-     * @return the updated draft entity
-     * @throws DraftNotFoundException if draft does not exist
-     * @throws IllegalStateException if draft is not in progress
-     * @throws IllegalArgumentException if player is not available or already picked
-     */
-    @Transactional
-    public Draft forcePick(String uuid, Long playerId, String targetPosition, String forcingPosition) {
-        // Get the draft
-        Draft draft = getDraftByUuid(uuid);
-        
-        // Validate draft status is IN_PROGRESS
-        if (!"IN_PROGRESS".equals(draft.getStatus())) {
-            throw new IllegalStateException("Draft is not in progress");
-        }
-        
-        // Get the player
-        Player player = playerService.getPlayerById(playerId);
-        
-        // Validate player is available (not already picked in this draft)
-        boolean playerAlreadyPicked = draft.getPicks().stream()
-            .anyMatch(pick -> pick.getPlayer().getId().equals(playerId));
-        
-        if (playerAlreadyPicked) {
-            throw new IllegalArgumentException("Player has already been picked in this draft");
-        }
-        
-        // Create DraftPick record with position, roundNumber, and forcedBy
-        DraftPick pick = new DraftPick();
-        pick.setDraft(draft);
-        pick.setPlayer(player);
-        pick.setPickNumber(draft.getCurrentPick());
-        pick.setPosition(targetPosition);
-        pick.setRoundNumber(draft.getCurrentRound());
-        pick.setForcedBy(forcingPosition);
-        pick.setPickedAt(LocalDateTime.now());
-        
-        // Add pick to draft
-        draft.addPick(pick);
-        
-        // Calculate total picks needed
-        int totalPicks = draft.getParticipantCount() * draft.getTotalRounds();
-        
-        // Increment currentPick counter
-        int newPickNumber = draft.getCurrentPick() + 1;
-        draft.setCurrentPick(newPickNumber);
-        
-        // Update currentRound based on the NEW pick number (the next pick to be made)
-        // If newPickNumber > totalPicks, we're done, so keep current round
-        if (newPickNumber <= totalPicks) {
-            int picksPerRound = draft.getParticipantCount();
-            int newRound = ((newPickNumber - 1) / picksPerRound) + 1;
-            draft.setCurrentRound(newRound);
-        }
-        
-        // Set status to COMPLETED if all picks made
-        if (newPickNumber > totalPicks) {
-            draft.setStatus("COMPLETED");
-            draft.setCompletedAt(LocalDateTime.now());
-        }
-        
-        // Save and return updated draft state
-        return draftRepository.save(draft);
-    }
-    
-    /**
-     * Undo the last pick in a live draft.
-     * Removes the most recent pick, decrements the pick counter and round,
-     * and reverts completion status if the draft was completed.
-     * 
-     * @param uuid the unique identifier of the draft
-     * @param position the position letter (A-Z) requesting the undo
-     * @return the updated draft entity
-     * @throws DraftNotFoundException if draft does not exist
-     * @throws IllegalStateException if draft is not in progress or completed, or if there are no picks to undo
-     */
-    @Transactional
-    public Draft undoLastPick(String uuid, String position) {
-        // Get the draft
-        Draft draft = getDraftByUuid(uuid);
-        
-        // Validate draft status is IN_PROGRESS or COMPLETED
-        if (!"IN_PROGRESS".equals(draft.getStatus()) && !"COMPLETED".equals(draft.getStatus())) {
-            throw new IllegalStateException("Draft must be in progress or completed to undo picks");
-        }
-        
-        // Check if there are any picks to undo
-        if (draft.getPicks().isEmpty()) {
-            throw new IllegalStateException("No picks to undo");
-        }
-        
-        // Find the last pick (highest pick number)
-        DraftPick lastPick = draft.getPicks().stream()
-            .max((p1, p2) -> Integer.compare(p1.getPickNumber(), p2.getPickNumber()))
-            .orElseThrow(() -> new IllegalStateException("No picks to undo"));
-        
-        // Remove the last pick
-        draft.getPicks().remove(lastPick);
-        
-        // Decrement currentPick counter
-        int newPickNumber = draft.getCurrentPick() - 1;
-        draft.setCurrentPick(newPickNumber);
-        
-        // Update currentRound based on the NEW pick number
-        int picksPerRound = draft.getParticipantCount();
-        int newRound = ((newPickNumber - 1) / picksPerRound) + 1;
-        draft.setCurrentRound(newRound);
-        
-        // If draft was completed, revert to IN_PROGRESS
-        if ("COMPLETED".equals(draft.getStatus())) {
-            draft.setStatus("IN_PROGRESS");
-            draft.setCompletedAt(null);
-        }
-        
-        // Save and return updated draft state
-        return draftRepository.save(draft);
-    }
-    
-    /**
-     * Get the complete draft state for WebSocket synchronization.
-     * Returns all picks, current turn, available players, participants with nicknames and positions,
-     * and pick history with forced pick attributions.
-     * 
-     * @param uuid the unique identifier of the draft
-     * @return a DraftState object containing complete draft information
-     * @throws DraftNotFoundException if draft does not exist
-     */
-    @Transactional(readOnly = true)
-    public DraftState getDraftState(String uuid) {
-        // Get the draft with all relationships loaded
-        Draft draft = getDraftByUuid(uuid);
-        
-        // Force load participants and picks to avoid lazy loading issues
-        draft.getParticipants().size();
-        draft.getPicks().size();
-        
-        // Get all verified players
-        List<Player> allPlayers = playerService.getVerifiedPlayers();
-        
-        // Get IDs of already picked players
-        List<Long> pickedPlayerIds = draft.getPicks().stream()
-            .map(pick -> pick.getPlayer().getId())
-            .toList();
-        
-        // Filter to get available players (not yet picked)
-        List<Player> availablePlayers = allPlayers.stream()
-            .filter(player -> !pickedPlayerIds.contains(player.getId()))
-            .toList();
-        
-        // Get current turn position
-        String currentTurnPosition = getCurrentTurn(uuid);
-        
-        // Build and return the draft state
-        return new DraftState(
-            draft.getUuid(),
-            draft.getDraftName(),
-            draft.getStatus(),
-            draft.getCurrentRound(),
-            draft.getCurrentPick(),
-            draft.getTotalRounds(),
-            draft.getParticipantCount(),
-            draft.getIsSnakeDraft(),
-            currentTurnPosition,
-            draft.getParticipants(),
-            draft.getPicks(),
-            availablePlayers,
-            draft.getStartedAt(),
-            draft.getCompletedAt()
-        );
-    }
-
     public Integer draftsCompletedCount() {
         return draftDao.draftsCompletedCount();
     }
 
-    public List<LeagueFilter> getAllLeagueFilters() {
-        return draftDao.getAllLeagueFilters();
-    }
-
-    public long createLeagueFilter(String leagueName) {
-        return draftDao.createFilter(leagueName);
-    }
-
-    public void addPlayerToFilter(long filterId, Player player) {
-        draftDao.addPlayerToFilter(filterId, player.getName(), player.getPosition(), player.getTeam());
-    }
-
-    public void removePlayerFromFilter(long filterId, Player player) {
-        draftDao.removePlayerFromFilter(filterId, player.getName(), player.getPosition(), player.getTeam());
-    }
-
-    public void deleteLeagueFilter(long filterId) {
-        draftDao.deleteFilter(filterId);
-    }
-
     /**
      * Save a completed draft with UUID generation.
      * Generates a unique UUID for the draft.
@@ -514,7 +286,53 @@ public class DraftService {
         }
         
         draft.setPicks(picks);
-        return draftRepository.save(draft);
+        return saveAndRecordAdp(draft);
+    }
+
+    /**
+     * Run a command that updates a draft in its own transaction, detecting concurrent updates
+     * through the draft's version. On a conflict the command is re-run against the re-read draft,
+     * up to maxAttempts times, then a DraftConflictException is thrown.
+     * Inside a caller's transaction the command joins it and runs once, since only the caller
+     * can retry the whole unit of work.
+     *
+     * Only commands whose validation makes a re-run safe should allow more than one attempt.
+     *
+     * Live picks and undos do not come through here: LiveDraftEngineService applies them in memory
+     * and writes them behind with a conditional version update, reporting conflicts to the
+     * draft's clients.
+     */
+    private <T> T runCommand(String uuid, int maxAttempts, Supplier<T> command) {
+        boolean joined = TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> command.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (joined || attempt >= maxAttempts) {
+                    throw new DraftConflictException(uuid, e);
+                }
+                logger.info("Draft {} changed concurrently, retrying (attempt {} of {})", uuid, attempt + 1, maxAttempts);
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(5, 25L * attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new DraftConflictException(uuid, e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Save a draft and, if it is completed, add its picks to the ADP aggregate.
+     * The draft is flushed first so the aggregate query sees its picks.
+     */
+    private Draft saveAndRecordAdp(Draft draft) {
+        if (!"COMPLETED".equalsIgnoreCase(draft.getStatus())) {
+            return draftRepository.save(draft);
+        }
+        Draft saved = draftRepository.saveAndFlush(draft);
+        adpService.recordCompletedDraft(saved.getId());
+        return saved;
     }
     
     /**
@@ -529,6 +347,20 @@ public class DraftService {
             .orElseThrow(() -> new DraftNotFoundException(uuid));
     }
     
+    /**
+     * Retrieve a draft by its UUID with its participants, picks and picked players loaded,
+     * in a fixed number of queries however many picks it has.
+     * 
+     * @param uuid the unique identifier of the draft
+     * @return the fully loaded draft entity
+     * @throws DraftNotFoundException if draft does not exist
+     */
+    @Transactional(readOnly = true)
+    public Draft getDraftAggregate(String uuid) {
+        return draftRepository.findAggregateByUuid(uuid)
+            .orElseThrow(() -> new DraftNotFoundException(uuid));
+    }
+    
     /**
      * Get the most recent drafts ordered by creation date.
      * 
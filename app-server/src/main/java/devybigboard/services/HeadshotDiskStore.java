@@ -0,0 +1,253 @@
+package devybigboard.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Local disk tier for player headshots, keyed by PlayerAsset filename.
+ * Filenames are unique per upload, so a file on disk never goes stale; it is only
+ * removed when its asset is replaced or deleted.
+ *
+ * Files are written to a temporary name and atomically moved into place, so readers
+ * never see a partial image. Small files are read onto the heap for the memory tier;
+ * anything larger is copied to the response with transferTo.
+ * Every failure is logged and treated as a miss: the disk tier must never break headshots.
+ */
+@Service
+public class HeadshotDiskStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadshotDiskStore.class);
+
+    private static final String TEMP_SUFFIX = ".part";
+
+    private final Path directory;
+    private final boolean enabled;
+
+    public HeadshotDiskStore(@Value("${app.headshots.disk.enabled:true}") boolean enabled,
+                             @Value("${app.headshots.disk.directory:${java.io.tmpdir}/devy-headshots}") String directory) {
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.enabled = enabled && createDirectory(this.directory);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check whether a headshot is on disk.
+     *
+     * @param filename the PlayerAsset filename
+     * @return true if the file exists
+     */
+    public boolean contains(String filename) {
+        return resolve(filename).map(Files::isRegularFile).orElse(false);
+    }
+
+    /**
+     * Read a headshot from disk onto the heap, for files small enough for the memory tier.
+     * Larger files are served with transferTo instead.
+     *
+     * @param filename the PlayerAsset filename
+     * @return the image bytes, or empty on a miss
+     */
+    public Optional<byte[]> read(String filename) {
+        Optional<Path> path = resolve(filename);
+        if (path.isEmpty() || !Files.isRegularFile(path.get())) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Files.readAllBytes(path.get()));
+        } catch (IOException e) {
+            logger.warn("Failed to read headshot {} from disk", filename, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Get the size of a headshot on disk.
+     *
+     * @param filename the PlayerAsset filename
+     * @return the file size, or empty on a miss
+     */
+    public Optional<Long> size(String filename) {
+        Optional<Path> path = resolve(filename);
+        if (path.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.size(path.get()));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copy a headshot file to an output stream with FileChannel.transferTo, which never
+     * loads the whole file onto the heap.
+     *
+     * @param filename the PlayerAsset filename
+     * @param out the stream to write to
+     * @throws IOException if the file cannot be read or the stream cannot be written
+     */
+    public void transferTo(String filename, OutputStream out) throws IOException {
+        Path path = resolve(filename).orElseThrow(() -> new IOException("Headshot not on disk: " + filename));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var target = Channels.newChannel(out);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    /**
+     * Write a headshot to disk, replacing any existing file with the same name.
+     *
+     * @param filename the PlayerAsset filename
+     * @param bytes the image bytes
+     */
+    public void write(String filename, byte[] bytes) {
+        writeAtomically(filename, temp -> Files.write(temp, bytes));
+    }
+
+    /**
+     * Stream a headshot to disk, replacing any existing file with the same name.
+     * The stream is copied with a small buffer and is not closed.
+     *
+     * @param filename the PlayerAsset filename
+     * @param in the image data
+     * @return true if the file was written
+     */
+    public boolean write(String filename, InputStream in) {
+        return writeAtomically(filename, temp -> Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING));
+    }
+
+    /**
+     * Write a file through an open channel, replacing any existing file with the same name.
+     * The writer may move the channel position, e.g. to fill in a header after the body.
+     *
+     * @param filename the file name
+     * @param writer writes the file contents
+     * @return true if the file was written
+     */
+    public boolean write(String filename, ChannelWriter writer) {
+        return writeAtomically(filename, temp -> {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writer.write(channel);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    public interface ChannelWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+
+    private boolean writeAtomically(String filename, TempWriter writer) {
+        Optional<Path> path = resolve(filename);
+        if (path.isEmpty()) {
+            return false;
+        }
+
+        Path temp = path.get().resolveSibling(path.get().getFileName() + "." + Thread.currentThread().threadId() + TEMP_SUFFIX);
+        try {
+            writer.write(temp);
+            Files.move(temp, path.get(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to write headshot {} to disk", filename, e);
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // Best effort; leftover temp files are removed by retainOnly
+            }
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface TempWriter {
+        void write(Path temp) throws IOException;
+    }
+
+    /**
+     * Remove a headshot from disk.
+     *
+     * @param filename the PlayerAsset filename
+     */
+    public void delete(String filename) {
+        Optional<Path> path = resolve(filename);
+        if (path.isEmpty()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path.get());
+        } catch (IOException e) {
+            logger.warn("Failed to delete headshot {} from disk", filename, e);
+        }
+    }
+
+    /**
+     * Delete every file that is not one of the given headshots, including leftover temp files.
+     *
+     * @param filenames the filenames to keep
+     * @return the number of files deleted
+     */
+    public int retainOnly(Set<String> filenames) {
+        if (!enabled) {
+            return 0;
+        }
+
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                if (!filenames.contains(file.getFileName().toString()) && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to prune headshot directory {}", directory, e);
+        }
+        return deleted;
+    }
+
+    /**
+     * Resolve a filename inside the store directory.
+     * Returns empty when the store is disabled or the name could escape the directory.
+     */
+    private Optional<Path> resolve(String filename) {
+        if (!enabled || filename == null || filename.isEmpty()
+                || filename.contains("/") || filename.contains("\\") || filename.startsWith(".")) {
+            return Optional.empty();
+        }
+        return Optional.of(directory.resolve(filename));
+    }
+
+    private static boolean createDirectory(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            return true;
+        } catch (IOException e) {
+            logger.warn("Headshot disk cache disabled: cannot create {}", directory, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package devybigboard.services;
+
+import devybigboard.dao.PlayerAssetDao;
+import devybigboard.dao.PlayerAssetDao.AssetRow;
+import devybigboard.models.HeadshotImportEntry;
+import devybigboard.models.HeadshotImportResult;
+import devybigboard.models.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Imports many player headshots from one zip file.
+ *
+ * Each entry is named after the player it belongs to, either by ID (1234.png) or by name
+ * (john_smith.jpg; underscores, dashes and dots count as spaces, case is ignored). The zip is read
+ * as a stream; each image is uploaded to S3, with its renditions, on a pool of importConcurrency
+ * threads while the next entries are read, and at most twice that many images are held in memory.
+ * Once every upload has finished, all PlayerAsset rows are upserted in one batched transaction
+ * and the files they replace are deleted.
+ */
+@Service
+public class HeadshotImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadshotImportService.class);
+
+    private final AssetService assetService;
+    private final HeadshotService headshotService;
+    private final PlayerService playerService;
+    private final PlayerAssetDao playerAssetDao;
+    private final TransactionTemplate transaction;
+    private final int importConcurrency;
+    private final long maxEntryBytes;
+
+    public HeadshotImportService(AssetService assetService, HeadshotService headshotService,
+                                 PlayerService playerService, PlayerAssetDao playerAssetDao,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.headshots.import.concurrency:8}") int importConcurrency,
+                                 @Value("${app.headshots.import.max-entry-bytes:10485760}") long maxEntryBytes) {
+        this.assetService = assetService;
+        this.headshotService = headshotService;
+        this.playerService = playerService;
+        this.playerAssetDao = playerAssetDao;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.importConcurrency = Math.max(1, importConcurrency);
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    /**
+     * Import every image in a zip.
+     *
+     * @param zip the zip file; not closed
+     * @return the outcome of every entry, in zip order
+     * @throws IOException if the zip cannot be read
+     */
+    public HeadshotImportResult importZip(InputStream zip) throws IOException {
+        Map<Long, Player> playersById = new HashMap<>();
+        Map<String, List<Player>> playersByName = new HashMap<>();
+        for (Player player : playerService.getAllPlayers()) {
+            playersById.put(player.getId(), player);
+            playersByName.computeIfAbsent(normalizeName(player.getName()), name -> new ArrayList<>()).add(player);
+        }
+
+        // Entries are added by this thread and completed by the upload threads
+        List<HeadshotImportEntry> results = Collections.synchronizedList(new ArrayList<>());
+        List<Upload> uploaded = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> uploads = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        Semaphore buffered = new Semaphore(importConcurrency * 2);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService uploaders = Executors.newFixedThreadPool(importConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "headshot-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (uploaders; ZipInputStream in = new ZipInputStream(zip)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                String name = entry.getName();
+                String filename = name.substring(name.lastIndexOf('/') + 1);
+                if (entry.isDirectory() || filename.isEmpty() || filename.startsWith(".") || name.startsWith("__MACOSX/")) {
+                    continue;
+                }
+
+                Optional<MediaType> mediaType = MediaTypeFactory.getMediaType(filename)
+                        .filter(type -> "image".equals(type.getType()));
+                if (mediaType.isEmpty()) {
+                    results.add(HeadshotImportEntry.skipped(name, "Not an image"));
+                    continue;
+                }
+
+                Player player;
+                try {
+                    player = resolvePlayer(filename, playersById, playersByName);
+                } catch (IllegalArgumentException e) {
+                    results.add(HeadshotImportEntry.failed(name, null, e.getMessage()));
+                    continue;
+                }
+                if (seen.contains(player.getId())) {
+                    results.add(HeadshotImportEntry.failed(name, player.getId(), "Another entry already has a headshot for this player"));
+                    continue;
+                }
+
+                byte[] bytes = readEntry(in);
+                if (bytes == null) {
+                    results.add(HeadshotImportEntry.failed(name, player.getId(), "Image is larger than " + maxEntryBytes + " bytes"));
+                    continue;
+                }
+                // Only an accepted entry claims the player, so a rejected one does not block a later one
+                seen.add(player.getId());
+
+                int index = results.size();
+                results.add(null);
+                acquire(buffered);
+                String contentType = mediaType.get().toString();
+                uploads.add(CompletableFuture
+                        .supplyAsync(() -> upload(player.getId(), filename, bytes, contentType), uploaders)
+                        .handle((upload, e) -> {
+                            buffered.release();
+                            if (e != null) {
+                                logger.warn("Failed to upload headshot {}: {}", name, e.getMessage());
+                                results.set(index, HeadshotImportEntry.failed(name, player.getId(), "Upload failed"));
+                            } else {
+                                uploaded.add(upload);
+                                results.set(index, HeadshotImportEntry.imported(name, player.getId()));
+                            }
+                            return null;
+                        }));
+            }
+        } catch (IOException e) {
+            // Closing the pool waited for in-flight uploads; nothing refers to their files yet
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+            uploaded.forEach(upload -> deleteQuietly(upload.filename()));
+            throw e;
+        }
+        CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+
+        saveAssets(uploaded, results);
+        HeadshotImportResult result = HeadshotImportResult.of(results);
+        logger.info("Headshot import finished: {} imported, {} failed, {} skipped",
+                result.imported(), result.failed(), result.skipped());
+        return result;
+    }
+
+    private Upload upload(long playerId, String originalFilename, byte[] bytes, String contentType) {
+        String filename = assetService.uploadImage(bytes, originalFilename, contentType, HeadshotService.HEADSHOT_FOLDER);
+        headshotService.createRenditions(filename, new ByteArrayInputStream(bytes));
+        try {
+            return new Upload(playerId, filename, HeadshotService.contentHash(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot hash an in-memory image", e);
+        }
+    }
+
+    /**
+     * Upsert the uploaded assets in one transaction, then delete the files they replaced.
+     * If the transaction fails, the new files are deleted and their entries reported as failed.
+     */
+    private void saveAssets(List<Upload> uploaded, List<HeadshotImportEntry> results) {
+        if (uploaded.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> replaced;
+        try {
+            replaced = transaction.execute(status -> {
+                Map<Long, String> previous = playerAssetDao.lockFilenames(uploaded.stream().map(Upload::playerId).toList());
+                playerAssetDao.upsertAssets(uploaded.stream()
+                        .map(upload -> new AssetRow(upload.playerId(), upload.filename(), upload.contentHash()))
+                        .toList());
+                return previous;
+            });
+        } catch (RuntimeException e) {
+            logger.error("Failed to save {} imported headshots", uploaded.size(), e);
+            Set<Long> failedPlayers = new HashSet<>();
+            for (Upload upload : uploaded) {
+                failedPlayers.add(upload.playerId());
+                deleteQuietly(upload.filename());
+            }
+            results.replaceAll(entry -> entry.playerId() != null && failedPlayers.contains(entry.playerId())
+                    && "IMPORTED".equals(entry.status())
+                    ? HeadshotImportEntry.failed(entry.entry(), entry.playerId(), "Could not save player asset")
+                    : entry);
+            return;
+        }
+
+        for (Upload upload : uploaded) {
+            headshotService.evict(upload.playerId());
+            String previous = replaced.get(upload.playerId());
+            if (previous != null && !previous.equals(upload.filename())) {
+                deleteQuietly(previous);
+            }
+        }
+    }
+
+    private void deleteQuietly(String filename) {
+        try {
+            headshotService.deleteHeadshotFiles(filename);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to delete headshot files for {}: {}", filename, e.getMessage());
+        }
+    }
+
+    /**
+     * Match an entry's filename to a player by ID, then by normalized name.
+     *
+     * @throws IllegalArgumentException if no single player matches
+     */
+    private static Player resolvePlayer(String filename, Map<Long, Player> playersById,
+                                        Map<String, List<Player>> playersByName) {
+        int dot = filename.lastIndexOf('.');
+        String key = (dot > 0 ? filename.substring(0, dot) : filename).trim();
+
+        if (key.chars().allMatch(Character::isDigit) && !key.isEmpty()) {
+            Player player = playersById.get(Long.parseLong(key));
+            if (player == null) {
+                throw new IllegalArgumentException("No player with id " + key);
+            }
+            return player;
+        }
+
+        List<Player> matches = playersByName.getOrDefault(normalizeName(key), List.of());
+        if (matches.isEmpty()) {
+            throw new IllegalArgumentException("No player named " + key);
+        }
+        if (matches.size() > 1) {
+            throw new IllegalArgumentException("More than one player is named " + key + "; use the player id");
+        }
+        return matches.get(0);
+    }
+
+    static String normalizeName(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT).replaceAll("[\\s_.\\-]+", " ").trim();
+    }
+
+    /**
+     * Read the current entry, or return null if it is larger than maxEntryBytes.
+     */
+    private byte[] readEntry(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[HeadshotService.STREAM_BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (out.size() + read > maxEntryBytes) {
+                return null;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static void acquire(Semaphore semaphore) throws IOException {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while importing headshots", e);
+        }
+    }
+
+    private record Upload(long playerId, String filename, String contentHash) {
+    }
+}
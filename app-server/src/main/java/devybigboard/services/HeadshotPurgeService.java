@@ -0,0 +1,197 @@
+package devybigboard.services;
+
+import devybigboard.dao.PlayerAssetRepository;
+import devybigboard.models.HeadshotPurgeStatus;
+import devybigboard.models.PlayerAsset;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deletes every player headshot, originals and renditions, from S3 and then from player_assets.
+ *
+ * The job runs in the background so the request that starts it returns immediately.
+ * Keys are deleted with multi-object DeleteObjects requests of up to AssetService.MAX_DELETE_BATCH keys,
+ * with at most deleteConcurrency batches in flight. Only assets whose objects were all deleted are
+ * removed from the database, so running the job again retries the rest.
+ */
+@Service
+public class HeadshotPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadshotPurgeService.class);
+
+    private final AssetService assetService;
+    private final PlayerAssetRepository playerAssetRepository;
+    private final HeadshotService headshotService;
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "headshot-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService deleters;
+
+    private volatile PurgeJob current;
+
+    public HeadshotPurgeService(AssetService assetService, PlayerAssetRepository playerAssetRepository,
+                                HeadshotService headshotService,
+                                @Value("${app.s3.delete-concurrency:4}") int deleteConcurrency) {
+        this.assetService = assetService;
+        this.playerAssetRepository = playerAssetRepository;
+        this.headshotService = headshotService;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.deleters = Executors.newFixedThreadPool(Math.max(1, deleteConcurrency), runnable -> {
+            Thread thread = new Thread(runnable, "headshot-purge-delete-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start deleting every headshot, unless a purge is already running.
+     *
+     * @return the status of the new job, or of the job that is already running
+     */
+    public synchronized HeadshotPurgeStatus startPurge() {
+        PurgeJob running = current;
+        if (running != null && running.status().isRunning()) {
+            return running.status();
+        }
+
+        PurgeJob job = new PurgeJob(UUID.randomUUID().toString());
+        current = job;
+        job.completion = CompletableFuture.runAsync(() -> run(job), coordinator);
+        return job.status();
+    }
+
+    /**
+     * Get the status of the most recent purge.
+     *
+     * @return the status, or empty if no purge has run since startup
+     */
+    public Optional<HeadshotPurgeStatus> getStatus() {
+        PurgeJob job = current;
+        return job != null ? Optional.of(job.status()) : Optional.empty();
+    }
+
+    /**
+     * Completion of the most recent purge, for tests.
+     */
+    CompletableFuture<Void> currentCompletion() {
+        PurgeJob job = current;
+        return job != null ? job.completion : CompletableFuture.completedFuture(null);
+    }
+
+    private void run(PurgeJob job) {
+        try {
+            List<PlayerAsset> assets = playerAssetRepository.findAll();
+            List<String> keys = new ArrayList<>();
+            for (PlayerAsset asset : assets) {
+                keys.addAll(HeadshotService.s3Keys(asset.getFilename()));
+            }
+
+            int batchSize = AssetService.MAX_DELETE_BATCH;
+            job.totalAssets = assets.size();
+            job.totalKeys = keys.size();
+            job.totalBatches = (keys.size() + batchSize - 1) / batchSize;
+            logger.info("Purging {} headshots: {} S3 keys in {} batches",
+                    job.totalAssets, job.totalKeys, job.totalBatches);
+
+            Set<String> failed = ConcurrentHashMap.newKeySet();
+            List<CompletableFuture<Void>> batches = new ArrayList<>();
+            for (int from = 0; from < keys.size(); from += batchSize) {
+                List<String> batch = keys.subList(from, Math.min(from + batchSize, keys.size()));
+                batches.add(CompletableFuture.runAsync(() -> deleteBatch(job, batch, failed), deleters));
+            }
+            CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+
+            List<PlayerAsset> deleted = assets.stream()
+                    .filter(asset -> HeadshotService.s3Keys(asset.getFilename()).stream().noneMatch(failed::contains))
+                    .toList();
+            playerAssetRepository.deleteAllInBatch(deleted);
+            job.deletedFromDatabase = deleted.size();
+            headshotService.evictAll();
+
+            job.finish("COMPLETED", null);
+            logger.info("Headshot purge {} complete: {} keys deleted, {} failed, {} assets removed",
+                    job.id, job.deletedKeys.get(), job.failedKeys.get(), job.deletedFromDatabase);
+        } catch (RuntimeException e) {
+            logger.error("Headshot purge {} failed", job.id, e);
+            job.finish("FAILED", e.getMessage());
+        }
+    }
+
+    private void deleteBatch(PurgeJob job, List<String> batch, Set<String> failed) {
+        List<String> errors;
+        try {
+            errors = assetService.deleteImages(batch);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to delete a batch of {} headshot keys: {}", batch.size(), e.getMessage());
+            errors = batch;
+        }
+        Set<String> batchFailures = new HashSet<>(errors);
+        failed.addAll(batchFailures);
+        job.failedKeys.addAndGet(batchFailures.size());
+        job.deletedKeys.addAndGet(batch.size() - batchFailures.size());
+        job.completedBatches.incrementAndGet();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        coordinator.shutdown();
+        if (!coordinator.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Headshot purge did not finish within 30 seconds");
+        }
+        deleters.shutdownNow();
+    }
+
+    /**
+     * Progress counters of one purge; written by the job threads and read by status requests.
+     */
+    private static final class PurgeJob {
+
+        private final String id;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger deletedKeys = new AtomicInteger();
+        private final AtomicInteger failedKeys = new AtomicInteger();
+        private final AtomicInteger completedBatches = new AtomicInteger();
+        private volatile int totalAssets;
+        private volatile int totalKeys;
+        private volatile int totalBatches;
+        private volatile int deletedFromDatabase;
+        private volatile String state = "RUNNING";
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+        private volatile CompletableFuture<Void> completion;
+
+        PurgeJob(String id) {
+            this.id = id;
+        }
+
+        void finish(String state, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.state = state;
+        }
+
+        HeadshotPurgeStatus status() {
+            return new HeadshotPurgeStatus(id, state, totalAssets, totalKeys, deletedKeys.get(), failedKeys.get(),
+                    completedBatches.get(), totalBatches, deletedFromDatabase, startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package devybigboard.services;
+
+import devybigboard.dao.PlayerAssetRepository;
+import devybigboard.models.HeadshotReconciliationReport;
+import devybigboard.models.PlayerAsset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Deletes S3 objects under the headshot folder that no player_assets row refers to,
+ * e.g. left behind when deleting a replaced headshot failed.
+ *
+ * The expected keys are loaded into a sorted array and the bucket listing is streamed page by page
+ * and checked against it with a binary search, so memory grows with the number of assets rather than
+ * with the number of objects or orphans. Orphans are deleted in DeleteObjects batches as they are found.
+ * Objects newer than minAge are left alone, since an upload writes to S3 before its row is saved,
+ * and at most maxDeletes objects are deleted per pass.
+ */
+@Service
+public class HeadshotReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadshotReconciliationService.class);
+
+    private final AssetService assetService;
+    private final PlayerAssetRepository playerAssetRepository;
+    private final Duration minAge;
+    private final int maxDeletes;
+    private final Clock clock;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public HeadshotReconciliationService(AssetService assetService, PlayerAssetRepository playerAssetRepository,
+                                         @Value("${app.headshots.reconcile.min-age:24h}") Duration minAge,
+                                         @Value("${app.headshots.reconcile.max-deletes:10000}") int maxDeletes) {
+        this(assetService, playerAssetRepository, minAge, maxDeletes, Clock.systemUTC());
+    }
+
+    HeadshotReconciliationService(AssetService assetService, PlayerAssetRepository playerAssetRepository,
+                                  Duration minAge, int maxDeletes, Clock clock) {
+        this.assetService = assetService;
+        this.playerAssetRepository = playerAssetRepository;
+        this.minAge = minAge;
+        this.maxDeletes = maxDeletes;
+        this.clock = clock;
+    }
+
+    /**
+     * Scheduled reconciliation, daily by default. Set app.headshots.reconcile.cron to "-" to disable it.
+     */
+    @Scheduled(cron = "${app.headshots.reconcile.cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * Run one reconciliation pass, unless one is already running.
+     *
+     * @return the report, or empty if another pass is running
+     */
+    public Optional<HeadshotReconciliationReport> reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Headshot reconciliation is already running");
+            return Optional.empty();
+        }
+        try {
+            HeadshotReconciliationReport report = reconcileOnce();
+            logger.info("Headshot reconciliation: {} objects scanned, {} orphaned, {} deleted, {} failed, {} too recent, {} ms",
+                    report.scannedObjects(), report.orphanedObjects(), report.deletedObjects(),
+                    report.failedDeletions(), report.skippedRecent(), report.durationMillis());
+            return Optional.of(report);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private HeadshotReconciliationReport reconcileOnce() {
+        long start = System.nanoTime();
+        Instant cutoff = clock.instant().minus(minAge);
+
+        // Loaded before listing: an asset saved after this point has a new object, protected by minAge
+        String[] expected = playerAssetRepository.findAll().stream()
+                .map(PlayerAsset::getFilename)
+                .flatMap(filename -> HeadshotService.s3Keys(filename).stream())
+                .sorted()
+                .distinct()
+                .toArray(String[]::new);
+
+        Pass pass = new Pass();
+        assetService.listImages(HeadshotService.HEADSHOT_FOLDER + "/", page -> {
+            for (S3Object object : page) {
+                pass.scanned++;
+                if (Arrays.binarySearch(expected, object.key()) >= 0) {
+                    continue;
+                }
+                pass.orphaned++;
+                if (object.lastModified() != null && object.lastModified().isAfter(cutoff)) {
+                    pass.skippedRecent++;
+                } else if (pass.deleted + pass.failed + pass.batch.size() < maxDeletes) {
+                    pass.batch.add(object.key());
+                    if (pass.batch.size() == AssetService.MAX_DELETE_BATCH) {
+                        deleteBatch(pass);
+                    }
+                }
+            }
+        });
+        deleteBatch(pass);
+
+        return new HeadshotReconciliationReport(pass.scanned, expected.length, pass.orphaned, pass.deleted,
+                pass.failed, pass.skippedRecent, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private void deleteBatch(Pass pass) {
+        if (pass.batch.isEmpty()) {
+            return;
+        }
+        int failed;
+        try {
+            failed = assetService.deleteImages(List.copyOf(pass.batch)).size();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to delete {} orphaned headshot objects: {}", pass.batch.size(), e.getMessage());
+            failed = pass.batch.size();
+        }
+        pass.failed += failed;
+        pass.deleted += pass.batch.size() - failed;
+        pass.batch.clear();
+    }
+
+    /**
+     * Counters and the pending delete batch of one pass.
+     */
+    private static final class Pass {
+        private final List<String> batch = new ArrayList<>();
+        private int scanned;
+        private int orphaned;
+        private int deleted;
+        private int failed;
+        private int skippedRecent;
+    }
+}
@@ -0,0 +1,804 @@
+package devybigboard.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import devybigboard.dao.PlayerAssetRepository;
+import devybigboard.exceptions.ValidationException;
+import devybigboard.models.HeadshotBundle;
+import devybigboard.models.HeadshotCacheStats;
+import devybigboard.models.HeadshotContent;
+import devybigboard.models.HeadshotImage;
+import devybigboard.models.HeadshotKey;
+import devybigboard.models.PlayerAsset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Service for reading player headshots through two cache tiers:
+ * a byte-bounded in-memory cache, then a local disk store, then S3.
+ *
+ * Besides the original upload, every headshot has JPEG renditions that fit in
+ * RENDITION_SIZES pixel boxes, stored under players/headshots/{size}/. Renditions are created
+ * on upload; headshots uploaded before they existed get them on first request.
+ *
+ * Images up to maxEntryBytes are held in memory. Larger ones are streamed from the disk file
+ * or the S3 response body with a bounded buffer, so serving them never costs heap proportional
+ * to the image size. Images fetched from S3 are streamed to disk first, so a restart does not
+ * have to fetch them again.
+ *
+ * Concurrent misses for the same headshot share one load: the first request reads it into the
+ * memory or disk tier and the others wait for it, then serve from that tier.
+ *
+ * For pages that show many players, every rendition of one size is also available as a single
+ * bundle. Bundles are written to the disk tier and streamed from there until the set of
+ * PlayerAsset rows changes; they never take space in the memory tier.
+ */
+@Service
+public class HeadshotService {
+
+    public static final String HEADSHOT_FOLDER = "players/headshots";
+
+    /** Rendition bounding boxes in pixels, smallest first. */
+    public static final List<Integer> RENDITION_SIZES = List.of(64, 128, 256);
+
+    /** Buffer size used when copying a headshot stream to a response. */
+    static final int STREAM_BUFFER_SIZE = 16 * 1024;
+
+    /** Renditions fetched ahead of the one being written while building a bundle. */
+    static final int BUNDLE_FETCH_WINDOW = 16;
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadshotService.class);
+
+    private final AssetService assetService;
+    private final PlayerAssetRepository playerAssetRepository;
+    private final Cache<HeadshotKey, HeadshotImage> headshotCache;
+    private final HeadshotDiskStore diskStore;
+    private final long maxEntryBytes;
+    private final Executor s3Executor;
+    private final Map<HeadshotKey, CompletableFuture<Void>> loads = new ConcurrentHashMap<>();
+    private final Map<Integer, CompletableFuture<HeadshotBundle>> bundleBuilds = new ConcurrentHashMap<>();
+    /** The bundle on disk per size, with the asset generation it was built at. */
+    private final Map<Integer, PublishedBundle> bundles = new ConcurrentHashMap<>();
+    /** Per size, the bundle file replaced last, which requests may still be streaming. */
+    private final Map<Integer, String> retiredBundles = new ConcurrentHashMap<>();
+    /** Bumped whenever a headshot is added, replaced or removed, so published bundles are rebuilt. */
+    private final TransactionalVersion assetGeneration = new TransactionalVersion();
+
+    public HeadshotService(AssetService assetService, PlayerAssetRepository playerAssetRepository,
+                           Cache<HeadshotKey, HeadshotImage> headshotCache, HeadshotDiskStore diskStore,
+                           @Value("${app.headshots.cache.max-entry-bytes:1048576}") long maxEntryBytes,
+                           @Qualifier("s3Executor") Executor s3Executor) {
+        this.assetService = assetService;
+        this.playerAssetRepository = playerAssetRepository;
+        this.headshotCache = headshotCache;
+        this.diskStore = diskStore;
+        this.maxEntryBytes = maxEntryBytes;
+        this.s3Executor = s3Executor;
+    }
+
+    /**
+     * Open a player's original headshot for writing to a response.
+     *
+     * @param playerId the player ID
+     * @return the headshot with its type and length, or empty if the player has none
+     */
+    public Optional<HeadshotContent> openHeadshot(long playerId) {
+        return openHeadshot(playerId, 0);
+    }
+
+    /**
+     * Open a player's headshot at a given size, from the first tier that has it.
+     * Falls back to the original if a rendition cannot be created, e.g. for formats ImageIO cannot decode.
+     *
+     * @param playerId the player ID
+     * @param size one of RENDITION_SIZES, or 0 for the original
+     * @return the headshot with its type and length, or empty if the player has none
+     * @throws ValidationException if the size is not supported
+     */
+    public Optional<HeadshotContent> openHeadshot(long playerId, int size) {
+        checkSize(size);
+
+        HeadshotImage cached = headshotCache.getIfPresent(new HeadshotKey(playerId, size));
+        if (cached != null) {
+            return Optional.of(HeadshotContent.of(cached));
+        }
+
+        return playerAssetRepository.findByPlayerId(playerId)
+                .map(asset -> loadShared(playerId, asset.getFilename(), size));
+    }
+
+    /**
+     * Open the headshot of an already loaded asset, e.g. after a conditional request did not match.
+     *
+     * @param asset the player's asset
+     * @param size one of RENDITION_SIZES, or 0 for the original
+     * @return the headshot with its type and length
+     * @throws ValidationException if the size is not supported
+     */
+    public HeadshotContent openHeadshot(PlayerAsset asset, int size) {
+        checkSize(size);
+
+        long playerId = asset.getPlayerId();
+        HeadshotImage cached = headshotCache.getIfPresent(new HeadshotKey(playerId, size));
+        if (cached != null) {
+            return HeadshotContent.of(cached);
+        }
+        return loadShared(playerId, asset.getFilename(), size);
+    }
+
+    /**
+     * Open the headshot of an already loaded asset without blocking the caller on disk or S3 I/O.
+     * Memory hits complete immediately; anything else is loaded on the S3 executor.
+     *
+     * @param asset the player's asset
+     * @param size one of RENDITION_SIZES, or 0 for the original
+     * @return the headshot with its type and length
+     * @throws ValidationException if the size is not supported
+     */
+    public CompletableFuture<HeadshotContent> openHeadshotAsync(PlayerAsset asset, int size) {
+        checkSize(size);
+
+        long playerId = asset.getPlayerId();
+        HeadshotImage cached = headshotCache.getIfPresent(new HeadshotKey(playerId, size));
+        if (cached != null) {
+            return CompletableFuture.completedFuture(HeadshotContent.of(cached));
+        }
+
+        // Join a load already in flight without holding an executor thread while it runs
+        CompletableFuture<Void> running = loads.get(new HeadshotKey(playerId, size));
+        if (running != null) {
+            return running.handle((ignored, failure) -> failure)
+                    .thenApplyAsync(failure -> afterSharedLoad(playerId, asset.getFilename(), size, failure),
+                            s3Executor);
+        }
+        return CompletableFuture.supplyAsync(() -> loadShared(playerId, asset.getFilename(), size), s3Executor);
+    }
+
+    private static void checkSize(int size) {
+        if (size != 0 && !RENDITION_SIZES.contains(size)) {
+            throw new ValidationException("size must be one of " + RENDITION_SIZES);
+        }
+    }
+
+    /**
+     * Get the version of an asset's image: its content hash, or its filename if it has none.
+     * Filenames are unique per upload, so both change whenever the image does.
+     *
+     * @param asset the player's asset
+     * @return the version
+     */
+    public static String version(PlayerAsset asset) {
+        return asset.getContentHash() != null ? asset.getContentHash() : asset.getFilename();
+    }
+
+    /**
+     * Get the strong ETag of an asset's headshot at a size, without reading the image.
+     * Renditions are derived from the original, so their ETags are too.
+     *
+     * @param asset the player's asset
+     * @param size one of RENDITION_SIZES, or 0 for the original
+     * @return the quoted ETag
+     */
+    public static String etag(PlayerAsset asset, int size) {
+        return "\"" + version(asset) + (size != 0 ? "-" + size : "") + "\"";
+    }
+
+    /**
+     * Hash an uploaded image for PlayerAsset.contentHash.
+     *
+     * @param in the image; not closed
+     * @return the hex SHA-256 of the stream
+     * @throws IOException if the stream cannot be read
+     */
+    public static String contentHash(InputStream in) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Copy an uploaded image to a file and hash it for PlayerAsset.contentHash in the same pass,
+     * so the upload is read only once.
+     *
+     * @param in the image; not closed
+     * @param target the file to write, replaced if it exists
+     * @return the hex SHA-256 of the stream
+     * @throws IOException if the stream cannot be read or the file cannot be written
+     */
+    public static String copyAndHash(InputStream in, Path target) throws IOException {
+        MessageDigest digest = sha256();
+        Files.copy(new DigestInputStream(in, digest), target, StandardCopyOption.REPLACE_EXISTING);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Get every player's rendition of one size as a single bundle.
+     * A published bundle completes immediately; otherwise one build per size runs on the S3 executor
+     * and concurrent requests for that size wait for it.
+     *
+     * @param size one of RENDITION_SIZES
+     * @return the bundle and its ETag
+     * @throws ValidationException if the size is not supported
+     */
+    public CompletableFuture<HeadshotBundle> getBundle(int size) {
+        if (!RENDITION_SIZES.contains(size)) {
+            throw new ValidationException("size must be one of " + RENDITION_SIZES);
+        }
+
+        PublishedBundle published = bundles.get(size);
+        if (published != null && published.generation() == assetGeneration.get()) {
+            return CompletableFuture.completedFuture(published.bundle());
+        }
+
+        CompletableFuture<HeadshotBundle> build = new CompletableFuture<>();
+        CompletableFuture<HeadshotBundle> running = bundleBuilds.putIfAbsent(size, build);
+        if (running != null) {
+            return running;
+        }
+        s3Executor.execute(() -> {
+            try {
+                build.complete(buildBundle(size));
+            } catch (RuntimeException | Error e) {
+                build.completeExceptionally(e);
+            } finally {
+                bundleBuilds.remove(size, build);
+            }
+        });
+        return build;
+    }
+
+    /**
+     * Name a bundle after the rows it is built from: a hash of every (player ID, headshot version)
+     * pair in player order. The ETag is the quoted name, so it only changes when a headshot does.
+     *
+     * @param assets the assets, sorted by player ID
+     */
+    private static String bundleName(int size, List<PlayerAsset> assets) {
+        MessageDigest digest = sha256();
+        for (PlayerAsset asset : assets) {
+            digest.update((asset.getPlayerId() + ":" + version(asset) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return "bundle-" + size + "-" + HexFormat.of().formatHex(digest.digest(), 0, 16) + ".bin";
+    }
+
+    private List<PlayerAsset> assetsByPlayer() {
+        List<PlayerAsset> assets = new ArrayList<>(playerAssetRepository.findAll());
+        assets.sort(Comparator.comparing(PlayerAsset::getPlayerId));
+        return assets;
+    }
+
+    /**
+     * Build the bundle described on HeadshotBundle from one read of the asset table, which both
+     * names it and lists its entries, so the ETag always matches the body.
+     *
+     * With the disk tier, the bundle is written to disk once and streamed from there; a file left
+     * by an earlier run for the same rows is reused as is. Without it, or if the file cannot be
+     * written, the bundle is encoded for this request only, so it never displaces single
+     * headshots from the memory tier.
+     *
+     * The generation is read before the assets, so if a headshot changes during the build the
+     * bundle is not published and the next request builds again.
+     */
+    private HeadshotBundle buildBundle(int size) {
+        long generation = assetGeneration.get();
+        List<PlayerAsset> assets = assetsByPlayer();
+        String name = bundleName(size, assets);
+        String etag = "\"" + name + "\"";
+
+        if (diskStore.isEnabled()
+                && (diskStore.contains(name) || diskStore.write(name, channel -> writeBundle(size, assets, channel)))) {
+            Optional<Long> length = diskStore.size(name);
+            if (length.isPresent()) {
+                HeadshotBundle bundle = new HeadshotBundle(etag, size, new HeadshotContent(name,
+                        MediaType.APPLICATION_OCTET_STREAM_VALUE, length.get(), out -> diskStore.transferTo(name, out)));
+                publish(size, generation, bundle);
+                return bundle;
+            }
+        }
+
+        byte[] bytes = encodeBundle(size, assets);
+        return new HeadshotBundle(etag, size, new HeadshotContent(name,
+                MediaType.APPLICATION_OCTET_STREAM_VALUE, bytes.length, out -> out.write(bytes)));
+    }
+
+    /**
+     * Serve a bundle file until the next headshot change. The file it replaces may still be
+     * streaming to a client, so it is only deleted when it is replaced in turn.
+     */
+    private void publish(int size, long generation, HeadshotBundle bundle) {
+        if (assetGeneration.get() != generation) {
+            return;
+        }
+        String name = bundle.content().filename();
+        PublishedBundle previous = bundles.put(size, new PublishedBundle(generation, bundle));
+        if (previous == null || previous.bundle().content().filename().equals(name)) {
+            return;
+        }
+        String retired = retiredBundles.put(size, previous.bundle().content().filename());
+        if (retired != null && !retired.equals(name)) {
+            diskStore.delete(retired);
+        }
+    }
+
+    /**
+     * Write a bundle to a disk tier file, filling in the entry count once every entry is written.
+     */
+    private void writeBundle(int size, List<PlayerAsset> assets, FileChannel channel) throws IOException {
+        channel.position(Integer.BYTES);
+        DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), STREAM_BUFFER_SIZE));
+        int count = writeEntries(size, assets, out);
+        out.flush();
+        channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, count), 0);
+        logger.info("Wrote {}px headshot bundle to disk: {} players, {} bytes", size, count, channel.size());
+    }
+
+    private byte[] encodeBundle(int size, List<PlayerAsset> assets) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(0);
+            int count = writeEntries(size, assets, out);
+            out.flush();
+            byte[] bytes = buffer.toByteArray();
+            ByteBuffer.wrap(bytes).putInt(0, count);
+            logger.info("Built {}px headshot bundle in memory: {} players, {} bytes", size, count, bytes.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode headshot bundle", e);
+        }
+    }
+
+    /**
+     * Write one entry per player, in player order, while the next BUNDLE_FETCH_WINDOW renditions
+     * are fetched in parallel on the S3 executor. Only the window is held in memory.
+     *
+     * @return the number of entries written
+     */
+    private int writeEntries(int size, List<PlayerAsset> assets, DataOutputStream out) throws IOException {
+        Deque<CompletableFuture<BundleEntry>> window = new ArrayDeque<>();
+        Iterator<PlayerAsset> pending = assets.iterator();
+        int count = 0;
+        while (pending.hasNext() || !window.isEmpty()) {
+            while (pending.hasNext() && window.size() < BUNDLE_FETCH_WINDOW) {
+                PlayerAsset asset = pending.next();
+                window.add(CompletableFuture.supplyAsync(() -> readEntry(asset, size), s3Executor));
+            }
+            BundleEntry entry = window.poll().join();
+            if (entry == null) {
+                continue;
+            }
+            out.writeLong(entry.playerId());
+            out.writeUTF(entry.contentType());
+            out.writeInt(entry.bytes().length);
+            out.write(entry.bytes());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Read one bundle entry. Players whose headshot cannot be read are left out and logged,
+     * so one missing S3 object does not fail the whole page.
+     *
+     * @return the entry, or null to leave the player out
+     */
+    private BundleEntry readEntry(PlayerAsset asset, int size) {
+        long playerId = asset.getPlayerId();
+        try {
+            HeadshotImage cached = headshotCache.getIfPresent(new HeadshotKey(playerId, size));
+            if (cached != null) {
+                return new BundleEntry(playerId, cached.contentType(), cached.bytes());
+            }
+            HeadshotContent content = loadShared(playerId, asset.getFilename(), size);
+            ByteArrayOutputStream image = new ByteArrayOutputStream();
+            content.body().writeTo(image);
+            return new BundleEntry(playerId, content.contentType(), image.toByteArray());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Leaving headshot of player {} out of the bundle: {}", playerId, e.getMessage());
+            return null;
+        }
+    }
+
+    private record BundleEntry(long playerId, String contentType, byte[] bytes) {
+    }
+
+    private record PublishedBundle(long generation, HeadshotBundle bundle) {
+    }
+
+    /**
+     * Open a headshot that is not in the memory tier, sharing the load with concurrent misses.
+     * The first caller loads it; the others wait, then serve it from the tier it was loaded into.
+     * Only large images with the disk tier disabled cannot be shared, since their S3 stream is
+     * read once; those callers open their own stream.
+     */
+    private HeadshotContent loadShared(long playerId, String filename, int size) {
+        HeadshotKey key = new HeadshotKey(playerId, size);
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running = loads.putIfAbsent(key, mine);
+        if (running != null) {
+            Throwable failure = running.handle((ignored, e) -> e).join();
+            return afterSharedLoad(playerId, filename, size, failure);
+        }
+
+        try {
+            HeadshotContent content = load(playerId, filename, size);
+            mine.complete(null);
+            return content;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, mine);
+        }
+    }
+
+    /**
+     * Serve a headshot after waiting for another request's load of it,
+     * rethrowing that load's failure so a missing image is not fetched again by every waiter.
+     */
+    private HeadshotContent afterSharedLoad(long playerId, String filename, int size, Throwable failure) {
+        if (failure instanceof CompletionException wrapped && wrapped.getCause() != null) {
+            failure = wrapped.getCause();
+        }
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        HeadshotImage cached = headshotCache.getIfPresent(new HeadshotKey(playerId, size));
+        return cached != null ? HeadshotContent.of(cached) : load(playerId, filename, size);
+    }
+
+    /**
+     * Open a headshot that is not in the memory tier.
+     */
+    private HeadshotContent load(long playerId, String filename, int size) {
+        HeadshotKey key = new HeadshotKey(playerId, size);
+        if (size == 0) {
+            return open(key, Variant.original(filename));
+        }
+        try {
+            return open(key, Variant.rendition(filename, size));
+        } catch (NoSuchKeyException e) {
+            if (backfillRenditions(filename)) {
+                return open(key, Variant.rendition(filename, size));
+            }
+            return open(HeadshotKey.original(playerId), Variant.original(filename));
+        }
+    }
+
+    /**
+     * Render and store every rendition of a newly uploaded headshot.
+     * Failures are logged; missing renditions are created on first request instead.
+     *
+     * @param filename the PlayerAsset filename of the original
+     * @param original the original image; not closed
+     * @return true if the renditions were stored
+     */
+    public boolean createRenditions(String filename, InputStream original) {
+        try {
+            Map<Integer, byte[]> renditions = ThumbnailRenderer.render(original, RENDITION_SIZES);
+            if (renditions.isEmpty()) {
+                logger.warn("Cannot create renditions of headshot {}: unsupported image format", filename);
+                return false;
+            }
+            renditions.forEach((size, bytes) -> {
+                Variant variant = Variant.rendition(filename, size);
+                assetService.putImage(variant.s3Key(), bytes, ThumbnailRenderer.CONTENT_TYPE);
+                diskStore.write(variant.diskName(), bytes);
+            });
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to create renditions of headshot {}", filename, e);
+            return false;
+        }
+    }
+
+    private boolean backfillRenditions(String filename) {
+        logger.info("Creating missing renditions of headshot {}", filename);
+        try (InputStream original = assetService.openImage(Variant.original(filename).s3Key())) {
+            return createRenditions(filename, original);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to read headshot {} for renditions", filename, e);
+            return false;
+        }
+    }
+
+    private HeadshotContent open(HeadshotKey key, Variant variant) {
+        if (diskStore.isEnabled()) {
+            Optional<HeadshotContent> fromDisk = openFromDisk(key, variant);
+            if (fromDisk.isPresent()) {
+                return fromDisk.get();
+            }
+        }
+        return openFromS3(key, variant);
+    }
+
+    /**
+     * Serve from the disk tier, downloading the file from S3 first on a disk miss.
+     * Returns empty if the file could not be written, so the caller falls back to S3.
+     */
+    private Optional<HeadshotContent> openFromDisk(HeadshotKey key, Variant variant) {
+        String diskName = variant.diskName();
+        if (!diskStore.contains(diskName)) {
+            try (InputStream in = assetService.openImage(variant.s3Key())) {
+                if (!diskStore.write(diskName, in)) {
+                    return Optional.empty();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read headshot " + variant.s3Key(), e);
+            }
+        }
+
+        Optional<Long> size = diskStore.size(diskName);
+        if (size.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String contentType = contentType(diskName, null);
+        if (size.get() <= maxEntryBytes) {
+            Optional<byte[]> bytes = diskStore.read(diskName);
+            if (bytes.isPresent()) {
+                return Optional.of(HeadshotContent.of(remember(key, new HeadshotImage(diskName, contentType, bytes.get()))));
+            }
+            return Optional.empty();
+        }
+        return Optional.of(new HeadshotContent(diskName, contentType, size.get(),
+                out -> diskStore.transferTo(diskName, out)));
+    }
+
+    /**
+     * Serve straight from S3. Small images are read into memory and cached;
+     * larger ones keep the S3 stream open until the response body is written.
+     */
+    private HeadshotContent openFromS3(HeadshotKey key, Variant variant) {
+        String name = variant.diskName();
+        ResponseInputStream<GetObjectResponse> in = assetService.openImage(variant.s3Key());
+        GetObjectResponse metadata = in.response();
+        String contentType = contentType(name, metadata.contentType());
+        Long length = metadata.contentLength();
+
+        if (length == null || length <= maxEntryBytes) {
+            try (in) {
+                byte[] bytes = in.readAllBytes();
+                HeadshotImage image = new HeadshotImage(name, contentType, bytes);
+                return HeadshotContent.of(bytes.length <= maxEntryBytes ? remember(key, image) : image);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read headshot " + variant.s3Key(), e);
+            }
+        }
+
+        return new HeadshotContent(name, contentType, length, out -> {
+            try (in) {
+                copy(in, out);
+            }
+        });
+    }
+
+    private HeadshotImage remember(HeadshotKey key, HeadshotImage image) {
+        headshotCache.put(key, image);
+        return image;
+    }
+
+    /**
+     * Copy a stream with a fixed-size buffer.
+     */
+    static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    /**
+     * Resolve the MIME type from the file extension, then the stored S3 content type.
+     */
+    static String contentType(String filename, String storedContentType) {
+        return MediaTypeFactory.getMediaType(filename)
+                .map(MediaType::toString)
+                .orElse(storedContentType != null && storedContentType.startsWith("image/")
+                        ? storedContentType
+                        : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    /**
+     * Get the S3 keys of a headshot's original and every rendition.
+     *
+     * @param filename the PlayerAsset filename
+     * @return the keys, original first
+     */
+    public static List<String> s3Keys(String filename) {
+        return variants(filename).stream().map(Variant::s3Key).toList();
+    }
+
+    private static List<Variant> variants(String filename) {
+        List<Variant> variants = new ArrayList<>();
+        variants.add(Variant.original(filename));
+        for (int size : RENDITION_SIZES) {
+            variants.add(Variant.rendition(filename, size));
+        }
+        return variants;
+    }
+
+    /**
+     * Drop a player's cached headshots and mark the bundles that contain them for rebuilding,
+     * e.g. after a new upload or when the player is deleted.
+     *
+     * @param playerId the player ID
+     */
+    public void evict(long playerId) {
+        assetGeneration.bump();
+        headshotCache.invalidate(HeadshotKey.original(playerId));
+        for (int size : RENDITION_SIZES) {
+            headshotCache.invalidate(new HeadshotKey(playerId, size));
+        }
+    }
+
+    /**
+     * Delete a replaced headshot's original and renditions from S3 and the disk tier.
+     *
+     * @param filename the old PlayerAsset filename
+     */
+    public void deleteHeadshotFiles(String filename) {
+        for (Variant variant : variants(filename)) {
+            diskStore.delete(variant.diskName());
+            assetService.deleteImage(variant.s3Key());
+        }
+    }
+
+    /**
+     * Drop every cached headshot from memory and disk, e.g. after a bulk delete.
+     */
+    public void evictAll() {
+        assetGeneration.bump();
+        headshotCache.invalidateAll();
+        diskStore.retainOnly(Set.of());
+    }
+
+    /**
+     * Warm the disk tier in the background once the application is ready:
+     * download every headshot that is not on disk yet and remove files no asset or bundle refers to.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmDiskOnStartup() {
+        if (!diskStore.isEnabled()) {
+            return;
+        }
+        Thread.ofVirtual().name("headshot-disk-warmup").start(this::warmDisk);
+    }
+
+    /**
+     * Bring the disk tier in line with player_assets, originals and renditions alike.
+     * Renditions missing from S3 are skipped; they are created on first request.
+     * Bundle files for the current rows are kept, so they are reused after a restart.
+     *
+     * @return the number of files downloaded
+     */
+    int warmDisk() {
+        List<PlayerAsset> assets = assetsByPlayer();
+        List<Variant> variants = assets.stream()
+                .map(PlayerAsset::getFilename)
+                .distinct()
+                .flatMap(filename -> variants(filename).stream())
+                .toList();
+        Set<String> retained = variants.stream().map(Variant::diskName).collect(Collectors.toCollection(HashSet::new));
+        for (int size : RENDITION_SIZES) {
+            retained.add(bundleName(size, assets));
+        }
+        bundles.values().forEach(published -> retained.add(published.bundle().content().filename()));
+        retained.addAll(retiredBundles.values());
+        int pruned = diskStore.retainOnly(retained);
+
+        int downloaded = 0;
+        int missing = 0;
+        int failed = 0;
+        for (Variant variant : variants) {
+            if (diskStore.contains(variant.diskName())) {
+                continue;
+            }
+            try (InputStream in = assetService.openImage(variant.s3Key())) {
+                if (diskStore.write(variant.diskName(), in)) {
+                    downloaded++;
+                } else {
+                    failed++;
+                }
+            } catch (NoSuchKeyException e) {
+                missing++;
+            } catch (IOException | RuntimeException e) {
+                failed++;
+                logger.warn("Failed to warm headshot {}: {}", variant.s3Key(), e.getMessage());
+            }
+        }
+        logger.info("Headshot disk cache warmed: {} downloaded, {} missing, {} failed, {} pruned, {} total",
+                downloaded, missing, failed, pruned, variants.size());
+        return downloaded;
+    }
+
+    /**
+     * One stored form of a headshot: where it lives in S3 and under which name on disk.
+     * Disk names are flat, so renditions are prefixed with their size.
+     */
+    private record Variant(String s3Key, String diskName) {
+
+        static Variant original(String filename) {
+            return new Variant(HEADSHOT_FOLDER + "/" + filename, filename);
+        }
+
+        static Variant rendition(String filename, int size) {
+            int dot = filename.lastIndexOf('.');
+            String name = (dot > 0 ? filename.substring(0, dot) : filename) + ThumbnailRenderer.EXTENSION;
+            return new Variant(HEADSHOT_FOLDER + "/" + size + "/" + name, size + "_" + name);
+        }
+    }
+
+    /**
+     * Get the cache counters.
+     *
+     * @return a snapshot of size, hit, miss and eviction counts
+     */
+    public HeadshotCacheStats getCacheStats() {
+        CacheStats stats = headshotCache.stats();
+        var eviction = headshotCache.policy().eviction().orElseThrow();
+        return new HeadshotCacheStats(headshotCache.estimatedSize(),
+                eviction.weightedSize().orElse(0L), eviction.getMaximum(),
+                stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate());
+    }
+}
@@ -0,0 +1,188 @@
+package devybigboard.services;
+
+import devybigboard.dao.DraftDao;
+import devybigboard.dao.PlayerDao;
+import devybigboard.exceptions.FilterNotFoundException;
+import devybigboard.exceptions.ValidationException;
+import devybigboard.models.FilterBatchRequest;
+import devybigboard.models.FilterBatchResponse;
+import devybigboard.models.LeagueFilter;
+import devybigboard.models.Player;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for league filters: lists of players already rostered in a league,
+ * which are hidden from the filtered ADP board.
+ *
+ * Each filter's players are cached in memory as a compact ID set. A change to a filter
+ * invalidates only that filter's set, so the filtered board never needs a query per request.
+ */
+@Service
+public class LeagueFilterService {
+
+    /** Maximum number of player IDs in each list of a batch request. */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final DraftDao draftDao;
+    private final PlayerDao playerDao;
+
+    /** Version of each filter changed since startup; filters without one are at version 0. */
+    private final Map<Long, TransactionalVersion> filterVersions = new ConcurrentHashMap<>();
+    private final Map<Long, CachedIds> playerIds = new ConcurrentHashMap<>();
+
+    public LeagueFilterService(DraftDao draftDao, PlayerDao playerDao) {
+        this.draftDao = draftDao;
+        this.playerDao = playerDao;
+    }
+
+    public List<LeagueFilter> getAllLeagueFilters() {
+        return draftDao.getAllLeagueFilters();
+    }
+
+    public long createLeagueFilter(String leagueName) {
+        return draftDao.createFilter(leagueName);
+    }
+
+    /**
+     * Add one player to a filter.
+     *
+     * @param filterId the filter to change
+     * @param player the player to add; only its ID is used
+     * @throws FilterNotFoundException if the filter does not exist
+     * @throws ValidationException if the player has no ID or does not exist
+     */
+    @Transactional
+    public void addPlayerToFilter(long filterId, Player player) {
+        long playerId = requirePlayerId(player);
+        if (playerDao.countExistingPlayers(List.of(playerId)) != 1) {
+            throw new ValidationException("Unknown player id " + playerId);
+        }
+        lockFilter(filterId);
+        draftDao.addPlayerToFilter(filterId, playerId);
+        invalidate(filterId);
+    }
+
+    @Transactional
+    public void removePlayerFromFilter(long filterId, Player player) {
+        long playerId = requirePlayerId(player);
+        lockFilter(filterId);
+        draftDao.removePlayerFromFilter(filterId, playerId);
+        invalidate(filterId);
+    }
+
+    /**
+     * Add and remove many players in one transaction, using one JDBC batch per list.
+     * Either every change is applied or none is.
+     *
+     * @param filterId the filter to change
+     * @param request the player IDs to add and to remove
+     * @return the filter version and player count after the change
+     * @throws FilterNotFoundException if the filter does not exist
+     * @throws ValidationException if a list is too long, a player is in both lists or does not exist
+     */
+    @Transactional
+    public FilterBatchResponse applyBatch(long filterId, FilterBatchRequest request) {
+        List<Long> add = distinctIds(request.add(), "add");
+        List<Long> remove = distinctIds(request.remove(), "remove");
+        if (add.stream().anyMatch(new HashSet<>(remove)::contains)) {
+            throw new ValidationException("A player cannot be both added and removed");
+        }
+        if (playerDao.countExistingPlayers(add) != add.size()) {
+            throw new ValidationException("Unknown player id in add");
+        }
+
+        // Lock the filter first so concurrent batches on it are serialized
+        lockFilter(filterId);
+        if (!remove.isEmpty()) {
+            draftDao.removePlayersFromFilter(filterId, remove);
+        }
+        if (!add.isEmpty()) {
+            draftDao.addPlayersToFilter(filterId, add);
+        }
+        invalidate(filterId);
+
+        return new FilterBatchResponse(filterId, draftDao.getFilterVersion(filterId), draftDao.countFilterPlayers(filterId));
+    }
+
+    public void deleteLeagueFilter(long filterId) {
+        draftDao.deleteFilter(filterId);
+        invalidate(filterId);
+    }
+
+    /**
+     * Get the IDs of the players in a filter, from the in-memory cache when it is current.
+     *
+     * @param filterId the filter to read
+     * @return the filter's player IDs; empty if the filter does not exist
+     */
+    PlayerIdSet getPlayerIds(long filterId) {
+        long version = versionOf(filterId);
+        CachedIds cached = playerIds.get(filterId);
+        if (cached != null && cached.version() == version) {
+            return cached.ids();
+        }
+
+        long[] ids = draftDao.getFilterPlayerIds(filterId);
+        PlayerIdSet loaded = ids.length == 0 ? PlayerIdSet.EMPTY : PlayerIdSet.of(ids);
+        // Only publish if the filter did not change while the IDs were loading
+        if (version == versionOf(filterId)) {
+            playerIds.put(filterId, new CachedIds(version, loaded));
+        }
+        return loaded;
+    }
+
+    private void lockFilter(long filterId) {
+        if (!draftDao.incrementFilterVersion(filterId)) {
+            throw new FilterNotFoundException(filterId);
+        }
+    }
+
+    /**
+     * Validate one list of a batch and return its distinct IDs in ascending order,
+     * so concurrent batches touch rows in the same order.
+     */
+    private static List<Long> distinctIds(List<Long> ids, String name) {
+        if (ids == null) {
+            return List.of();
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException(name + " must contain at most " + MAX_BATCH_SIZE + " players");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new ValidationException(name + " must not contain null ids");
+        }
+        Set<Long> distinct = new HashSet<>(ids);
+        return distinct.stream().sorted().toList();
+    }
+
+    private long versionOf(long filterId) {
+        TransactionalVersion version = filterVersions.get(filterId);
+        return version != null ? version.get() : 0;
+    }
+
+    /**
+     * Drop one filter's cached IDs. Versions are only created when a filter is changed,
+     * never on reads, so lookups of unknown filter IDs do not grow the map.
+     */
+    private void invalidate(long filterId) {
+        filterVersions.computeIfAbsent(filterId, id -> new TransactionalVersion()).bump();
+        playerIds.remove(filterId);
+    }
+
+    private static long requirePlayerId(Player player) {
+        if (player == null || player.getId() == null) {
+            throw new ValidationException("Player id is required");
+        }
+        return player.getId();
+    }
+
+    private record CachedIds(long version, PlayerIdSet ids) {}
+}
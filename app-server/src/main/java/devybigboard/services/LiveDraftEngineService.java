@@ -0,0 +1,527 @@
+package devybigboard.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import devybigboard.dao.DraftDao;
+import devybigboard.exceptions.DraftNotFoundException;
+import devybigboard.exceptions.ValidationException;
+import devybigboard.models.*;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Service that owns the in-memory {@link DraftEngine} for every active live draft.
+ * Picks, force-picks and undos are validated and applied against the engine,
+ * then written through to draft_picks/drafts in the background,
+ * so pick latency does not depend on database round trips.
+ *
+ * Commands for a draft run one at a time on that draft's lane of a small command pool,
+ * and its writes are queued, in command order, on its lane of a separate writer pool.
+ * Concurrent picks and undos for one draft are therefore applied strictly in sequence
+ * without database row locks, while different drafts proceed in parallel. Each command's events
+ * are broadcast from its lane, so they are published in sequence order. Commands still
+ * take the engine lock so state snapshots read on other threads never see half a command.
+ *
+ * Picks may carry a client-generated command ID. The outcome of each such command is kept for a
+ * short window, and a resent command is answered from it instead of being applied again.
+ *
+ * Engines are loaded lazily from the database the first time a draft is touched
+ * and are dropped after a period of inactivity or when a background write fails,
+ * in which case the next command reloads the authoritative state from the database.
+ * Each write only applies if the drafts row is still at the version the engine expects,
+ * so an engine never overwrites a change made by another writer. Events for the dropped changes
+ * have already been broadcast, so a RESYNC event tells the draft's clients to fetch a fresh snapshot.
+ */
+@Service
+public class LiveDraftEngineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveDraftEngineService.class);
+    private static final int ENGINE_IDLE_TIMEOUT_MINUTES = 120;
+    private static final int MAX_RECENT_COMMANDS = 10_000;
+
+    private final DraftDao draftDao;
+    private final AdpService adpService;
+    private final PlayerService playerService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    private final Map<String, DraftEngine> engines = new ConcurrentHashMap<>();
+    private final DraftCommandExecutor commands;
+    private final DraftCommandExecutor writers;
+    private final Cache<CommandKey, CommandOutcome> recentCommands;
+
+    public LiveDraftEngineService(DraftDao draftDao,
+                                  AdpService adpService,
+                                  PlayerService playerService,
+                                  SimpMessagingTemplate messagingTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.drafts.command-threads:4}") int commandThreads,
+                                  @Value("${app.drafts.writer-threads:4}") int writerThreads,
+                                  @Value("${app.drafts.command-dedupe-window:2m}") Duration commandDedupeWindow) {
+        this.draftDao = draftDao;
+        this.adpService = adpService;
+        this.playerService = playerService;
+        this.messagingTemplate = messagingTemplate;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.commands = new DraftCommandExecutor("draft-command", commandThreads);
+        this.writers = new DraftCommandExecutor("draft-engine-writer", writerThreads);
+        this.recentCommands = Caffeine.newBuilder()
+            .expireAfterWrite(commandDedupeWindow)
+            .maximumSize(MAX_RECENT_COMMANDS)
+            .build();
+    }
+
+    /**
+     * Make a pick for the position whose turn it is.
+     *
+     * @param uuid the unique identifier of the draft
+     * @param playerId the ID of the player being picked
+     * @param position the position letter (A-Z) making the pick
+     * @param commandId the client's ID for this command, or null if it is never resent
+     * @return the PICK_MADE and TURN_CHANGED events that were broadcast, in sequence order
+     * @throws DraftNotFoundException if draft does not exist
+     * @throws ValidationException if it is not this position's turn, or the command ID was used for another command
+     * @throws IllegalStateException if draft is not in progress
+     * @throws IllegalArgumentException if player has already been picked
+     */
+    public DraftCommandResult makePick(String uuid, Long playerId, String position, String commandId) {
+        String fingerprint = "pick:" + playerId + ":" + position;
+        return runCommand(uuid, commandId, fingerprint, () -> {
+            DraftEngine engine = getEngine(uuid);
+            VerifiedPlayerPool pool = playerService.getVerifiedPlayerPool();
+            Player player = findPlayer(pool, playerId);
+
+            synchronized (engine) {
+                engine.attachPool(pool);
+                if (!engine.isTurn(position)) {
+                    throw new ValidationException("It's not your turn to pick");
+                }
+                PickMessage pick = engine.applyPick(player, position, null);
+                enqueuePickWrite(engine, pick);
+                return List.of(
+                    DraftEventMessage.pickMade(uuid, engine.nextSequence(), pick),
+                    turnChangedEvent(engine)
+                );
+            }
+        });
+    }
+
+    /**
+     * Force a pick for any position, bypassing turn validation.
+     *
+     * @param uuid the unique identifier of the draft
+     * @param playerId the ID of the player being picked
+     * @param targetPosition the position letter (A-Z) for whom the pick is being made
+     * @param forcingPosition the position letter (A-Z) of the participant forcing the pick
+     * @param commandId the client's ID for this command, or null if it is never resent
+     * @return the PICK_MADE and TURN_CHANGED events that were broadcast, in sequence order
+     * @throws DraftNotFoundException if draft does not exist
+     * @throws ValidationException if the command ID was used for another command
+     * @throws IllegalStateException if draft is not in progress
+     * @throws IllegalArgumentException if player has already been picked
+     */
+    public DraftCommandResult forcePick(String uuid, Long playerId, String targetPosition, String forcingPosition,
+                                        String commandId) {
+        String fingerprint = "force-pick:" + playerId + ":" + targetPosition + ":" + forcingPosition;
+        return runCommand(uuid, commandId, fingerprint, () -> {
+            DraftEngine engine = getEngine(uuid);
+            VerifiedPlayerPool pool = playerService.getVerifiedPlayerPool();
+            Player player = findPlayer(pool, playerId);
+
+            synchronized (engine) {
+                engine.attachPool(pool);
+                PickMessage pick = engine.applyPick(player, targetPosition, forcingPosition);
+                enqueuePickWrite(engine, pick);
+                return List.of(
+                    DraftEventMessage.pickMade(uuid, engine.nextSequence(), pick),
+                    turnChangedEvent(engine)
+                );
+            }
+        });
+    }
+
+    /**
+     * Undo the most recent pick.
+     *
+     * @param uuid the unique identifier of the draft
+     * @return the PICK_UNDONE and TURN_CHANGED events that were broadcast, in sequence order
+     * @throws DraftNotFoundException if draft does not exist
+     * @throws IllegalStateException if draft is not in progress or completed, or there are no picks
+     */
+    public List<DraftEventMessage> undoLastPick(String uuid) {
+        return runCommand(uuid, null, null, () -> {
+            DraftEngine engine = getEngine(uuid);
+            VerifiedPlayerPool pool = playerService.getVerifiedPlayerPool();
+
+            synchronized (engine) {
+                engine.attachPool(pool);
+                boolean wasCompleted = "COMPLETED".equals(engine.getStatus());
+                PickMessage removed = engine.undoLastPick();
+                enqueueUndoWrite(engine, removed, wasCompleted);
+                // Players no longer in the pool stay unavailable
+                return List.of(
+                    DraftEventMessage.pickUndone(uuid, engine.nextSequence(), removed,
+                        pool.findResponseById(removed.getPlayerId()),
+                        engine.nextAvailablePlayerId(removed.getPlayerId())),
+                    turnChangedEvent(engine)
+                );
+            }
+        }).events();
+    }
+
+    /**
+     * Get the position letter of the participant whose turn it is.
+     *
+     * @param uuid the unique identifier of the draft
+     * @return the position letter, or null if the draft is not in progress
+     * @throws DraftNotFoundException if draft does not exist
+     */
+    public String getCurrentTurn(String uuid) {
+        return getEngine(uuid).getCurrentTurnPosition();
+    }
+
+    /**
+     * Build the complete draft state snapshot from the in-memory engine.
+     * Only sent on request and at draft start; picks and undos are broadcast as events.
+     *
+     * @param uuid the unique identifier of the draft
+     * @return the draft state message
+     * @throws DraftNotFoundException if draft does not exist
+     */
+    public DraftStateMessage getDraftStateMessage(String uuid) {
+        DraftEngine engine = getEngine(uuid);
+
+        VerifiedPlayerPool pool = playerService.getVerifiedPlayerPool();
+
+        List<PickMessage> picks;
+        PlayerAvailability availability;
+        String status;
+        int currentRound;
+        int currentPick;
+        String currentTurn;
+        long sequence;
+        synchronized (engine) {
+            engine.attachPool(pool);
+            picks = engine.getPicks();
+            availability = engine.copyAvailability();
+            status = engine.getStatus();
+            currentRound = engine.getCurrentRound();
+            currentPick = engine.getCurrentPick();
+            currentTurn = engine.getCurrentTurnPosition();
+            sequence = engine.getSequence();
+        }
+
+        List<PlayerResponse> availablePlayers = availability.availablePlayerResponses();
+
+        DraftStateMessage message = new DraftStateMessage(
+            engine.getUuid(),
+            status,
+            currentRound,
+            currentPick,
+            currentTurn,
+            engine.getParticipantCount(),
+            engine.getTotalRounds(),
+            engine.isSnakeDraft(),
+            engine.getParticipants(),
+            picks,
+            availablePlayers
+        );
+        message.setSequence(sequence);
+        message.setPlayerPoolVersion(pool.getVersion());
+        return message;
+    }
+
+    /**
+     * Get the engine for a draft, loading it from the database if necessary.
+     * Only IN_PROGRESS and COMPLETED drafts are kept in memory; engines for drafts
+     * in any other status are built on demand and discarded.
+     *
+     * @param uuid the unique identifier of the draft
+     * @return the draft engine
+     * @throws DraftNotFoundException if draft does not exist
+     */
+    public DraftEngine getEngine(String uuid) {
+        DraftEngine engine = engines.get(uuid);
+        if (engine != null) {
+            engine.touch();
+            return engine;
+        }
+
+        // Read straight into the engine's DTOs; the draft's entities are never loaded
+        DraftEngine loaded = readTransaction.execute(status -> DraftEngine.fromView(
+            draftDao.findDraftStateView(uuid).orElseThrow(() -> new DraftNotFoundException(uuid))
+        ));
+
+        String draftStatus = loaded.getStatus();
+        if (!"IN_PROGRESS".equals(draftStatus) && !"COMPLETED".equals(draftStatus)) {
+            return loaded;
+        }
+
+        DraftEngine existing = engines.putIfAbsent(uuid, loaded);
+        if (existing == null) {
+            logger.info("Loaded draft engine for draft {} with {} picks", uuid, loaded.getPicks().size());
+            return loaded;
+        }
+        return existing;
+    }
+
+    /**
+     * Drop the in-memory engine for a draft so the next command reloads it from the database.
+     *
+     * @param uuid the unique identifier of the draft
+     */
+    public void evict(String uuid) {
+        if (engines.remove(uuid) != null) {
+            logger.info("Evicted draft engine for draft {}", uuid);
+        }
+        forgetCommands(uuid);
+    }
+
+    /**
+     * Scheduled task that drops engines that have not been touched recently.
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void evictIdleEngines() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(ENGINE_IDLE_TIMEOUT_MINUTES);
+        engines.values().removeIf(engine -> engine.getLastAccessMillis() < cutoff);
+    }
+
+    /**
+     * Finish queued commands, then drain pending writes before the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!commands.shutdown(10, TimeUnit.SECONDS)) {
+            logger.warn("Draft commands did not finish within 10 seconds");
+        }
+        if (!writers.shutdown(30, TimeUnit.SECONDS)) {
+            logger.warn("Draft engine writers did not drain within 30 seconds");
+        }
+    }
+
+    /**
+     * Run a command on the draft's command lane, broadcast its events from the lane, and wait for
+     * its result. Broadcasting before the lane moves on to the next command keeps the order events
+     * are published in the same as their sequence order.
+     * Exceptions thrown by the command are rethrown unchanged.
+     *
+     * If the command has an ID, its outcome is recorded, and a later command with the same ID
+     * returns the recorded events marked as replayed, or rethrows the recorded rule violation,
+     * without running again. Unexpected failures are not recorded so that a resend can succeed.
+     * The lookup and the command run on the same lane, so two copies can never both apply.
+     */
+    private DraftCommandResult runCommand(String uuid, String commandId, String fingerprint,
+                                          Supplier<List<DraftEventMessage>> command) {
+        Supplier<DraftCommandResult> task = () -> {
+            if (commandId == null) {
+                List<DraftEventMessage> events = command.get();
+                broadcast(uuid, events);
+                return new DraftCommandResult(events, false);
+            }
+            CommandKey key = new CommandKey(uuid, commandId);
+            CommandOutcome previous = recentCommands.getIfPresent(key);
+            if (previous != null) {
+                return previous.replay(fingerprint);
+            }
+            try {
+                List<DraftEventMessage> events = command.get();
+                recentCommands.put(key, new CommandOutcome(fingerprint, events, null));
+                broadcast(uuid, events);
+                return new DraftCommandResult(events, false);
+            } catch (ValidationException | IllegalStateException | IllegalArgumentException e) {
+                recentCommands.put(key, new CommandOutcome(fingerprint, null, e));
+                throw e;
+            }
+        };
+
+        try {
+            return commands.submit(uuid, task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Send a command's events to the draft's topic. Must be called from the draft's command lane.
+     * The command is already applied and its write queued, so a failed send is only logged;
+     * clients that miss an event see the sequence gap and request a snapshot.
+     */
+    private void broadcast(String uuid, List<DraftEventMessage> events) {
+        try {
+            for (DraftEventMessage event : events) {
+                messagingTemplate.convertAndSend("/topic/draft/" + uuid, event);
+            }
+        } catch (Exception e) {
+            logger.error("Error broadcasting events for draft {}", uuid, e);
+        }
+    }
+
+    /**
+     * Look up a player in the shared verified pool, falling back to the database
+     * for players that are not (or no longer) verified.
+     */
+    private Player findPlayer(VerifiedPlayerPool pool, Long playerId) {
+        Player player = pool.findById(playerId);
+        return player != null ? player : playerService.getPlayerById(playerId);
+    }
+
+    private DraftEventMessage turnChangedEvent(DraftEngine engine) {
+        return DraftEventMessage.turnChanged(
+            engine.getUuid(),
+            engine.nextSequence(),
+            engine.getStatus(),
+            engine.getCurrentRound(),
+            engine.getCurrentPick(),
+            engine.getCurrentTurnPosition()
+        );
+    }
+
+    // ========== Write-Through Helpers ==========
+
+    /**
+     * Queue the insert of a pick and the matching draft progress update.
+     * If the pick completed the draft, its picks are also added to the ADP aggregate.
+     * Must be called from the draft's command lane so writes are queued in command order.
+     */
+    private void enqueuePickWrite(DraftEngine engine, PickMessage pick) {
+        long draftId = engine.getDraftId();
+        int currentPick = engine.getCurrentPick();
+        int currentRound = engine.getCurrentRound();
+        String status = engine.getStatus();
+        LocalDateTime completedAt = engine.getCompletedAt();
+        long expectedVersion = engine.claimRowVersion();
+
+        submitWrite(engine, () -> {
+            draftDao.insertLivePick(draftId, pick.getPlayerId(), pick.getPickNumber(),
+                pick.getPickedByPosition(), pick.getForcedByPosition(), pick.getRoundNumber(), pick.getPickedAt());
+            updateDraftProgress(draftId, expectedVersion, currentPick, currentRound, status, completedAt);
+            if ("COMPLETED".equals(status)) {
+                adpService.recordCompletedDraft(draftId);
+            }
+        });
+    }
+
+    /**
+     * Queue the delete of an undone pick and the matching draft progress update.
+     * If the undo re-opened a completed draft, its picks are first removed from the ADP aggregate.
+     * Must be called from the draft's command lane so writes are queued in command order.
+     */
+    private void enqueueUndoWrite(DraftEngine engine, PickMessage removed, boolean reopened) {
+        long draftId = engine.getDraftId();
+        int currentPick = engine.getCurrentPick();
+        int currentRound = engine.getCurrentRound();
+        String status = engine.getStatus();
+        LocalDateTime completedAt = engine.getCompletedAt();
+        long expectedVersion = engine.claimRowVersion();
+
+        submitWrite(engine, () -> {
+            if (reopened) {
+                adpService.removeCompletedDraft(draftId);
+            }
+            draftDao.deleteLivePick(draftId, removed.getPickNumber());
+            updateDraftProgress(draftId, expectedVersion, currentPick, currentRound, status, completedAt);
+        });
+    }
+
+    private void updateDraftProgress(long draftId, long expectedVersion, int currentPick, int currentRound,
+                                     String status, LocalDateTime completedAt) {
+        if (!draftDao.updateDraftProgress(draftId, expectedVersion, currentPick, currentRound, status, completedAt)) {
+            throw new OptimisticLockingFailureException(
+                "Draft " + draftId + " is no longer at version " + expectedVersion);
+        }
+    }
+
+    /**
+     * Queue a write on the draft's writer lane. If it fails, the write is rolled back and this engine
+     * is dropped, unless it has already been replaced, so the next command reloads from the database.
+     * Clients are told to resync with reason DRAFT_CONFLICT if another writer changed the draft first,
+     * or WRITE_FAILED for any other failure.
+     */
+    private void submitWrite(DraftEngine engine, Runnable write) {
+        String uuid = engine.getUuid();
+        writers.execute(uuid, () -> {
+            try {
+                writeTransaction.executeWithoutResult(status -> write.run());
+            } catch (OptimisticLockingFailureException e) {
+                logger.warn("Draft {} was changed by another writer; dropping in-memory state: {}", uuid, e.getMessage());
+                dropEngine(engine, DraftEventMessage.DRAFT_CONFLICT);
+            } catch (Exception e) {
+                logger.error("Failed to persist live draft change for draft {}; dropping in-memory state", uuid, e);
+                dropEngine(engine, DraftEventMessage.WRITE_FAILED);
+            }
+        });
+    }
+
+    /**
+     * Drop an engine whose changes could not be saved, unless it has already been replaced,
+     * forget its recorded commands, and tell the draft's clients to resync from the state the
+     * next command reloads.
+     * Later writes queued by the same engine fail too, but only the first one notifies.
+     */
+    private void dropEngine(DraftEngine engine, String reason) {
+        String uuid = engine.getUuid();
+        if (!engines.remove(uuid, engine)) {
+            return;
+        }
+        forgetCommands(uuid);
+        try {
+            messagingTemplate.convertAndSend("/topic/draft/" + uuid, DraftEventMessage.resync(uuid, reason));
+        } catch (Exception e) {
+            logger.error("Error broadcasting resync for draft {}", uuid, e);
+        }
+    }
+
+    /**
+     * Forget the recorded outcomes of a draft's commands. An outcome is recorded before its write
+     * is committed, so once the engine is dropped a resend must run again against the reloaded
+     * state instead of replaying a result that may never have been saved.
+     */
+    private void forgetCommands(String uuid) {
+        recentCommands.asMap().keySet().removeIf(key -> key.draftUuid().equals(uuid));
+    }
+
+    private record CommandKey(String draftUuid, String commandId) {
+    }
+
+    /**
+     * Recorded outcome of a command: its events, or the rule violation it was rejected with.
+     */
+    private record CommandOutcome(String fingerprint, List<DraftEventMessage> events, RuntimeException failure) {
+
+        DraftCommandResult replay(String resentFingerprint) {
+            if (!fingerprint.equals(resentFingerprint)) {
+                throw new ValidationException("Command ID was already used for a different command");
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return new DraftCommandResult(events, true);
+        }
+    }
+}
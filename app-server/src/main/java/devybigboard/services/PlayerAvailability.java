@@ -0,0 +1,152 @@
+package devybigboard.services;
+
+import devybigboard.models.Player;
+import devybigboard.models.PlayerResponse;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Per-draft record of which pool players have been picked.
+ * Picked players are tracked in a bitset keyed by {@link VerifiedPlayerPool} index, so
+ * availability checks and iteration in ADP order do not box player IDs or scan the pick log,
+ * and a re-ranked pool of the same version reuses the bitset.
+ * Players picked while outside the pool (unverified or since deleted) are kept in a small side set.
+ *
+ * Instances are not thread-safe; {@link DraftEngine} guards them with the engine lock
+ * and hands out copies for use outside it.
+ */
+final class PlayerAvailability {
+
+    private final VerifiedPlayerPool pool;
+    private final BitSet picked;
+    private final Set<Long> offPoolPicked;
+
+    PlayerAvailability(VerifiedPlayerPool pool) {
+        this(pool, new BitSet(pool.size()), new HashSet<>());
+    }
+
+    private PlayerAvailability(VerifiedPlayerPool pool, BitSet picked, Set<Long> offPoolPicked) {
+        this.pool = pool;
+        this.picked = picked;
+        this.offPoolPicked = offPoolPicked;
+    }
+
+    VerifiedPlayerPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Switch to a re-ranked snapshot of the same pool version. Pool indexes are unchanged,
+     * so the picked set carries over as is.
+     *
+     * @param reranked a snapshot with the same version as the current pool
+     * @return availability over the re-ranked snapshot
+     */
+    PlayerAvailability withPool(VerifiedPlayerPool reranked) {
+        if (reranked.getVersion() != pool.getVersion()) {
+            throw new IllegalArgumentException("Pool version " + reranked.getVersion() + " is not " + pool.getVersion());
+        }
+        return new PlayerAvailability(reranked, picked, offPoolPicked);
+    }
+
+    /**
+     * Check whether a player has been picked.
+     *
+     * @param playerId the player ID
+     * @return true if the player is already on a roster
+     */
+    boolean isPicked(long playerId) {
+        int index = pool.indexOf(playerId);
+        if (index >= 0) {
+            return picked.get(index);
+        }
+        return !offPoolPicked.isEmpty() && offPoolPicked.contains(playerId);
+    }
+
+    void markPicked(long playerId) {
+        int index = pool.indexOf(playerId);
+        if (index >= 0) {
+            picked.set(index);
+        } else {
+            offPoolPicked.add(playerId);
+        }
+    }
+
+    void markAvailable(long playerId) {
+        int index = pool.indexOf(playerId);
+        if (index >= 0) {
+            picked.clear(index);
+        } else {
+            offPoolPicked.remove(playerId);
+        }
+    }
+
+    /**
+     * Find the first available pool player that follows a player in ADP order.
+     *
+     * @param playerId the player ID
+     * @return that player's ID, or null if the player is not in the pool or no available player follows it
+     */
+    Long nextAvailableAfter(long playerId) {
+        int index = pool.indexOf(playerId);
+        if (index < 0) {
+            return null;
+        }
+        for (int rank = pool.rankOf(index) + 1; rank < pool.size(); rank++) {
+            int next = pool.indexAtRank(rank);
+            if (!picked.get(next)) {
+                return pool.getPlayer(next).getId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the number of pool players that have not been picked.
+     *
+     * @return the available player count
+     */
+    int availableCount() {
+        return pool.size() - picked.cardinality();
+    }
+
+    /**
+     * Get every available pool player, in ADP order.
+     *
+     * @return a new list of available players
+     */
+    List<Player> availablePlayers() {
+        List<Player> available = new ArrayList<>(availableCount());
+        for (int rank = 0; rank < pool.size(); rank++) {
+            int index = pool.indexAtRank(rank);
+            if (!picked.get(index)) {
+                available.add(pool.getPlayer(index));
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Get every available pool player, in ADP order, as a list that serializes
+     * from the pool's cached JSON fragments.
+     *
+     * @return the available players
+     */
+    List<PlayerResponse> availablePlayerResponses() {
+        return pool.playersExcluding(picked);
+    }
+
+    /**
+     * Copy the pool-index bitset so it can be iterated without holding the engine lock.
+     * Off-pool picks are not copied since they never appear in the available list.
+     *
+     * @return a detached copy of this availability
+     */
+    PlayerAvailability copy() {
+        return new PlayerAvailability(pool, (BitSet) picked.clone(), Set.of());
+    }
+}
@@ -0,0 +1,35 @@
+package devybigboard.services;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of player IDs stored as a sorted long array.
+ * Uses a fraction of the memory of a Set&lt;Long&gt; and answers membership with a binary search.
+ */
+final class PlayerIdSet {
+
+    static final PlayerIdSet EMPTY = new PlayerIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private PlayerIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * @param ids player IDs in any order; copied, duplicates are kept
+     */
+    static PlayerIdSet of(long[] ids) {
+        long[] sorted = ids.clone();
+        Arrays.sort(sorted);
+        return new PlayerIdSet(sorted);
+    }
+
+    boolean contains(long playerId) {
+        return Arrays.binarySearch(ids, playerId) >= 0;
+    }
+
+    boolean isEmpty() {
+        return ids.length == 0;
+    }
+}
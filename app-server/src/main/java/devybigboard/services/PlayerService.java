@@ -1,25 +1,40 @@
 package devybigboard.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devybigboard.dao.PlayerDao;
 import devybigboard.dao.PlayerRepository;
 import devybigboard.exceptions.PlayerNotFoundException;
 import devybigboard.exceptions.ValidationException;
 import devybigboard.models.Player;
 import devybigboard.models.PlayerDTO;
+import devybigboard.models.PlayerWithAdp;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for managing player operations including creation and verification.
+ * Also owns the shared {@link VerifiedPlayerPool} snapshot used to assemble draft state.
  */
 @Service
 public class PlayerService {
     
     private final PlayerRepository playerRepository;
+    private final PlayerDao playerDao;
+    private final ObjectMapper objectMapper;
+
+    private final TransactionalVersion poolVersion = new TransactionalVersion();
+    private final TransactionalVersion adpVersion = new TransactionalVersion();
+    private volatile VerifiedPlayerPool verifiedPlayerPool;
     
-    public PlayerService(PlayerRepository playerRepository) {
+    public PlayerService(PlayerRepository playerRepository, PlayerDao playerDao, ObjectMapper objectMapper) {
         this.playerRepository = playerRepository;
+        this.playerDao = playerDao;
+        this.objectMapper = objectMapper;
     }
     
     /**
@@ -42,7 +57,9 @@ public class PlayerService {
         player.setDraftyear(playerDTO.getDraftyear());
         player.setVerified(false);
         
-        return playerRepository.save(player);
+        Player saved = playerRepository.save(player);
+        poolVersion.bump();
+        return saved;
     }
     
     /**
@@ -66,7 +83,9 @@ public class PlayerService {
         player.setCollege(playerDTO.getCollege());
         player.setDraftyear(playerDTO.getDraftyear());
         
-        return playerRepository.save(player);
+        Player saved = playerRepository.save(player);
+        poolVersion.bump();
+        return saved;
     }
     
     /**
@@ -80,6 +99,7 @@ public class PlayerService {
         Player player = playerRepository.findById(playerId)
             .orElseThrow(() -> new PlayerNotFoundException(playerId));
         playerRepository.delete(player);
+        poolVersion.bump();
     }
     
     /**
@@ -99,6 +119,51 @@ public class PlayerService {
     public List<Player> getVerifiedPlayers() {
         return playerRepository.findByVerifiedTrue();
     }
+
+    /**
+     * Get the current verified player pool version without building the pool.
+     * The version changes whenever a player is created, updated, deleted or verified.
+     *
+     * @return the pool version
+     */
+    public long getVerifiedPlayerPoolVersion() {
+        return poolVersion.get();
+    }
+
+    /**
+     * Get the shared snapshot of verified players.
+     * The snapshot is rebuilt from the database only after a player change has bumped the pool version.
+     * After an ADP change it is only re-ranked, keeping its players, pool indexes and serialized JSON.
+     * Otherwise every caller receives the same instance.
+     *
+     * @return the current verified player pool
+     */
+    public VerifiedPlayerPool getVerifiedPlayerPool() {
+        VerifiedPlayerPool pool = verifiedPlayerPool;
+        long version = poolVersion.get();
+        long adpOrder = adpVersion.get();
+        if (pool != null && pool.getVersion() == version && pool.getAdpVersion() == adpOrder) {
+            return pool;
+        }
+
+        synchronized (poolVersion) {
+            pool = verifiedPlayerPool;
+            version = poolVersion.get();
+            adpOrder = adpVersion.get();
+            if (pool != null && pool.getVersion() == version && pool.getAdpVersion() == adpOrder) {
+                return pool;
+            }
+
+            VerifiedPlayerPool rebuilt = pool != null && pool.getVersion() == version
+                ? pool.reranked(adpOrder, loadAdpRanks())
+                : new VerifiedPlayerPool(version, adpOrder, loadVerifiedPlayersByAdp(), objectMapper);
+            // Only publish if no change happened while the players were loading
+            if (poolVersion.get() == version && adpVersion.get() == adpOrder) {
+                verifiedPlayerPool = rebuilt;
+            }
+            return rebuilt;
+        }
+    }
     
     /**
      * Verify a player by setting their verified status to true.
@@ -113,7 +178,9 @@ public class PlayerService {
             .orElseThrow(() -> new PlayerNotFoundException(playerId));
         
         player.setVerified(true);
-        return playerRepository.save(player);
+        Player saved = playerRepository.save(player);
+        poolVersion.bump();
+        return saved;
     }
     
     /**
@@ -136,9 +203,43 @@ public class PlayerService {
      */
     @Transactional
     public Player savePlayer(Player player) {
-        return playerRepository.save(player);
+        Player saved = playerRepository.save(player);
+        poolVersion.bump();
+        return saved;
     }
-    
+
+    /**
+     * Mark the verified player pool's ADP order as stale.
+     * The next {@link #getVerifiedPlayerPool()} re-ranks the same players in the new order.
+     */
+    void adpChanged() {
+        adpVersion.bump();
+    }
+
+    /**
+     * Load the ADP rank of every ranked player ID.
+     */
+    private Map<Long, Integer> loadAdpRanks() {
+        Map<Long, Integer> adpRank = new HashMap<>();
+        List<PlayerWithAdp> board = playerDao.getAllPlayers();
+        for (int i = 0; i < board.size(); i++) {
+            adpRank.put(board.get(i).id(), i);
+        }
+        return adpRank;
+    }
+
+    /**
+     * Load all verified players ordered by ADP; players without an ADP rank keep ID order at the end.
+     */
+    private List<Player> loadVerifiedPlayersByAdp() {
+        Map<Long, Integer> adpRank = loadAdpRanks();
+
+        return playerRepository.findByVerifiedTrue().stream()
+            .sorted(Comparator.comparing((Player player) -> adpRank.getOrDefault(player.getId(), Integer.MAX_VALUE))
+                .thenComparing(Player::getId))
+            .toList();
+    }
+
     /**
      * Validate player data from DTO.
      * 
@@ -0,0 +1,99 @@
+package devybigboard.services;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders downscaled JPEG renditions of a headshot with the JDK's ImageIO.
+ * Each rendition fits within a size x size box, keeps the aspect ratio and is never upscaled.
+ */
+final class ThumbnailRenderer {
+
+    static final String CONTENT_TYPE = "image/jpeg";
+    static final String EXTENSION = ".jpg";
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private ThumbnailRenderer() {
+    }
+
+    /**
+     * Decode an image and render every requested size.
+     *
+     * @param in the original image; not closed
+     * @param sizes bounding box sizes in pixels
+     * @return JPEG bytes by size, or an empty map if ImageIO cannot decode the format
+     * @throws IOException if the stream cannot be read or an encoding fails
+     */
+    static Map<Integer, byte[]> render(InputStream in, List<Integer> sizes) throws IOException {
+        BufferedImage source = ImageIO.read(in);
+        if (source == null) {
+            return Map.of();
+        }
+
+        Map<Integer, byte[]> renditions = new LinkedHashMap<>();
+        for (int size : sizes) {
+            renditions.put(size, encodeJpeg(scale(source, size)));
+        }
+        return renditions;
+    }
+
+    /**
+     * Scale into a size x size box in halving steps, which keeps bilinear filtering sharp
+     * for large reductions, and flatten any transparency onto white for JPEG.
+     */
+    private static BufferedImage scale(BufferedImage source, int size) {
+        double ratio = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,35 @@
+package devybigboard.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version counter for in-memory caches of database state.
+ * Seeded from the startup time so versions keep increasing across restarts and can be used in ETags.
+ *
+ * A bump takes effect immediately, so reads later in the same transaction see the change,
+ * and again when the surrounding transaction completes, so anything cached from
+ * uncommitted or rolled-back data is never kept.
+ */
+final class TransactionalVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    long get() {
+        return version.get();
+    }
+
+    void bump() {
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package devybigboard.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devybigboard.models.Player;
+import devybigboard.models.PlayerResponse;
+import devybigboard.models.PreSerializedPlayerList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of every verified player available for the draft pool.
+ * Built by {@link PlayerService} and shared by all drafts until a player change
+ * bumps the pool version, so draft state can be assembled without querying the players table.
+ *
+ * Each player has a dense pool index that stays the same for as long as the pool version does.
+ * Per-draft structures such as {@link PlayerAvailability} are keyed by this index.
+ * ADP order is kept separately as a ranking of pool indexes with its own version; when only ADP
+ * changes, {@link #reranked} shares the players, indexes and JSON of this snapshot.
+ *
+ * Each player's JSON is serialized once when the snapshot is built, so draft-state
+ * broadcasts splice cached bytes instead of re-serializing the pool.
+ *
+ * The snapshot holds detached entities; callers must treat them as read-only.
+ */
+public final class VerifiedPlayerPool {
+
+    /** Placeholder used before a real snapshot has been attached; never matches a built pool version. */
+    static final VerifiedPlayerPool EMPTY = new VerifiedPlayerPool(0, List.of(), new ObjectMapper());
+
+    private final long version;
+    private final long adpVersion;
+    private final List<Player> players;
+    private final List<PlayerResponse> responses;
+    private final List<SerializedString> fragments;
+
+    /** Player IDs in ascending order, with the pool index of each at the same position in {@link #indexes}. */
+    private final long[] sortedIds;
+    private final int[] indexes;
+
+    /** Pool indexes in ADP order, and the ADP rank of each pool index. */
+    private final int[] adpOrder;
+    private final int[] adpRanks;
+
+    /**
+     * @param version the pool version this snapshot represents
+     * @param players the verified players, already in ADP order
+     * @param objectMapper the mapper used for WebSocket messages, to pre-serialize each player
+     */
+    VerifiedPlayerPool(long version, List<Player> players, ObjectMapper objectMapper) {
+        this(version, 0, players, objectMapper);
+    }
+
+    /**
+     * @param version the pool version this snapshot represents
+     * @param adpVersion the ADP version the players were ordered at
+     * @param players the verified players, already in ADP order
+     * @param objectMapper the mapper used for WebSocket messages, to pre-serialize each player
+     */
+    VerifiedPlayerPool(long version, long adpVersion, List<Player> players, ObjectMapper objectMapper) {
+        this.version = version;
+        this.adpVersion = adpVersion;
+        this.players = List.copyOf(players);
+        this.responses = this.players.stream()
+            .map(PlayerResponse::new)
+            .toList();
+
+        List<SerializedString> serialized = new ArrayList<>(responses.size());
+        for (PlayerResponse response : responses) {
+            try {
+                SerializedString fragment = new SerializedString(objectMapper.writeValueAsString(response));
+                // Encode once up front so every broadcast copies cached bytes
+                fragment.asUnquotedUTF8();
+                serialized.add(fragment);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize player " + response.getId(), e);
+            }
+        }
+        this.fragments = List.copyOf(serialized);
+
+        int size = this.players.size();
+        Integer[] byId = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            byId[i] = i;
+        }
+        Arrays.sort(byId, (a, b) -> Long.compare(this.players.get(a).getId(), this.players.get(b).getId()));
+
+        this.sortedIds = new long[size];
+        this.indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = byId[i];
+            sortedIds[i] = this.players.get(byId[i]).getId();
+        }
+
+        this.adpOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            adpOrder[i] = i;
+        }
+        this.adpRanks = adpOrder.clone();
+    }
+
+    private VerifiedPlayerPool(VerifiedPlayerPool pool, long adpVersion, int[] adpOrder) {
+        this.version = pool.version;
+        this.adpVersion = adpVersion;
+        this.players = pool.players;
+        this.responses = pool.responses;
+        this.fragments = pool.fragments;
+        this.sortedIds = pool.sortedIds;
+        this.indexes = pool.indexes;
+        this.adpOrder = adpOrder;
+        this.adpRanks = new int[adpOrder.length];
+        for (int rank = 0; rank < adpOrder.length; rank++) {
+            adpRanks[adpOrder[rank]] = rank;
+        }
+    }
+
+    /**
+     * Get a snapshot of the same players in a new ADP order. Pool indexes, players and their
+     * serialized JSON are shared with this snapshot, and the pool version is unchanged.
+     *
+     * @param adpVersion the ADP version of the new order
+     * @param adpRank the ADP rank of each ranked player ID; unranked players follow in ID order
+     * @return the re-ranked snapshot
+     */
+    VerifiedPlayerPool reranked(long adpVersion, Map<Long, Integer> adpRank) {
+        Integer[] byAdp = new Integer[players.size()];
+        for (int i = 0; i < byAdp.length; i++) {
+            byAdp[i] = i;
+        }
+        Arrays.sort(byAdp, Comparator
+            .comparing((Integer index) -> adpRank.getOrDefault(players.get(index).getId(), Integer.MAX_VALUE))
+            .thenComparing(index -> players.get(index).getId()));
+
+        int[] order = new int[byAdp.length];
+        for (int rank = 0; rank < order.length; rank++) {
+            order[rank] = byAdp[rank];
+        }
+        return new VerifiedPlayerPool(this, adpVersion, order);
+    }
+
+    /**
+     * Get the version of the pool this snapshot was built for.
+     * Versions only increase; a different version means the pool has changed.
+     *
+     * @return the pool version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the ADP version this snapshot's order was built at.
+     *
+     * @return the ADP version
+     */
+    public long getAdpVersion() {
+        return adpVersion;
+    }
+
+    /**
+     * Get the pool players not excluded by a bitset, as a list that serializes from cached fragments.
+     *
+     * @param excluded pool indexes to leave out
+     * @return the remaining players in ADP order
+     */
+    public PreSerializedPlayerList playersExcluding(BitSet excluded) {
+        return new PreSerializedPlayerList(responses, fragments, adpOrder, excluded);
+    }
+
+    /**
+     * Get the dense pool index of a player.
+     *
+     * @param playerId the player ID
+     * @return the player's pool index, or -1 if the player is not in the pool
+     */
+    public int indexOf(long playerId) {
+        int position = Arrays.binarySearch(sortedIds, playerId);
+        return position >= 0 ? indexes[position] : -1;
+    }
+
+    /**
+     * Find a verified player by ID.
+     *
+     * @param playerId the player ID
+     * @return the player, or null if the player is not in the pool
+     */
+    public Player findById(Long playerId) {
+        int index = indexOf(playerId);
+        return index >= 0 ? players.get(index) : null;
+    }
+
+    /**
+     * Find the response DTO for a verified player by ID.
+     *
+     * @param playerId the player ID
+     * @return the player response, or null if the player is not in the pool
+     */
+    public PlayerResponse findResponseById(Long playerId) {
+        int index = indexOf(playerId);
+        return index >= 0 ? responses.get(index) : null;
+    }
+
+    public Player getPlayer(int index) {
+        return players.get(index);
+    }
+
+    public PlayerResponse getPlayerResponse(int index) {
+        return responses.get(index);
+    }
+
+    /**
+     * Get the pool index of the player at an ADP rank.
+     *
+     * @param rank the 0-based ADP rank
+     * @return the pool index
+     */
+    public int indexAtRank(int rank) {
+        return adpOrder[rank];
+    }
+
+    /**
+     * Get the ADP rank of a pool index.
+     *
+     * @param index the pool index
+     * @return the 0-based ADP rank
+     */
+    public int rankOf(int index) {
+        return adpRanks[index];
+    }
+
+    public int size() {
+        return players.size();
+    }
+}
@@ -0,0 +1,8 @@
+-- Migration: Add an optimistic lock version to drafts
+-- Run this manually on your Railway MySQL database
+-- Every update of a draft row increments the version; writers that read an older version are rejected.
+
+ALTER TABLE drafts ADD COLUMN version BIGINT NOT NULL DEFAULT 0 COMMENT 'Optimistic lock version' AFTER completed_at;
+
+-- Verify the migration
+SELECT id, uuid, status, current_pick, version FROM drafts ORDER BY id DESC LIMIT 10;
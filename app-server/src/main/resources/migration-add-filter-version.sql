@@ -0,0 +1,8 @@
+-- Migration: Add a version column to league filters
+-- Run this manually on your Railway MySQL database
+-- The version is incremented by every change to a filter's players and returned by the batch endpoint
+
+ALTER TABLE filters ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Verify the migration
+SELECT id, league_name, version FROM filters;
@@ -0,0 +1,9 @@
+-- Migration: Add a content hash to player headshot assets
+-- Run this manually on your Railway MySQL database
+-- The hash is the hex SHA-256 of the uploaded image and is used as the headshot ETag.
+-- Existing rows keep a NULL hash and fall back to their filename until they are re-uploaded.
+
+ALTER TABLE player_assets ADD COLUMN content_hash CHAR(64) NULL AFTER filename;
+
+-- Verify the migration
+SELECT id, player_id, filename, content_hash FROM player_assets;
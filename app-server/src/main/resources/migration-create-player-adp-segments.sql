@@ -0,0 +1,38 @@
+-- Migration: Create the player_adp_segments table used for windowed and segmented ADP
+-- Run this manually on your Railway MySQL database
+-- The same backfill can be re-run at any time with POST /api/players/adp/rebuild
+
+-- Create the segment table (one row per completion date, draft type, league size and player)
+CREATE TABLE IF NOT EXISTS player_adp_segments (
+    draft_date DATE NOT NULL,
+    is_snake_draft BOOLEAN NOT NULL,
+    participant_count INT NOT NULL,
+    player_id BIGINT NOT NULL,
+    pick_sum BIGINT NOT NULL,
+    pick_count INT NOT NULL,
+    min_pick INT NOT NULL,
+    max_pick INT NOT NULL,
+    round_value_sum DOUBLE NOT NULL,
+    PRIMARY KEY (draft_date, is_snake_draft, participant_count, player_id),
+    INDEX idx_player_adp_segments_player (player_id),
+    FOREIGN KEY (player_id) REFERENCES players(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Backfill from every completed draft (live drafts use COMPLETED, saved drafts use completed)
+DELETE FROM player_adp_segments;
+
+INSERT INTO player_adp_segments (draft_date, is_snake_draft, participant_count, player_id,
+                                 pick_sum, pick_count, min_pick, max_pick, round_value_sum)
+SELECT CAST(COALESCE(d.completed_at, d.created_at) AS DATE),
+       COALESCE(d.is_snake_draft, FALSE),
+       GREATEST(COALESCE(d.participant_count, 1), 1),
+       dp.player_id,
+       SUM(dp.pick_number), COUNT(*), MIN(dp.pick_number), MAX(dp.pick_number),
+       SUM((dp.pick_number - 1) * 1.0 / GREATEST(COALESCE(d.participant_count, 1), 1) + 1)
+FROM draft_picks dp
+JOIN drafts d ON d.id = dp.draft_id
+WHERE UPPER(d.status) = 'COMPLETED'
+GROUP BY CAST(COALESCE(d.completed_at, d.created_at) AS DATE),
+         COALESCE(d.is_snake_draft, FALSE),
+         GREATEST(COALESCE(d.participant_count, 1), 1),
+         dp.player_id;
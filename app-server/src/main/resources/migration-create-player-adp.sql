@@ -0,0 +1,23 @@
+-- Migration: Create the player_adp aggregate and backfill it from completed drafts
+-- Run this manually on your Railway MySQL database
+-- The same backfill can be re-run at any time with POST /api/players/adp/rebuild
+
+-- Create the aggregate table
+CREATE TABLE IF NOT EXISTS player_adp (
+    player_id BIGINT PRIMARY KEY,
+    pick_sum BIGINT NOT NULL,
+    pick_count INT NOT NULL,
+    min_pick INT NOT NULL,
+    max_pick INT NOT NULL,
+    FOREIGN KEY (player_id) REFERENCES players(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Backfill from every completed draft (live drafts use COMPLETED, saved drafts use completed)
+DELETE FROM player_adp;
+
+INSERT INTO player_adp (player_id, pick_sum, pick_count, min_pick, max_pick)
+SELECT dp.player_id, SUM(dp.pick_number), COUNT(*), MIN(dp.pick_number), MAX(dp.pick_number)
+FROM draft_picks dp
+JOIN drafts d ON d.id = dp.draft_id
+WHERE UPPER(d.status) = 'COMPLETED'
+GROUP BY dp.player_id;
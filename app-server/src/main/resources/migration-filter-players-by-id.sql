@@ -0,0 +1,30 @@
+-- Migration: Key league filter players by player_id instead of name/position/team strings
+-- Run this manually on your Railway MySQL database
+
+-- Create the id-keyed table
+CREATE TABLE IF NOT EXISTS filter_players_by_id (
+    filter_id BIGINT NOT NULL,
+    player_id BIGINT NOT NULL,
+    PRIMARY KEY (filter_id, player_id),
+    FOREIGN KEY (filter_id) REFERENCES filters(id) ON DELETE CASCADE,
+    FOREIGN KEY (player_id) REFERENCES players(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Copy every string row that matches a player (team may be NULL on both sides)
+INSERT IGNORE INTO filter_players_by_id (filter_id, player_id)
+SELECT fp.filter_id, p.id
+FROM filter_players fp
+JOIN players p ON p.name = fp.player_name
+              AND p.position = fp.player_position
+              AND p.team <=> fp.player_team;
+
+-- Rows that did not match any player are left in filter_players_legacy for review
+RENAME TABLE filter_players TO filter_players_legacy,
+             filter_players_by_id TO filter_players;
+
+-- Verify the migration
+SELECT COUNT(*) AS legacy_rows FROM filter_players_legacy;
+SELECT COUNT(*) AS migrated_rows FROM filter_players;
+
+-- Once verified, the legacy table can be dropped:
+-- DROP TABLE filter_players_legacy;
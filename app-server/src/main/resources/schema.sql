@@ -33,6 +33,7 @@ CREATE TABLE IF NOT EXISTS drafts (
     pin VARCHAR(4) DEFAULT NULL COMMENT '4-digit PIN for draft authentication',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     completed_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0 COMMENT 'Optimistic lock version',
     INDEX idx_uuid (uuid),
     INDEX idx_created_at (created_at),
     INDEX idx_status (status),
@@ -61,6 +62,7 @@ CREATE TABLE IF NOT EXISTS player_assets (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     player_id BIGINT NOT NULL,
     filename VARCHAR(255) NOT NULL,
+    content_hash CHAR(64),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     UNIQUE KEY unique_player_asset (player_id),
@@ -81,3 +83,45 @@ CREATE TABLE IF NOT EXISTS draft_participants (
     INDEX idx_draft_id (draft_id),
     FOREIGN KEY (draft_id) REFERENCES drafts(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- League filters (players already rostered in a league, hidden from the filtered board)
+CREATE TABLE IF NOT EXISTS filters (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    league_name VARCHAR(255) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS filter_players (
+    filter_id BIGINT NOT NULL,
+    player_id BIGINT NOT NULL,
+    PRIMARY KEY (filter_id, player_id),
+    FOREIGN KEY (filter_id) REFERENCES filters(id) ON DELETE CASCADE,
+    FOREIGN KEY (player_id) REFERENCES players(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Player ADP aggregate (maintained incrementally from completed drafts)
+CREATE TABLE IF NOT EXISTS player_adp (
+    player_id BIGINT PRIMARY KEY,
+    pick_sum BIGINT NOT NULL,
+    pick_count INT NOT NULL,
+    min_pick INT NOT NULL,
+    max_pick INT NOT NULL,
+    FOREIGN KEY (player_id) REFERENCES players(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Player ADP segments (daily aggregates per draft type and league size, for windowed ADP)
+CREATE TABLE IF NOT EXISTS player_adp_segments (
+    draft_date DATE NOT NULL,
+    is_snake_draft BOOLEAN NOT NULL,
+    participant_count INT NOT NULL,
+    player_id BIGINT NOT NULL,
+    pick_sum BIGINT NOT NULL,
+    pick_count INT NOT NULL,
+    min_pick INT NOT NULL,
+    max_pick INT NOT NULL,
+    round_value_sum DOUBLE NOT NULL,
+    PRIMARY KEY (draft_date, is_snake_draft, participant_count, player_id),
+    INDEX idx_player_adp_segments_player (player_id),
+    FOREIGN KEY (player_id) REFERENCES players(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
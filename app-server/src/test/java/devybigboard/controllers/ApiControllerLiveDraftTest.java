@@ -1,6 +1,7 @@
 package devybigboard.controllers;
 
 import devybigboard.exceptions.DraftNotFoundException;
+import devybigboard.exceptions.ValidationException;
 import devybigboard.models.*;
 import devybigboard.services.DraftService;
 import devybigboard.services.ExportService;
@@ -256,5 +257,46 @@ class ApiControllerLiveDraftTest {
         verify(draftService).getLobbyState("test-uuid-123");
         verify(draftService).canStartDraft("test-uuid-123");
     }
-}
 
+    @Test
+    void allPlayers_ReturnsBoardWithEtag() {
+        PlayerBoard<PlayerWithAdp> board = new PlayerBoard<>("\"adp-1-1\"", List.of(new PlayerWithAdp(1L, "Player", "RB", "Team", 2026, 1.5)));
+        when(devyBoardService.getPlayerBoard()).thenReturn(board);
+
+        var response = controller.allPlayers(null, null, null, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("\"adp-1-1\"", response.getHeaders().getETag());
+        assertEquals(board.players(), response.getBody());
+    }
+
+    @Test
+    void allPlayers_ReturnsNotModifiedWhenEtagMatches() {
+        PlayerBoard<PlayerWithAdp> board = new PlayerBoard<>("\"adp-1-1\"", List.of());
+        when(devyBoardService.getPlayerBoard()).thenReturn(board);
+
+        var response = controller.allPlayers(null, null, null, "\"adp-0-1\", \"adp-1-1\"");
+
+        assertEquals(304, response.getStatusCode().value());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void allPlayers_WithSegmentParams_ReturnsSegmentBoard() {
+        PlayerBoard<SegmentedPlayerAdp> board = new PlayerBoard<>("\"adp-1-1-30d-snake-anysize\"",
+            List.of(new SegmentedPlayerAdp(1L, "Player", "RB", "Team", 2026, 2.0, 1.1, 3, 1, 3)));
+        when(devyBoardService.getSegmentBoard(new AdpSegment(30, true, null, null))).thenReturn(board);
+
+        var response = controller.allPlayers("30d", "true", null, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(board.etag(), response.getHeaders().getETag());
+        assertEquals(board.players(), response.getBody());
+        verify(devyBoardService, never()).getPlayerBoard();
+    }
+
+    @Test
+    void allPlayers_RejectsMalformedWindow() {
+        assertThrows(ValidationException.class, () -> controller.allPlayers("thirty", null, null, null));
+    }
+}
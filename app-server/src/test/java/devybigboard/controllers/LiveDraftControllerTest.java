@@ -1,9 +1,11 @@
 package devybigboard.controllers;
 
+import devybigboard.exceptions.DraftConflictException;
 import devybigboard.exceptions.DraftNotFoundException;
 import devybigboard.exceptions.ValidationException;
 import devybigboard.models.*;
 import devybigboard.services.DraftService;
+import devybigboard.services.LiveDraftEngineService;
 import devybigboard.services.ParticipantService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +38,9 @@ class LiveDraftControllerTest {
     @Mock
     private ParticipantService participantService;
 
+    @Mock
+    private LiveDraftEngineService liveDraftEngineService;
+
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
@@ -70,6 +75,31 @@ class LiveDraftControllerTest {
         testParticipant.setJoinedAt(LocalDateTime.now());
     }
 
+    private DraftStateMessage draftStateMessage(int currentPick, String currentTurnPosition) {
+        return new DraftStateMessage(
+            "test-uuid-123",
+            "IN_PROGRESS",
+            1,
+            currentPick,
+            currentTurnPosition,
+            4,
+            10,
+            false,
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>()
+        );
+    }
+
+    private List<DraftEventMessage> pickEvents(String pickedBy, int nextPick, String nextTurn) {
+        PickMessage pick = new PickMessage(100L, "Test Player", "QB", "Team", "College",
+            1, nextPick - 1, pickedBy, null, LocalDateTime.now());
+        return List.of(
+            DraftEventMessage.pickMade("test-uuid-123", 11L, pick),
+            DraftEventMessage.turnChanged("test-uuid-123", 12L, "IN_PROGRESS", 1, nextPick, nextTurn)
+        );
+    }
+
     @Test
     void testJoinLobby_Success() {
         // Arrange
@@ -181,29 +211,12 @@ class LiveDraftControllerTest {
         startedDraft.getParticipants().add(testParticipant);
         startedDraft.setPicks(new ArrayList<>());
         
-        DraftState draftState = new DraftState(
-            "test-uuid-123",
-            "Test Draft",
-            "IN_PROGRESS",
-            1,
-            1,
-            10,
-            4,
-            false,
-            "A",
-            new ArrayList<>(),
-            new ArrayList<>(),
-            new ArrayList<>(),
-            LocalDateTime.now(),
-            null
-        );
-
         when(draftService.getDraftByUuid("test-uuid-123")).thenReturn(testDraft);
         when(participantService.getParticipants(1L)).thenReturn(List.of(testParticipant));
         when(draftService.canStartDraft("test-uuid-123")).thenReturn(true);
         when(draftService.startDraft("test-uuid-123")).thenReturn(startedDraft);
-        when(draftService.getCurrentTurn("test-uuid-123")).thenReturn("A");
-        when(draftService.getDraftState("test-uuid-123")).thenReturn(draftState);
+        when(liveDraftEngineService.getCurrentTurn("test-uuid-123")).thenReturn("A");
+        when(liveDraftEngineService.getDraftStateMessage("test-uuid-123")).thenReturn(draftStateMessage(1, "A"));
 
         // Act
         controller.startDraft(request, headerAccessor);
@@ -215,6 +228,29 @@ class LiveDraftControllerTest {
         verify(messagingTemplate).convertAndSend(eq("/topic/draft/test-uuid-123"), any(DraftStateMessage.class));
     }
 
+    @Test
+    void testStartDraft_ConflictSendsDraftConflictCode() {
+        // Arrange
+        JoinRequest request = new JoinRequest("test-uuid-123", "Alice", "A");
+        testDraft.getParticipants().add(testParticipant);
+        
+        when(draftService.getDraftByUuid("test-uuid-123")).thenReturn(testDraft);
+        when(participantService.getParticipants(1L)).thenReturn(List.of(testParticipant));
+        when(draftService.canStartDraft("test-uuid-123")).thenReturn(true);
+        when(draftService.startDraft("test-uuid-123"))
+            .thenThrow(new DraftConflictException("test-uuid-123", null));
+        when(headerAccessor.getSessionId()).thenReturn("session-1");
+
+        // Act
+        controller.startDraft(request, headerAccessor);
+
+        // Assert
+        ArgumentCaptor<ErrorMessage> captor = ArgumentCaptor.forClass(ErrorMessage.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("session-1"), eq("/queue/errors"), captor.capture());
+        assertEquals("DRAFT_CONFLICT", captor.getValue().getCode());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(DraftStartedMessage.class));
+    }
+
     @Test
     void testStartDraft_NotCreator() {
         // Arrange
@@ -236,104 +272,94 @@ class LiveDraftControllerTest {
     void testMakePick_Success() {
         // Arrange
         MakePickRequest request = new MakePickRequest("test-uuid-123", 100L, "A");
-        DraftState draftState = new DraftState(
-            "test-uuid-123",
-            "Test Draft",
-            "IN_PROGRESS",
-            1,
-            2,
-            10,
-            4,
-            false,
-            "B",
-            new ArrayList<>(),
-            new ArrayList<>(),
-            new ArrayList<>(),
-            LocalDateTime.now(),
-            null
-        );
-        
-        when(draftService.isValidPick("test-uuid-123", "A")).thenReturn(true);
-        when(draftService.makePick("test-uuid-123", 100L, "A")).thenReturn(testDraft);
-        when(draftService.getDraftState("test-uuid-123")).thenReturn(draftState);
+        when(liveDraftEngineService.makePick("test-uuid-123", 100L, "A", null))
+            .thenReturn(new DraftCommandResult(pickEvents("A", 2, "B"), false));
 
         // Act
         controller.makePick(request, headerAccessor);
 
         // Assert
-        verify(draftService).isValidPick("test-uuid-123", "A");
-        verify(draftService).makePick("test-uuid-123", 100L, "A");
-        verify(messagingTemplate).convertAndSend(anyString(), any(DraftStateMessage.class));
+        verify(liveDraftEngineService).makePick("test-uuid-123", 100L, "A", null);
+        // The engine broadcasts the events from the draft's command lane
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(DraftEventMessage.class));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(DraftStateMessage.class));
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(ErrorMessage.class));
     }
 
     @Test
     void testMakePick_NotYourTurn() {
         // Arrange
         MakePickRequest request = new MakePickRequest("test-uuid-123", 100L, "B");
-        when(draftService.isValidPick("test-uuid-123", "B")).thenReturn(false);
+        when(liveDraftEngineService.makePick("test-uuid-123", 100L, "B", null))
+            .thenThrow(new ValidationException("It's not your turn to pick"));
 
         // Act
         controller.makePick(request, headerAccessor);
 
         // Assert
-        verify(draftService).isValidPick("test-uuid-123", "B");
-        verify(draftService, never()).makePick(anyString(), anyLong(), anyString());
+        verify(liveDraftEngineService).makePick("test-uuid-123", 100L, "B", null);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(DraftEventMessage.class));
         verify(messagingTemplate).convertAndSendToUser(anyString(), anyString(), any(ErrorMessage.class));
     }
 
+    @Test
+    void testMakePick_ResentCommandIsNotBroadcastAgain() {
+        // Arrange
+        MakePickRequest request = new MakePickRequest("test-uuid-123", 100L, "A");
+        request.setCommandId("cmd-1");
+        when(liveDraftEngineService.makePick("test-uuid-123", 100L, "A", "cmd-1"))
+            .thenReturn(new DraftCommandResult(pickEvents("A", 2, "B"), true));
+
+        // Act
+        controller.makePick(request, headerAccessor);
+
+        // Assert
+        verify(liveDraftEngineService).makePick("test-uuid-123", 100L, "A", "cmd-1");
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(DraftEventMessage.class));
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(ErrorMessage.class));
+    }
+
     @Test
     void testForcePick_Success() {
         // Arrange
         ForcePickRequest request = new ForcePickRequest("test-uuid-123", 100L, "B", "A");
-        DraftState draftState = new DraftState(
-            "test-uuid-123",
-            "Test Draft",
-            "IN_PROGRESS",
-            1,
-            2,
-            10,
-            4,
-            false,
-            "C",
-            new ArrayList<>(),
-            new ArrayList<>(),
-            new ArrayList<>(),
-            LocalDateTime.now(),
-            null
-        );
-        
-        when(draftService.forcePick("test-uuid-123", 100L, "B", "A")).thenReturn(testDraft);
-        when(draftService.getDraftState("test-uuid-123")).thenReturn(draftState);
+        when(liveDraftEngineService.forcePick("test-uuid-123", 100L, "B", "A", null))
+            .thenReturn(new DraftCommandResult(pickEvents("B", 3, "C"), false));
 
         // Act
         controller.forcePick(request, headerAccessor);
 
         // Assert
-        verify(draftService).forcePick("test-uuid-123", 100L, "B", "A");
-        verify(messagingTemplate).convertAndSend(anyString(), any(DraftStateMessage.class));
+        verify(liveDraftEngineService).forcePick("test-uuid-123", 100L, "B", "A", null);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(DraftEventMessage.class));
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(ErrorMessage.class));
+    }
+
+    @Test
+    void testUndoLastPick_LeavesBroadcastToTheEngine() {
+        // Arrange
+        StateRequest request = new StateRequest("test-uuid-123");
+        PickMessage removed = new PickMessage(100L, "Test Player", "QB", "Team", "College",
+            1, 1, "A", null, LocalDateTime.now());
+        when(liveDraftEngineService.undoLastPick("test-uuid-123")).thenReturn(List.of(
+            DraftEventMessage.pickUndone("test-uuid-123", 13L, removed, null, null),
+            DraftEventMessage.turnChanged("test-uuid-123", 14L, "IN_PROGRESS", 1, 1, "A")
+        ));
+
+        // Act
+        controller.undoLastPick(request, headerAccessor);
+
+        // Assert
+        verify(liveDraftEngineService).undoLastPick("test-uuid-123");
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(DraftEventMessage.class));
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(ErrorMessage.class));
     }
 
     @Test
     void testGetDraftState_Success() {
         // Arrange
         StateRequest request = new StateRequest("test-uuid-123");
-        DraftState draftState = new DraftState(
-            "test-uuid-123",
-            "Test Draft",
-            "IN_PROGRESS",
-            1,
-            1,
-            10,
-            4,
-            false,
-            "A",
-            new ArrayList<>(),
-            new ArrayList<>(),
-            new ArrayList<>(),
-            LocalDateTime.now(),
-            null
-        );
-        when(draftService.getDraftState("test-uuid-123")).thenReturn(draftState);
+        when(liveDraftEngineService.getDraftStateMessage("test-uuid-123")).thenReturn(draftStateMessage(1, "A"));
 
         // Act
         DraftStateMessage result = controller.getDraftState(request, headerAccessor);
@@ -342,7 +368,7 @@ class LiveDraftControllerTest {
         assertNotNull(result);
         assertEquals("test-uuid-123", result.getDraftUuid());
         assertEquals("IN_PROGRESS", result.getStatus());
-        verify(draftService).getDraftState("test-uuid-123");
+        verify(liveDraftEngineService).getDraftStateMessage("test-uuid-123");
     }
 
     @Test
@@ -0,0 +1,130 @@
+package devybigboard.controllers;
+
+import devybigboard.dao.PlayerAssetRepository;
+import devybigboard.exceptions.StorageUnavailableException;
+import devybigboard.models.HeadshotContent;
+import devybigboard.models.HeadshotVersion;
+import devybigboard.models.PlayerAsset;
+import devybigboard.services.AssetService;
+import devybigboard.services.HeadshotImportService;
+import devybigboard.services.HeadshotService;
+import devybigboard.services.PlayerService;
+import devybigboard.services.VerificationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the conditional headshot endpoints of PlayerController.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayerControllerHeadshotTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Mock
+    private PlayerService playerService;
+
+    @Mock
+    private VerificationService verificationService;
+
+    @Mock
+    private AssetService assetService;
+
+    @Mock
+    private PlayerAssetRepository playerAssetRepository;
+
+    @Mock
+    private HeadshotService headshotService;
+
+    @Mock
+    private HeadshotImportService headshotImportService;
+
+    @InjectMocks
+    private PlayerController controller;
+
+    private PlayerAsset givenAsset(long playerId, String filename, String contentHash) {
+        PlayerAsset asset = new PlayerAsset(playerId, filename);
+        asset.setContentHash(contentHash);
+        when(playerAssetRepository.findByPlayerId(playerId)).thenReturn(Optional.of(asset));
+        return asset;
+    }
+
+    @Test
+    void getPlayerHeadshot_MatchingEtagReturns304WithoutReadingImage() {
+        givenAsset(1L, "one.png", HASH);
+
+        ResponseEntity<StreamingResponseBody> response =
+            controller.getPlayerHeadshot(1L, 64, null, "\"" + HASH + "-64\"").join();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"" + HASH + "-64\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verifyNoInteractions(headshotService);
+    }
+
+    @Test
+    void getPlayerHeadshot_StaleEtagReturnsImageWithContentHashEtag() {
+        PlayerAsset asset = givenAsset(2L, "two.png", HASH);
+        when(headshotService.openHeadshotAsync(asset, 0)).thenReturn(CompletableFuture.completedFuture(
+            new HeadshotContent("two.png", "image/png", 3, out -> out.write(new byte[3]))));
+
+        ResponseEntity<StreamingResponseBody> response =
+            controller.getPlayerHeadshot(2L, null, null, "\"old\"").join();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"" + HASH + "\"", response.getHeaders().getETag());
+        assertEquals(3, response.getHeaders().getContentLength());
+        assertFalse(response.getHeaders().getCacheControl().contains("immutable"));
+    }
+
+    @Test
+    void getPlayerHeadshot_CurrentVersionIsImmutable() {
+        PlayerAsset asset = givenAsset(3L, "three.png", null);
+        when(headshotService.openHeadshotAsync(asset, 0)).thenReturn(CompletableFuture.completedFuture(
+            new HeadshotContent("three.png", "image/png", 1, out -> out.write(1))));
+
+        ResponseEntity<StreamingResponseBody> response =
+            controller.getPlayerHeadshot(3L, null, "three.png", null).join();
+
+        assertEquals("\"three.png\"", response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getCacheControl().contains("immutable"));
+    }
+
+    @Test
+    void getPlayerHeadshot_StorageBusyReturns503() {
+        PlayerAsset asset = givenAsset(6L, "six.png", HASH);
+        when(headshotService.openHeadshotAsync(asset, 0)).thenReturn(
+            CompletableFuture.failedFuture(new StorageUnavailableException("busy")));
+
+        ResponseEntity<StreamingResponseBody> response =
+            controller.getPlayerHeadshot(6L, null, null, null).join();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void getPlayersWithHeadshots_IncludesVersions() {
+        PlayerAsset hashed = new PlayerAsset(4L, "four.png");
+        hashed.setContentHash(HASH);
+        when(playerAssetRepository.findAll()).thenReturn(List.of(hashed, new PlayerAsset(5L, "five.png")));
+
+        List<HeadshotVersion> headshots = controller.getPlayersWithHeadshots().getBody();
+
+        assertEquals(List.of(new HeadshotVersion(4L, HASH), new HeadshotVersion(5L, "five.png")), headshots);
+    }
+}
@@ -0,0 +1,66 @@
+package devybigboard.dao;
+
+import devybigboard.models.Draft;
+import devybigboard.services.DraftService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the version check on live draft progress writes in DraftDao.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DraftDaoTest {
+
+    @Autowired
+    private DraftDao draftDao;
+
+    @Autowired
+    private DraftService draftService;
+
+    @Autowired
+    private DraftRepository draftRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void updateDraftProgress_AppliesAtExpectedVersionAndBumpsIt() {
+        Draft draft = draftService.createLiveDraft("Live Draft", "Alice", 2, 2, "1234", false);
+        draftRepository.flush();
+        long version = draft.getVersion();
+
+        assertTrue(draftDao.updateDraftProgress(draft.getId(), version, 2, 1, "IN_PROGRESS", null));
+
+        Map<String, Object> row = draftRow(draft.getId());
+        assertEquals(2, ((Number) row.get("current_pick")).intValue());
+        assertEquals(version + 1, ((Number) row.get("version")).longValue());
+    }
+
+    @Test
+    void updateDraftProgress_RejectsStaleVersion() {
+        Draft draft = draftService.createLiveDraft("Live Draft", "Alice", 2, 2, "1234", false);
+        draftRepository.flush();
+        long version = draft.getVersion();
+        assertTrue(draftDao.updateDraftProgress(draft.getId(), version, 2, 1, "IN_PROGRESS", null));
+
+        assertFalse(draftDao.updateDraftProgress(draft.getId(), version, 3, 2, "IN_PROGRESS", null));
+
+        Map<String, Object> row = draftRow(draft.getId());
+        assertEquals(2, ((Number) row.get("current_pick")).intValue());
+        assertEquals(version + 1, ((Number) row.get("version")).longValue());
+    }
+
+    private Map<String, Object> draftRow(Long draftId) {
+        return jdbcTemplate.queryForMap("SELECT current_pick, version FROM drafts WHERE id = ?", draftId);
+    }
+}
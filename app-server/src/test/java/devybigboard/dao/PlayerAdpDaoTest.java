@@ -0,0 +1,115 @@
+package devybigboard.dao;
+
+import devybigboard.models.Draft;
+import devybigboard.models.DraftDTO;
+import devybigboard.models.PickDTO;
+import devybigboard.models.Player;
+import devybigboard.services.DraftService;
+import devybigboard.services.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the player_adp aggregate maintained by PlayerAdpDao.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PlayerAdpDaoTest {
+
+    @Autowired
+    private PlayerAdpDao playerAdpDao;
+
+    @Autowired
+    private DraftService draftService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private DraftRepository draftRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void saveDraft_AddsPicksToAggregate() {
+        Player first = verifiedPlayer("First Player");
+        Player second = verifiedPlayer("Second Player");
+
+        draftService.saveDraft(new DraftDTO("Mock 1", 1, List.of(new PickDTO(first.getId(), 1), new PickDTO(second.getId(), 2))));
+        draftService.saveDraft(new DraftDTO("Mock 2", 1, List.of(new PickDTO(first.getId(), 3), new PickDTO(second.getId(), 1))));
+
+        Map<String, Object> row = adpRow(first.getId());
+        assertEquals(4L, ((Number) row.get("pick_sum")).longValue());
+        assertEquals(2, ((Number) row.get("pick_count")).intValue());
+        assertEquals(1, ((Number) row.get("min_pick")).intValue());
+        assertEquals(3, ((Number) row.get("max_pick")).intValue());
+    }
+
+    @Test
+    void rebuild_MatchesIncrementalAggregate() {
+        Player first = verifiedPlayer("First Player");
+        draftService.saveDraft(new DraftDTO("Mock 1", 1, List.of(new PickDTO(first.getId(), 2))));
+        draftService.saveDraft(new DraftDTO("Mock 2", 1, List.of(new PickDTO(first.getId(), 6))));
+        Map<String, Object> incremental = adpRow(first.getId());
+
+        playerAdpDao.rebuild();
+
+        assertEquals(incremental, adpRow(first.getId()));
+    }
+
+    @Test
+    void segments_TrackDraftsAndMatchRebuild() {
+        Player first = verifiedPlayer("First Player");
+        draftService.saveDraft(new DraftDTO("Mock 1", 12, List.of(new PickDTO(first.getId(), 13))));
+        Draft second = draftService.saveDraft(new DraftDTO("Mock 2", 12, List.of(new PickDTO(first.getId(), 1))));
+
+        Map<String, Object> row = segmentRow(first.getId());
+        assertEquals(14L, ((Number) row.get("pick_sum")).longValue());
+        assertEquals(2, ((Number) row.get("pick_count")).intValue());
+        assertEquals(3.0, ((Number) row.get("round_value_sum")).doubleValue(), 1e-9);
+
+        draftService.deleteDraft(second.getUuid());
+        row = segmentRow(first.getId());
+        assertEquals(13L, ((Number) row.get("pick_sum")).longValue());
+        assertEquals(13, ((Number) row.get("min_pick")).intValue());
+
+        draftRepository.flush();
+        playerAdpDao.rebuild();
+        assertEquals(row, segmentRow(first.getId()));
+    }
+
+    private Player verifiedPlayer(String name) {
+        Player player = new Player();
+        player.setName(name);
+        player.setPosition("RB");
+        player.setVerified(true);
+        return playerService.savePlayer(player);
+    }
+
+    private Map<String, Object> adpRow(Long playerId) {
+        return jdbcTemplate.queryForMap(
+            "SELECT pick_sum, pick_count, min_pick, max_pick FROM player_adp WHERE player_id = ?", playerId);
+    }
+
+    private Map<String, Object> segmentRow(Long playerId) {
+        return jdbcTemplate.queryForMap("""
+            SELECT participant_count, pick_sum, pick_count, min_pick, max_pick, round_value_sum
+            FROM player_adp_segments WHERE player_id = ?
+            """, playerId);
+    }
+
+    private int countAdpRows(Long playerId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM player_adp WHERE player_id = ?", Integer.class, playerId);
+    }
+}
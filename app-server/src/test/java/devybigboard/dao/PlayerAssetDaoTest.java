@@ -0,0 +1,48 @@
+package devybigboard.dao;
+
+import devybigboard.dao.PlayerAssetDao.AssetRow;
+import devybigboard.models.PlayerAsset;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bulk player_assets statements used by headshot imports.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PlayerAssetDaoTest {
+
+    @Autowired
+    private PlayerAssetDao playerAssetDao;
+
+    @Autowired
+    private PlayerAssetRepository playerAssetRepository;
+
+    @Test
+    void upsertAssets_InsertsNewRowsAndReplacesExistingOnes() {
+        playerAssetRepository.saveAndFlush(new PlayerAsset(101L, "old.png"));
+
+        Map<Long, String> previous = playerAssetDao.lockFilenames(List.of(101L, 102L));
+        playerAssetDao.upsertAssets(List.of(
+            new AssetRow(101L, "new.png", "hash-101"),
+            new AssetRow(102L, "first.png", "hash-102")));
+
+        assertEquals(Map.of(101L, "old.png"), previous);
+        assertEquals(Map.of(101L, "new.png", 102L, "first.png"), playerAssetDao.lockFilenames(List.of(101L, 102L)));
+        assertEquals(1, playerAssetRepository.findAll().stream().filter(asset -> asset.getPlayerId() == 101L).count());
+    }
+
+    @Test
+    void lockFilenames_EmptyInputReturnsEmptyMap() {
+        assertTrue(playerAssetDao.lockFilenames(List.of()).isEmpty());
+    }
+}
@@ -0,0 +1,144 @@
+package devybigboard.services;
+
+import devybigboard.models.AdpSegment;
+import devybigboard.models.DraftDTO;
+import devybigboard.models.PickDTO;
+import devybigboard.models.Player;
+import devybigboard.models.PlayerBoard;
+import devybigboard.models.PlayerWithAdp;
+import devybigboard.models.SegmentedPlayerAdp;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the cached ADP board maintained by AdpService.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AdpServiceTest {
+
+    @Autowired
+    private AdpService adpService;
+
+    @Autowired
+    private DraftService draftService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void getBoard_ReturnsCachedBoardUntilSomethingChanges() {
+        PlayerBoard<PlayerWithAdp> first = adpService.getBoard();
+        PlayerBoard<PlayerWithAdp> second = adpService.getBoard();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void getBoard_InvalidatedBySavedDraft() {
+        Player player = verifiedPlayer("Board Player");
+        PlayerBoard<PlayerWithAdp> before = adpService.getBoard();
+
+        draftService.saveDraft(new DraftDTO("Mock", 1, List.of(new PickDTO(player.getId(), 3))));
+        PlayerBoard<PlayerWithAdp> after = adpService.getBoard();
+
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(3.0, after.players().stream()
+            .filter(p -> p.id().equals(player.getId()))
+            .findFirst()
+            .orElseThrow()
+            .adp());
+    }
+
+    @Test
+    void getBoard_InvalidatedByPlayerPoolChange() {
+        PlayerBoard<PlayerWithAdp> before = adpService.getBoard();
+
+        Player player = verifiedPlayer("New Player");
+        PlayerBoard<PlayerWithAdp> after = adpService.getBoard();
+
+        assertNotEquals(before.etag(), after.etag());
+        assertTrue(after.players().stream().anyMatch(p -> p.id().equals(player.getId())));
+    }
+
+    @Test
+    void recordedDraft_ReranksVerifiedPlayerPoolWithoutRebuildingIt() {
+        Player first = verifiedPlayer("Pool Player One");
+        Player second = verifiedPlayer("Pool Player Two");
+        VerifiedPlayerPool before = playerService.getVerifiedPlayerPool();
+        assertTrue(adpRank(before, first) < adpRank(before, second));
+
+        draftService.saveDraft(new DraftDTO("Mock", 1, List.of(
+            new PickDTO(second.getId(), 1), new PickDTO(first.getId(), 2))));
+        VerifiedPlayerPool after = playerService.getVerifiedPlayerPool();
+
+        assertTrue(adpRank(after, second) < adpRank(after, first));
+        // Same players: the pool version, indexes and serialized players are kept
+        assertEquals(before.getVersion(), after.getVersion());
+        assertEquals(before.indexOf(first.getId()), after.indexOf(first.getId()));
+        assertSame(before.findResponseById(first.getId()), after.findResponseById(first.getId()));
+    }
+
+    private static int adpRank(VerifiedPlayerPool pool, Player player) {
+        return pool.rankOf(pool.indexOf(player.getId()));
+    }
+
+    @Test
+    void getSegmentBoard_OnlyCountsMatchingDrafts() {
+        Player player = verifiedPlayer("Segment Player");
+        draftService.saveDraft(new DraftDTO("Twelve Team", 12, List.of(new PickDTO(player.getId(), 13))));
+        draftService.saveDraft(new DraftDTO("Ten Team", 10, List.of(new PickDTO(player.getId(), 5))));
+
+        SegmentedPlayerAdp twelveTeam = find(adpService.getSegmentBoard(AdpSegment.parse(null, null, "12")), player);
+        assertEquals(13.0, twelveTeam.adp());
+        assertEquals(2.0, twelveTeam.roundAdp(), 1e-9);
+        assertEquals(1, twelveTeam.timesDrafted());
+
+        SegmentedPlayerAdp recent = find(adpService.getSegmentBoard(AdpSegment.parse("30d", "false", null)), player);
+        assertEquals(9.0, recent.adp());
+        assertEquals(2, recent.timesDrafted());
+        assertEquals(5, recent.minPick());
+        assertEquals(13, recent.maxPick());
+
+        SegmentedPlayerAdp snakeOnly = find(adpService.getSegmentBoard(AdpSegment.parse("30d", "true", null)), player);
+        assertEquals(999.0, snakeOnly.adp());
+        assertNull(snakeOnly.roundAdp());
+    }
+
+    @Test
+    void getSegmentBoard_CachedUntilDraftSaved() {
+        Player player = verifiedPlayer("Segment Player");
+        AdpSegment segment = AdpSegment.parse("7d", null, null);
+        PlayerBoard<SegmentedPlayerAdp> before = adpService.getSegmentBoard(segment);
+        assertSame(before, adpService.getSegmentBoard(segment));
+
+        draftService.saveDraft(new DraftDTO("Mock", 1, List.of(new PickDTO(player.getId(), 4))));
+        PlayerBoard<SegmentedPlayerAdp> after = adpService.getSegmentBoard(segment);
+
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(4.0, find(after, player).adp());
+    }
+
+    private SegmentedPlayerAdp find(PlayerBoard<SegmentedPlayerAdp> board, Player player) {
+        return board.players().stream()
+            .filter(p -> p.id().equals(player.getId()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Player verifiedPlayer(String name) {
+        Player player = new Player();
+        player.setName(name);
+        player.setPosition("WR");
+        player.setVerified(true);
+        return playerService.savePlayer(player);
+    }
+}
@@ -0,0 +1,85 @@
+package devybigboard.services;
+
+import devybigboard.exceptions.StorageUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetServiceTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    private AssetService newService(int maxConcurrency) {
+        return new AssetService(s3Client, "bucket", "http://localhost:9000", maxConcurrency, Duration.ofMillis(50));
+    }
+
+    @Test
+    void requestsBeyondConcurrencyLimitFailFast() throws Exception {
+        AssetService service = newService(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return HeadObjectResponse.builder().build();
+        });
+
+        CompletableFuture<Boolean> slow = CompletableFuture.supplyAsync(() -> service.fileExists("a.png"));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        assertThrows(StorageUnavailableException.class, () -> service.fileExists("b.png"));
+        release.countDown();
+        assertTrue(slow.get(10, TimeUnit.SECONDS));
+        assertEquals(1, service.availablePermits());
+    }
+
+    @Test
+    void failedRequestsReleaseTheirPermit() {
+        AssetService service = newService(2);
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+            .thenThrow(NoSuchKeyException.builder().message("missing").build());
+
+        assertFalse(service.fileExists("missing.png"));
+        assertEquals(2, service.availablePermits());
+    }
+
+    @Test
+    void deleteImages_ReturnsKeysS3ReportsAsFailed() {
+        AssetService service = newService(2);
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+            .errors(S3Error.builder().key("b.png").code("AccessDenied").build())
+            .build());
+
+        assertEquals(List.of("b.png"), service.deleteImages(List.of("a.png", "b.png")));
+    }
+
+    @Test
+    void deleteImages_RejectsMoreKeysThanOneRequestAllows() {
+        AssetService service = newService(2);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.deleteImages(Collections.nCopies(AssetService.MAX_DELETE_BATCH + 1, "a.png")));
+        verifyNoInteractions(s3Client);
+    }
+}
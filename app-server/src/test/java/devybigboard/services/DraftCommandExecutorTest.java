@@ -0,0 +1,101 @@
+package devybigboard.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that DraftCommandExecutor serializes tasks per draft and runs different drafts in parallel.
+ */
+class DraftCommandExecutorTest {
+
+    private final DraftCommandExecutor executor = new DraftCommandExecutor("test-command", 4);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown(5, TimeUnit.SECONDS);
+    }
+
+    /** Find a draft UUID that maps to a different lane than the given one. */
+    private String otherLaneUuid(String uuid) {
+        for (int i = 0; ; i++) {
+            String candidate = "draft-" + i;
+            if (executor.laneOf(candidate) != executor.laneOf(uuid)) {
+                return candidate;
+            }
+        }
+    }
+
+    @Test
+    void submit_RunsTasksForOneDraftInOrderOneAtATime() {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        int[] running = new int[1];
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            int index = i;
+            futures.add(executor.submit("draft-a", () -> {
+                assertEquals(0, running[0]++);
+                order.add(index);
+                running[0]--;
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+
+    @Test
+    void submit_DoesNotBlockOtherDraftsBehindABusyDraft() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> busy = executor.submit("draft-a", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+
+        String other = otherLaneUuid("draft-a");
+        assertEquals(other, executor.submit(other, () -> other).get(1, TimeUnit.SECONDS));
+        assertFalse(busy.isDone());
+
+        release.countDown();
+        busy.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void submit_CompletesExceptionallyWithoutStoppingTheLane() {
+        CompletableFuture<Object> failed = executor.submit("draft-a", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertInstanceOf(IllegalStateException.class,
+                assertThrows(Exception.class, failed::join).getCause());
+        assertEquals("next", executor.submit("draft-a", () -> "next").join());
+    }
+
+    @Test
+    void shutdown_DrainsQueuedTasks() throws InterruptedException {
+        List<Integer> done = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 50; i++) {
+            int index = i;
+            executor.execute("draft-" + (i % 7), () -> done.add(index));
+        }
+
+        assertTrue(executor.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(50, done.size());
+    }
+}
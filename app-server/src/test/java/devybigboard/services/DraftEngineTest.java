@@ -0,0 +1,230 @@
+package devybigboard.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devybigboard.models.PickMessage;
+import devybigboard.models.Player;
+import devybigboard.models.PlayerResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the in-memory DraftEngine.
+ * Tests turn order, pick validation, completion and undo without a database.
+ */
+class DraftEngineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private DraftEngine newEngine(int participantCount, int totalRounds, boolean snakeDraft) {
+        return new DraftEngine(
+            1L, "engine-uuid", "Engine Test", "IN_PROGRESS",
+            participantCount, totalRounds, snakeDraft,
+            1, 1, null, null,
+            new ArrayList<>(), new ArrayList<>()
+        );
+    }
+
+    private Player player(long id) {
+        Player player = new Player("Player " + id, "QB", "Team", "College");
+        player.setId(id);
+        return player;
+    }
+
+    @Test
+    void turnOrder_SnakeDraftReversesEvenRounds() {
+        DraftEngine engine = newEngine(3, 3, true);
+
+        List<String> order = new ArrayList<>();
+        for (long id = 1; id <= 9; id++) {
+            String turn = engine.getCurrentTurnPosition();
+            order.add(turn);
+            engine.applyPick(player(id), turn, null);
+        }
+
+        assertEquals(List.of("A", "B", "C", "C", "B", "A", "A", "B", "C"), order);
+    }
+
+    @Test
+    void turnOrder_LinearDraftRepeatsEveryRound() {
+        DraftEngine engine = newEngine(3, 2, false);
+
+        List<String> order = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            String turn = engine.getCurrentTurnPosition();
+            order.add(turn);
+            engine.applyPick(player(id), turn, null);
+        }
+
+        assertEquals(List.of("A", "B", "C", "A", "B", "C"), order);
+    }
+
+    @Test
+    void applyPick_AdvancesPickAndRound() {
+        DraftEngine engine = newEngine(2, 3, false);
+
+        PickMessage first = engine.applyPick(player(10), "A", null);
+        engine.applyPick(player(11), "B", null);
+
+        assertEquals(1, first.getPickNumber());
+        assertEquals(1, first.getRoundNumber());
+        assertEquals(3, engine.getCurrentPick());
+        assertEquals(2, engine.getCurrentRound());
+        assertTrue(engine.isTurn("A"));
+        assertFalse(engine.isTurn("B"));
+    }
+
+    @Test
+    void applyPick_RejectsAlreadyPickedPlayer() {
+        DraftEngine engine = newEngine(2, 2, false);
+        engine.applyPick(player(10), "A", null);
+
+        assertThrows(IllegalArgumentException.class, () -> engine.applyPick(player(10), "B", null));
+        assertEquals(2, engine.getCurrentPick());
+    }
+
+    @Test
+    void applyPick_RecordsForcedBy() {
+        DraftEngine engine = newEngine(2, 2, false);
+
+        PickMessage pick = engine.applyPick(player(10), "A", "B");
+
+        assertEquals("A", pick.getPickedByPosition());
+        assertEquals("B", pick.getForcedByPosition());
+    }
+
+    @Test
+    void applyPick_CompletesDraftAfterFinalPick() {
+        DraftEngine engine = newEngine(2, 1, false);
+        engine.applyPick(player(10), "A", null);
+        engine.applyPick(player(11), "B", null);
+
+        assertEquals("COMPLETED", engine.getStatus());
+        assertNotNull(engine.getCompletedAt());
+        assertNull(engine.getCurrentTurnPosition());
+        assertThrows(IllegalStateException.class, () -> engine.applyPick(player(12), "A", null));
+    }
+
+    @Test
+    void undoLastPick_RevertsCompletionAndFreesPlayer() {
+        DraftEngine engine = newEngine(2, 1, false);
+        engine.applyPick(player(10), "A", null);
+        engine.applyPick(player(11), "B", null);
+
+        PickMessage removed = engine.undoLastPick();
+
+        assertEquals(11L, removed.getPlayerId());
+        assertEquals("IN_PROGRESS", engine.getStatus());
+        assertNull(engine.getCompletedAt());
+        assertEquals(2, engine.getCurrentPick());
+        assertEquals(1, engine.getCurrentRound());
+        assertFalse(engine.isPicked(11L));
+        assertTrue(engine.isTurn("B"));
+    }
+
+    @Test
+    void attachPool_TracksAvailabilityInAdpOrder() {
+        DraftEngine engine = newEngine(2, 2, false);
+        VerifiedPlayerPool pool = new VerifiedPlayerPool(1, List.of(player(30), player(10), player(20)), objectMapper);
+        engine.attachPool(pool);
+
+        engine.applyPick(player(10), "A", null);
+
+        List<Long> available = engine.copyAvailability().availablePlayerResponses().stream()
+            .map(response -> response.getId())
+            .toList();
+        assertEquals(List.of(30L, 20L), available);
+        assertTrue(engine.isPicked(10L));
+
+        engine.undoLastPick();
+        assertFalse(engine.isPicked(10L));
+        assertEquals(3, engine.copyAvailability().availableCount());
+    }
+
+    @Test
+    void nextAvailablePlayerId_SkipsPickedPlayersInAdpOrder() {
+        DraftEngine engine = newEngine(2, 2, false);
+        engine.attachPool(new VerifiedPlayerPool(1, List.of(player(30), player(10), player(20), player(40)), objectMapper));
+        engine.applyPick(player(30), "A", null);
+        engine.applyPick(player(20), "B", null);
+
+        assertEquals(40L, engine.nextAvailablePlayerId(10L));
+        assertEquals(10L, engine.nextAvailablePlayerId(30L));
+        assertNull(engine.nextAvailablePlayerId(40L));
+        assertNull(engine.nextAvailablePlayerId(99L));
+    }
+
+    @Test
+    void attachPool_RebuildsFromPickLogOnNewVersion() {
+        DraftEngine engine = newEngine(2, 2, false);
+        engine.attachPool(new VerifiedPlayerPool(1, List.of(player(10), player(20)), objectMapper));
+
+        // Player 99 is picked while outside the pool
+        engine.applyPick(player(10), "A", null);
+        engine.applyPick(player(99), "B", null);
+
+        engine.attachPool(new VerifiedPlayerPool(2, List.of(player(99), player(20), player(10)), objectMapper));
+
+        assertTrue(engine.isPicked(10L));
+        assertTrue(engine.isPicked(99L));
+        assertFalse(engine.isPicked(20L));
+        assertEquals(1, engine.copyAvailability().availableCount());
+        assertThrows(IllegalArgumentException.class, () -> engine.applyPick(player(99), "B", null));
+    }
+
+    @Test
+    void attachPool_ReRankedPoolKeepsPicksAndFollowsNewOrder() {
+        DraftEngine engine = newEngine(2, 2, false);
+        VerifiedPlayerPool pool = new VerifiedPlayerPool(1, List.of(player(30), player(10), player(20)), objectMapper);
+        engine.attachPool(pool);
+        engine.applyPick(player(10), "A", null);
+
+        engine.attachPool(pool.reranked(2, Map.of(20L, 0, 10L, 1, 30L, 2)));
+
+        List<Long> available = engine.copyAvailability().availablePlayerResponses().stream()
+            .map(response -> response.getId())
+            .toList();
+        assertEquals(List.of(20L, 30L), available);
+        assertTrue(engine.isPicked(10L));
+        assertEquals(30L, engine.nextAvailablePlayerId(20L));
+    }
+
+    @Test
+    void availablePlayers_SupportIndexedAccessInAdpOrder() {
+        DraftEngine engine = newEngine(2, 2, false);
+        engine.attachPool(new VerifiedPlayerPool(1, List.of(player(30), player(10), player(20), player(40)), objectMapper));
+        engine.applyPick(player(10), "A", null);
+
+        List<PlayerResponse> available = engine.copyAvailability().availablePlayerResponses();
+
+        assertEquals(3, available.size());
+        assertEquals(30L, available.get(0).getId());
+        assertEquals(20L, available.get(1).getId());
+        assertEquals(40L, available.get(2).getId());
+        assertThrows(IndexOutOfBoundsException.class, () -> available.get(3));
+    }
+
+    @Test
+    void availablePlayers_SerializeFromCachedFragments() throws Exception {
+        DraftEngine engine = newEngine(2, 2, false);
+        engine.attachPool(new VerifiedPlayerPool(1, List.of(player(10), player(20), player(30)), objectMapper));
+        engine.applyPick(player(20), "A", null);
+
+        String spliced = objectMapper.writeValueAsString(engine.copyAvailability().availablePlayerResponses());
+        String expected = objectMapper.writeValueAsString(
+            List.of(new PlayerResponse(player(10)), new PlayerResponse(player(30))));
+
+        assertEquals(expected, spliced);
+    }
+
+    @Test
+    void undoLastPick_ThrowsWhenNoPicks() {
+        DraftEngine engine = newEngine(2, 2, false);
+
+        assertThrows(IllegalStateException.class, engine::undoLastPick);
+    }
+}
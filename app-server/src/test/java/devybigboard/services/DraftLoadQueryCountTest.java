@@ -0,0 +1,174 @@
+package devybigboard.services;
+
+import devybigboard.dao.DraftRepository;
+import devybigboard.models.Draft;
+import devybigboard.models.DraftParticipant;
+import devybigboard.models.DraftPick;
+import devybigboard.models.DraftStateMessage;
+import devybigboard.models.PickMessage;
+import devybigboard.models.Player;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that loading a draft with its participants, picks and picked players
+ * takes the same small number of queries however many picks the draft has,
+ * and that draft state snapshots and engines are read without loading any entities.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DraftLoadQueryCountTest {
+
+    private static final int MAX_QUERIES = 2;
+
+    @Autowired
+    private DraftService draftService;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private LiveDraftEngineService liveDraftEngineService;
+
+    @Autowired
+    private DraftRepository draftRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Create an in-progress draft with four participants and the given number of picks,
+     * then detach everything so the next read has to go to the database.
+     */
+    private String draftWithPicks(int pickCount) {
+        Draft draft = draftService.createLiveDraft("Query Count", "Alice", 4, 20, "1234", false);
+        String[] positions = {"A", "B", "C", "D"};
+        for (String position : positions) {
+            participantService.joinDraft(draft.getId(), "User " + position, position);
+        }
+
+        Draft managed = draftRepository.findById(draft.getId()).orElseThrow();
+        for (int pickNumber = 1; pickNumber <= pickCount; pickNumber++) {
+            Player player = new Player("Query Player " + pickCount + "-" + pickNumber, "RB", "Team", "College");
+            player.setVerified(true);
+            player = playerService.savePlayer(player);
+            managed.addPick(new DraftPick(managed, player, pickNumber,
+                positions[(pickNumber - 1) % positions.length], (pickNumber - 1) / positions.length + 1));
+        }
+        managed.setStatus("IN_PROGRESS");
+        managed.setCurrentPick(pickCount + 1);
+        managed.setCurrentRound(pickCount / positions.length + 1);
+        draftRepository.saveAndFlush(managed);
+
+        entityManager.clear();
+        // Build the shared player pool now so it is not counted below
+        playerService.getVerifiedPlayerPool();
+        return managed.getUuid();
+    }
+
+    private long countQueries(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long draftAggregateQueries(String uuid) {
+        return countQueries(() -> {
+            Draft draft = draftService.getDraftAggregate(uuid);
+            // Touch everything the exports read, so lazy loading would show up in the count
+            for (DraftPick pick : draft.getPicks()) {
+                assertNotNull(pick.getPlayer().getName());
+            }
+            for (DraftParticipant participant : draft.getParticipants()) {
+                assertNotNull(participant.getNickname());
+            }
+        });
+    }
+
+    private void assertNoEntitiesLoaded(String action) {
+        assertEquals(0, statistics.getEntityLoadCount(), action + " loaded entities");
+        assertEquals(0, statistics.getCollectionLoadCount(), action + " loaded entity collections");
+        assertEquals(0, statistics.getPrepareStatementCount(), action + " ran Hibernate queries");
+    }
+
+    @Test
+    void getDraftAggregate_QueryCountDoesNotGrowWithPicks() {
+        String small = draftWithPicks(2);
+        String large = draftWithPicks(60);
+
+        long smallQueries = draftAggregateQueries(small);
+        entityManager.clear();
+        long largeQueries = draftAggregateQueries(large);
+
+        assertTrue(largeQueries <= MAX_QUERIES, "getDraftAggregate took " + largeQueries + " queries");
+        assertEquals(smallQueries, largeQueries);
+    }
+
+    @Test
+    void getDraftStateMessage_LoadsNoEntities() {
+        String uuid = draftWithPicks(60);
+
+        statistics.clear();
+        DraftStateMessage state = liveDraftEngineService.getDraftStateMessage(uuid);
+        assertNoEntitiesLoaded("getDraftStateMessage");
+        liveDraftEngineService.evict(uuid);
+
+        assertEquals(60, state.getPicks().size());
+    }
+
+    @Test
+    void getDraftStateMessage_ReturnsAllPicksAndParticipants() {
+        String uuid = draftWithPicks(10);
+
+        DraftStateMessage state = liveDraftEngineService.getDraftStateMessage(uuid);
+        liveDraftEngineService.evict(uuid);
+
+        assertEquals(10, state.getPicks().size());
+        assertEquals(4, state.getParticipants().size());
+        assertEquals("C", state.getCurrentTurnPosition());
+
+        PickMessage last = state.getPicks().get(9);
+        assertEquals(10, last.getPickNumber());
+        assertEquals("Query Player 10-10", last.getPlayerName());
+        assertEquals("B", last.getPickedByPosition());
+        assertEquals(3, last.getRoundNumber());
+        assertEquals("User A", state.getParticipants().get(0).getNickname());
+    }
+
+    @Test
+    void engineLoad_LoadsNoEntities() {
+        String uuid = draftWithPicks(60);
+
+        statistics.clear();
+        DraftEngine engine = liveDraftEngineService.getEngine(uuid);
+        assertNoEntitiesLoaded("Loading the draft engine");
+        liveDraftEngineService.evict(uuid);
+
+        assertEquals(60, engine.getPicks().size());
+        assertEquals(4, engine.getParticipants().size());
+    }
+}
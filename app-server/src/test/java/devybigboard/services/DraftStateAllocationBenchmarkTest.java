@@ -0,0 +1,137 @@
+package devybigboard.services;
+
+import devybigboard.dao.DraftDao;
+import devybigboard.dao.DraftRepository;
+import devybigboard.models.Draft;
+import devybigboard.models.DraftPick;
+import devybigboard.models.DraftStateView;
+import devybigboard.models.ParticipantInfo;
+import devybigboard.models.PickMessage;
+import devybigboard.models.Player;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Allocation benchmark for reading the participants and picks of a draft state snapshot:
+ * the JDBC read model against loading the Draft entity graph and mapping it to the same DTOs.
+ * Excluded from the regular test run; run with {@code ./gradlew :app-server:benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DraftStateAllocationBenchmarkTest {
+
+    private static final int PARTICIPANTS = 12;
+    private static final int PICKS = 120;
+    private static final int WARMUP_ITERATIONS = 300;
+    private static final int MEASURED_ITERATIONS = 1_000;
+
+    @Autowired
+    private DraftService draftService;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private DraftRepository draftRepository;
+
+    @Autowired
+    private DraftDao draftDao;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String createDraft() {
+        Draft draft = draftService.createLiveDraft("Allocation Benchmark", "Alice", PARTICIPANTS, 10, "1234", false);
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            String position = String.valueOf((char) ('A' + i));
+            participantService.joinDraft(draft.getId(), "User " + position, position);
+        }
+
+        Draft managed = draftRepository.findById(draft.getId()).orElseThrow();
+        for (int pickNumber = 1; pickNumber <= PICKS; pickNumber++) {
+            Player player = new Player("Benchmark Player " + pickNumber, "WR", "Team", "College");
+            player.setVerified(true);
+            player = playerService.savePlayer(player);
+            String position = String.valueOf((char) ('A' + (pickNumber - 1) % PARTICIPANTS));
+            managed.addPick(new DraftPick(managed, player, pickNumber, position,
+                (pickNumber - 1) / PARTICIPANTS + 1));
+        }
+        managed.setStatus("COMPLETED");
+        draftRepository.saveAndFlush(managed);
+        entityManager.clear();
+        return managed.getUuid();
+    }
+
+    /**
+     * The previous way of building snapshot DTOs: load the entity graph read-only, then map it.
+     */
+    private List<PickMessage> readThroughEntities(String uuid) {
+        Draft draft = draftRepository.findAggregateByUuid(uuid).orElseThrow();
+        List<ParticipantInfo> participants = draft.getParticipants().stream()
+            .map(ParticipantInfo::fromEntity)
+            .toList();
+        List<PickMessage> picks = draft.getPicks().stream()
+            .sorted(Comparator.comparing(DraftPick::getPickNumber))
+            .map(PickMessage::fromEntity)
+            .toList();
+        entityManager.clear();
+        assertEquals(PARTICIPANTS, participants.size());
+        return picks;
+    }
+
+    private List<PickMessage> readThroughView(String uuid) {
+        DraftStateView view = draftDao.findDraftStateView(uuid).orElseThrow();
+        assertEquals(PARTICIPANTS, view.participants().size());
+        return view.picks();
+    }
+
+    /**
+     * Average bytes allocated by the current thread per call, after a warmup.
+     */
+    private long bytesPerCall(Supplier<List<PickMessage>> read) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(PICKS, read.get().size());
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            read.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / MEASURED_ITERATIONS;
+    }
+
+    @Test
+    void readModel_AllocatesLessPerStateBuildThanEntityGraph() {
+        String uuid = createDraft();
+        entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+
+        long entityBytes = bytesPerCall(() -> readThroughEntities(uuid));
+        long viewBytes = bytesPerCall(() -> readThroughView(uuid));
+
+        System.out.printf("Draft state build with %d participants and %d picks:%n", PARTICIPANTS, PICKS);
+        System.out.printf("  entity graph: %,d bytes/op%n", entityBytes);
+        System.out.printf("  read model:   %,d bytes/op (%.0f%% less)%n",
+            viewBytes, 100.0 * (entityBytes - viewBytes) / entityBytes);
+
+        assertTrue(viewBytes < entityBytes,
+            "Read model allocated " + viewBytes + " bytes/op, entity graph " + entityBytes);
+    }
+}
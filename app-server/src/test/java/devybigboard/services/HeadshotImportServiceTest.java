@@ -0,0 +1,169 @@
+package devybigboard.services;
+
+import devybigboard.dao.PlayerAssetDao;
+import devybigboard.dao.PlayerAssetDao.AssetRow;
+import devybigboard.models.HeadshotImportEntry;
+import devybigboard.models.HeadshotImportResult;
+import devybigboard.models.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeadshotImportServiceTest {
+
+    @Mock
+    private AssetService assetService;
+
+    @Mock
+    private HeadshotService headshotService;
+
+    @Mock
+    private PlayerService playerService;
+
+    @Mock
+    private PlayerAssetDao playerAssetDao;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HeadshotImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HeadshotImportService(assetService, headshotService, playerService, playerAssetDao,
+            transactionManager, 2, 1000);
+        lenient().when(playerService.getAllPlayers()).thenReturn(List.of(
+            player(1L, "John Smith"), player(2L, "Jane Doe"), player(3L, "Sam Lee"), player(4L, "Sam Lee")));
+        lenient().when(assetService.uploadImage(any(byte[].class), anyString(), anyString(), anyString()))
+            .thenAnswer(invocation -> "new-" + invocation.getArgument(1, String.class));
+    }
+
+    private static Player player(long id, String name) {
+        Player player = new Player();
+        player.setId(id);
+        player.setName(name);
+        return player;
+    }
+
+    private static byte[] zip(Map<String, Integer> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(new byte[entry.getValue()]);
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AssetRow> upserted() {
+        ArgumentCaptor<List<AssetRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(playerAssetDao).upsertAssets(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void importZip_MatchesEntriesByIdAndNameAndReportsEachOne() throws IOException {
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        entries.put("class/1.png", 10);
+        entries.put("class/jane_doe.JPG", 20);
+        entries.put("class/sam-lee.png", 10);
+        entries.put("class/99.png", 10);
+        entries.put("class/notes.txt", 5);
+        entries.put("class/john smith.png", 10);
+        entries.put("class/big.png", 2000);
+
+        HeadshotImportResult result = service.importZip(new ByteArrayInputStream(zip(entries)));
+
+        assertEquals(List.of("IMPORTED", "IMPORTED", "FAILED", "FAILED", "SKIPPED", "FAILED", "FAILED"),
+            result.entries().stream().map(HeadshotImportEntry::status).toList());
+        assertEquals(2, result.imported());
+        assertEquals(4, result.failed());
+        assertEquals(1, result.skipped());
+        assertEquals(1L, result.entries().get(5).playerId());
+        assertTrue(result.entries().get(2).message().contains("More than one"));
+
+        List<AssetRow> rows = upserted();
+        assertEquals(2, rows.size());
+        assertTrue(rows.contains(new AssetRow(1L, "new-1.png",
+            HeadshotService.contentHash(new ByteArrayInputStream(new byte[10])))));
+        verify(headshotService, times(2)).createRenditions(anyString(), any());
+        verify(headshotService).evict(1L);
+        verify(headshotService).evict(2L);
+    }
+
+    @Test
+    void importZip_OversizedEntryDoesNotBlockALaterEntryForThePlayer() throws IOException {
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        entries.put("large/1.png", 2000);
+        entries.put("small/1.png", 10);
+
+        HeadshotImportResult result = service.importZip(new ByteArrayInputStream(zip(entries)));
+
+        assertEquals(List.of("FAILED", "IMPORTED"), result.entries().stream().map(HeadshotImportEntry::status).toList());
+        assertEquals(List.of(1L), upserted().stream().map(AssetRow::playerId).toList());
+    }
+
+    @Test
+    void importZip_DeletesReplacedFilesAfterCommit() throws IOException {
+        when(playerAssetDao.lockFilenames(any())).thenReturn(Map.of(1L, "old.png"));
+
+        HeadshotImportResult result = service.importZip(new ByteArrayInputStream(zip(Map.of("1.png", 10))));
+
+        assertEquals(1, result.imported());
+        verify(headshotService).deleteHeadshotFiles("old.png");
+        verify(headshotService, never()).deleteHeadshotFiles("new-1.png");
+    }
+
+    @Test
+    void importZip_ReportsFailedUploadsAndSavesTheRest() throws IOException {
+        when(assetService.uploadImage(any(byte[].class), eq("2.png"), anyString(), anyString()))
+            .thenThrow(new RuntimeException("S3 down"));
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        entries.put("1.png", 10);
+        entries.put("2.png", 10);
+
+        HeadshotImportResult result = service.importZip(new ByteArrayInputStream(zip(entries)));
+
+        assertEquals("IMPORTED", result.entries().get(0).status());
+        assertEquals("FAILED", result.entries().get(1).status());
+        assertEquals(List.of(1L), upserted().stream().map(AssetRow::playerId).toList());
+    }
+
+    @Test
+    void importZip_DatabaseFailureDeletesUploadedFiles() throws IOException {
+        doThrow(new RuntimeException("deadlock")).when(playerAssetDao).upsertAssets(any());
+
+        HeadshotImportResult result = service.importZip(new ByteArrayInputStream(zip(Map.of("1.png", 10))));
+
+        assertEquals(1, result.failed());
+        assertEquals("Could not save player asset", result.entries().get(0).message());
+        verify(headshotService).deleteHeadshotFiles("new-1.png");
+    }
+
+    @Test
+    void normalizeName_IgnoresCaseAndSeparators() {
+        assertEquals("john smith jr", HeadshotImportService.normalizeName("John_Smith-Jr."));
+        assertEquals("john smith", HeadshotImportService.normalizeName("  JOHN   SMITH "));
+    }
+}
@@ -0,0 +1,137 @@
+package devybigboard.services;
+
+import devybigboard.dao.PlayerAssetRepository;
+import devybigboard.models.HeadshotPurgeStatus;
+import devybigboard.models.PlayerAsset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeadshotPurgeServiceTest {
+
+    @Mock
+    private AssetService assetService;
+
+    @Mock
+    private PlayerAssetRepository playerAssetRepository;
+
+    @Mock
+    private HeadshotService headshotService;
+
+    private HeadshotPurgeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HeadshotPurgeService(assetService, playerAssetRepository, headshotService, 3);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    private List<PlayerAsset> givenAssets(int count) {
+        List<PlayerAsset> assets = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            assets.add(new PlayerAsset(id, id + ".png"));
+        }
+        when(playerAssetRepository.findAll()).thenReturn(assets);
+        return assets;
+    }
+
+    private HeadshotPurgeStatus runPurge() throws Exception {
+        service.startPurge();
+        service.currentCompletion().get(10, TimeUnit.SECONDS);
+        return service.getStatus().orElseThrow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PlayerAsset> removedAssets() {
+        ArgumentCaptor<Iterable<PlayerAsset>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(playerAssetRepository).deleteAllInBatch(captor.capture());
+        List<PlayerAsset> removed = new ArrayList<>();
+        captor.getValue().forEach(removed::add);
+        return removed;
+    }
+
+    @Test
+    void purge_DeletesKeysInBatchesAndRemovesAssets() throws Exception {
+        List<PlayerAsset> assets = givenAssets(300);
+        when(assetService.deleteImages(anyCollection())).thenReturn(List.of());
+
+        HeadshotPurgeStatus status = runPurge();
+
+        int keys = 300 * (1 + HeadshotService.RENDITION_SIZES.size());
+        assertEquals("COMPLETED", status.state());
+        assertEquals(keys, status.totalKeys());
+        assertEquals(keys, status.deletedKeys());
+        assertEquals(2, status.totalBatches());
+        assertEquals(2, status.completedBatches());
+        assertEquals(300, status.deletedFromDatabase());
+        assertNotNull(status.finishedAt());
+        verify(assetService, times(2)).deleteImages(argThat((Collection<String> batch) ->
+            batch.size() <= AssetService.MAX_DELETE_BATCH));
+        assertEquals(assets, removedAssets());
+        verify(headshotService).evictAll();
+    }
+
+    @Test
+    void purge_KeepsAssetsWhoseKeysWereNotDeleted() throws Exception {
+        List<PlayerAsset> assets = givenAssets(2);
+        when(assetService.deleteImages(anyCollection())).thenReturn(List.of("players/headshots/64/1.jpg"));
+
+        HeadshotPurgeStatus status = runPurge();
+
+        assertEquals(1, status.failedKeys());
+        assertEquals(1, status.deletedFromDatabase());
+        assertEquals(List.of(assets.get(1)), removedAssets());
+    }
+
+    @Test
+    void purge_CountsFailedBatchAsFailedKeys() throws Exception {
+        givenAssets(2);
+        when(assetService.deleteImages(anyCollection())).thenThrow(new RuntimeException("S3 unavailable"));
+
+        HeadshotPurgeStatus status = runPurge();
+
+        assertEquals("COMPLETED", status.state());
+        assertEquals(status.totalKeys(), status.failedKeys());
+        assertEquals(0, status.deletedFromDatabase());
+    }
+
+    @Test
+    void startPurge_ReturnsRunningJobInsteadOfStartingAnother() throws Exception {
+        givenAssets(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assetService.deleteImages(anyCollection())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        HeadshotPurgeStatus first = service.startPurge();
+        HeadshotPurgeStatus second = service.startPurge();
+        release.countDown();
+        service.currentCompletion().get(10, TimeUnit.SECONDS);
+
+        assertEquals(first.jobId(), second.jobId());
+        assertTrue(second.isRunning());
+        verify(playerAssetRepository, times(1)).findAll();
+        verify(playerAssetRepository).deleteAllInBatch(any());
+    }
+}
@@ -0,0 +1,158 @@
+package devybigboard.services;
+
+import devybigboard.dao.PlayerAssetRepository;
+import devybigboard.models.HeadshotReconciliationReport;
+import devybigboard.models.PlayerAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeadshotReconciliationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+    private static final Instant OLD = NOW.minus(Duration.ofDays(2));
+
+    @Mock
+    private AssetService assetService;
+
+    @Mock
+    private PlayerAssetRepository playerAssetRepository;
+
+    private HeadshotReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = newService(10000);
+    }
+
+    private HeadshotReconciliationService newService(int maxDeletes) {
+        return new HeadshotReconciliationService(assetService, playerAssetRepository, Duration.ofHours(24),
+                maxDeletes, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static S3Object object(String key, Instant lastModified) {
+        return S3Object.builder().key(key).lastModified(lastModified).build();
+    }
+
+    private static List<S3Object> orphans(int count, Instant lastModified) {
+        List<S3Object> objects = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            objects.add(object("players/headshots/orphan-" + i + ".png", lastModified));
+        }
+        return objects;
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void givenPages(List<S3Object>... pages) {
+        doAnswer(invocation -> {
+            Consumer<List<S3Object>> consumer = invocation.getArgument(1);
+            for (List<S3Object> page : pages) {
+                consumer.accept(page);
+            }
+            return null;
+        }).when(assetService).listImages(eq("players/headshots/"), any(Consumer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Collection<String>> deletedBatches() {
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(assetService, atLeastOnce()).deleteImages(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    void reconcile_KeepsReferencedOriginalsAndRenditions() {
+        when(playerAssetRepository.findAll()).thenReturn(List.of(new PlayerAsset(1L, "a.png")));
+        List<S3Object> page = HeadshotService.s3Keys("a.png").stream()
+                .map(key -> object(key, OLD))
+                .toList();
+        givenPages(page);
+
+        HeadshotReconciliationReport report = service.reconcile().orElseThrow();
+
+        assertEquals(page.size(), report.scannedObjects());
+        assertEquals(page.size(), report.expectedKeys());
+        assertEquals(0, report.orphanedObjects());
+        verify(assetService, never()).deleteImages(anyCollection());
+    }
+
+    @Test
+    void reconcile_DeletesOldOrphansInBatchesAcrossPages() {
+        when(playerAssetRepository.findAll()).thenReturn(List.of(new PlayerAsset(1L, "a.png")));
+        when(assetService.deleteImages(anyCollection())).thenReturn(List.of());
+        List<S3Object> orphans = orphans(AssetService.MAX_DELETE_BATCH + 500, OLD);
+        List<S3Object> first = new ArrayList<>(orphans.subList(0, 800));
+        first.add(object("players/headshots/a.png", OLD));
+        givenPages(first, orphans.subList(800, orphans.size()));
+
+        HeadshotReconciliationReport report = service.reconcile().orElseThrow();
+
+        List<Collection<String>> batches = deletedBatches();
+        assertEquals(2, batches.size());
+        assertEquals(AssetService.MAX_DELETE_BATCH, batches.get(0).size());
+        assertEquals(500, batches.get(1).size());
+        assertFalse(batches.get(0).contains("players/headshots/a.png"));
+        assertEquals(orphans.size(), report.orphanedObjects());
+        assertEquals(orphans.size(), report.deletedObjects());
+    }
+
+    @Test
+    void reconcile_LeavesRecentOrphans() {
+        when(playerAssetRepository.findAll()).thenReturn(List.of());
+        givenPages(List.of(object("players/headshots/uploading.png", NOW.minus(Duration.ofMinutes(5)))));
+
+        HeadshotReconciliationReport report = service.reconcile().orElseThrow();
+
+        assertEquals(1, report.orphanedObjects());
+        assertEquals(1, report.skippedRecent());
+        assertEquals(0, report.deletedObjects());
+        verify(assetService, never()).deleteImages(anyCollection());
+    }
+
+    @Test
+    void reconcile_StopsDeletingAtMaxDeletes() {
+        service = newService(10);
+        when(playerAssetRepository.findAll()).thenReturn(List.of());
+        when(assetService.deleteImages(anyCollection())).thenReturn(List.of());
+        givenPages(orphans(25, OLD));
+
+        HeadshotReconciliationReport report = service.reconcile().orElseThrow();
+
+        assertEquals(25, report.orphanedObjects());
+        assertEquals(10, report.deletedObjects());
+        assertEquals(10, deletedBatches().get(0).size());
+    }
+
+    @Test
+    void reconcile_CountsFailedDeletions() {
+        when(playerAssetRepository.findAll()).thenReturn(List.of());
+        when(assetService.deleteImages(anyCollection())).thenReturn(List.of("players/headshots/orphan-1.png"));
+        givenPages(orphans(3, OLD));
+
+        HeadshotReconciliationReport report = service.reconcile().orElseThrow();
+
+        assertEquals(2, report.deletedObjects());
+        assertEquals(1, report.failedDeletions());
+    }
+}
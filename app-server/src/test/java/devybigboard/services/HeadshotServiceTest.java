@@ -0,0 +1,578 @@
+package devybigboard.services;
+
+import devybigboard.config.CacheConfig;
+import devybigboard.dao.PlayerAssetRepository;
+import devybigboard.exceptions.ValidationException;
+import devybigboard.models.HeadshotBundle;
+import devybigboard.models.HeadshotCacheStats;
+import devybigboard.models.HeadshotContent;
+import devybigboard.models.PlayerAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeadshotServiceTest {
+
+    private static final long MAX_ENTRY_BYTES = 4096;
+
+    @Mock
+    private AssetService assetService;
+
+    @Mock
+    private PlayerAssetRepository playerAssetRepository;
+
+    @TempDir
+    Path diskDirectory;
+
+    private HeadshotService newService(long maxBytes) {
+        return newService(maxBytes, new HeadshotDiskStore(false, diskDirectory.toString()));
+    }
+
+    private HeadshotService newService(long maxBytes, HeadshotDiskStore diskStore) {
+        return newService(maxBytes, diskStore, Runnable::run);
+    }
+
+    private HeadshotService newService(long maxBytes, HeadshotDiskStore diskStore, Executor s3Executor) {
+        return new HeadshotService(assetService, playerAssetRepository,
+            new CacheConfig().headshotCache(maxBytes, Duration.ZERO), diskStore, MAX_ENTRY_BYTES, s3Executor);
+    }
+
+    private void givenHeadshot(long playerId, String filename, int size) {
+        when(playerAssetRepository.findByPlayerId(playerId)).thenReturn(Optional.of(new PlayerAsset(playerId, filename)));
+        givenS3Object(filename, size);
+    }
+
+    private void givenS3Object(String filename, int size) {
+        givenS3Object(filename, new byte[size]);
+    }
+
+    private void givenS3Object(String filename, byte[] bytes) {
+        when(assetService.openImage("players/headshots/" + filename))
+            .thenAnswer(invocation -> new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) bytes.length).contentType("image/jpeg").build(),
+                AbortableInputStream.create(new ByteArrayInputStream(bytes))));
+    }
+
+    private void givenNoRenditionsInS3() {
+        lenient().when(assetService.openImage(matches("players/headshots/\\d+/.*")))
+            .thenThrow(NoSuchKeyException.builder().message("missing").build());
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private byte[] write(HeadshotContent content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        content.body().writeTo(out);
+        return out.toByteArray();
+    }
+
+    private Map<Long, Integer> readBundle(HeadshotBundle bundle) throws IOException {
+        Map<Long, Integer> lengths = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(write(bundle.content())))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long playerId = in.readLong();
+                assertEquals("image/jpeg", in.readUTF());
+                int length = in.readInt();
+                in.skipNBytes(length);
+                lengths.put(playerId, length);
+            }
+            assertEquals(-1, in.read());
+        }
+        return lengths;
+    }
+
+    @Test
+    void openHeadshot_ServesRepeatReadsFromMemory() throws IOException {
+        HeadshotService service = newService(1_000_000);
+        givenHeadshot(1L, "one.jpg", 1000);
+
+        HeadshotContent first = service.openHeadshot(1L).orElseThrow();
+        HeadshotContent second = service.openHeadshot(1L).orElseThrow();
+
+        assertEquals(1000, first.contentLength());
+        assertEquals(1000, write(second).length);
+        verify(assetService, times(1)).openImage("players/headshots/one.jpg");
+        HeadshotCacheStats stats = service.getCacheStats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void openHeadshot_ConcurrentMissesShareOneS3Read() throws Exception {
+        HeadshotService service = newService(1_000_000);
+        PlayerAsset asset = new PlayerAsset(4L, "four.jpg");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assetService.openImage("players/headshots/four.jpg")).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength(1000L).contentType("image/jpeg").build(),
+                AbortableInputStream.create(new ByteArrayInputStream(new byte[1000])));
+        });
+
+        ExecutorService requests = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<HeadshotContent>> results = new ArrayList<>();
+            results.add(requests.submit(() -> service.openHeadshot(asset, 0)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < 8; i++) {
+                results.add(requests.submit(() -> service.openHeadshot(asset, 0)));
+            }
+            // Let the other requests reach the in-flight load before it finishes
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<HeadshotContent> result : results) {
+                assertEquals(1000, write(result.get(5, TimeUnit.SECONDS)).length);
+            }
+        } finally {
+            requests.shutdownNow();
+        }
+        verify(assetService, times(1)).openImage("players/headshots/four.jpg");
+    }
+
+    @Test
+    void openHeadshot_ConcurrentMissesShareTheLoadFailure() throws Exception {
+        HeadshotService service = newService(1_000_000);
+        PlayerAsset asset = new PlayerAsset(5L, "five.jpg");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assetService.openImage("players/headshots/five.jpg")).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            throw NoSuchKeyException.builder().message("missing").build();
+        });
+
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        try {
+            Future<HeadshotContent> first = requests.submit(() -> service.openHeadshot(asset, 0));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<HeadshotContent> second = requests.submit(() -> service.openHeadshot(asset, 0));
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<HeadshotContent> result : List.of(first, second)) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(NoSuchKeyException.class, e.getCause());
+            }
+        } finally {
+            requests.shutdownNow();
+        }
+        verify(assetService, times(1)).openImage("players/headshots/five.jpg");
+    }
+
+    @Test
+    void openHeadshot_KeepsTotalBytesWithinBound() {
+        HeadshotService service = newService(10_000);
+        for (long id = 1; id <= 10; id++) {
+            givenHeadshot(id, id + ".jpg", 3000);
+            service.openHeadshot(id);
+        }
+
+        HeadshotCacheStats stats = service.getCacheStats();
+        assertTrue(stats.weightBytes() <= 10_000, "weight " + stats.weightBytes());
+        assertTrue(stats.evictionCount() > 0);
+    }
+
+    @Test
+    void openHeadshot_DoesNotCacheMissingHeadshots() {
+        HeadshotService service = newService(1_000_000);
+        when(playerAssetRepository.findByPlayerId(2L)).thenReturn(Optional.empty());
+
+        assertTrue(service.openHeadshot(2L).isEmpty());
+        assertTrue(service.openHeadshot(2L).isEmpty());
+
+        verify(playerAssetRepository, times(2)).findByPlayerId(2L);
+        assertEquals(0, service.getCacheStats().entries());
+    }
+
+    @Test
+    void evict_ForcesReload() {
+        HeadshotService service = newService(1_000_000);
+        givenHeadshot(3L, "three.jpg", 100);
+
+        service.openHeadshot(3L);
+        service.evict(3L);
+        service.openHeadshot(3L);
+
+        verify(assetService, times(2)).openImage("players/headshots/three.jpg");
+    }
+
+    @Test
+    void openHeadshot_StreamsLargeImagesWithoutCachingThem() throws IOException {
+        HeadshotService service = newService(1_000_000);
+        givenHeadshot(7L, "large.png", 50_000);
+
+        HeadshotContent content = service.openHeadshot(7L).orElseThrow();
+
+        assertEquals("image/png", content.contentType());
+        assertEquals(50_000, content.contentLength());
+        assertEquals(50_000, write(content).length);
+        assertEquals(0, service.getCacheStats().entries());
+    }
+
+    @Test
+    void openHeadshot_StreamsLargeImagesFromDisk() throws IOException {
+        HeadshotService service = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()));
+        givenHeadshot(8L, "large.webp", 50_000);
+
+        HeadshotContent content = service.openHeadshot(8L).orElseThrow();
+
+        assertTrue(Files.exists(diskDirectory.resolve("large.webp")));
+        assertEquals(50_000, content.contentLength());
+        assertEquals(50_000, write(content).length);
+    }
+
+    @Test
+    void openHeadshot_ServesRenditionBySize() throws IOException {
+        HeadshotService service = newService(1_000_000);
+        when(playerAssetRepository.findByPlayerId(9L)).thenReturn(Optional.of(new PlayerAsset(9L, "nine.png")));
+        givenS3Object("64/nine.jpg", 300);
+
+        HeadshotContent content = service.openHeadshot(9L, 64).orElseThrow();
+        service.openHeadshot(9L, 64);
+
+        assertEquals("image/jpeg", content.contentType());
+        assertEquals("64_nine.jpg", content.filename());
+        assertEquals(300, write(content).length);
+        verify(assetService, times(1)).openImage("players/headshots/64/nine.jpg");
+        verify(assetService, never()).openImage("players/headshots/nine.png");
+    }
+
+    @Test
+    void openHeadshot_CreatesMissingRenditionsFromOriginal() throws IOException {
+        HeadshotService service = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()));
+        when(playerAssetRepository.findByPlayerId(10L)).thenReturn(Optional.of(new PlayerAsset(10L, "ten.png")));
+        givenNoRenditionsInS3();
+        givenS3Object("ten.png", png(400, 200));
+
+        HeadshotContent content = service.openHeadshot(10L, 128).orElseThrow();
+
+        BufferedImage rendition = ImageIO.read(new ByteArrayInputStream(write(content)));
+        assertEquals(128, rendition.getWidth());
+        assertEquals(64, rendition.getHeight());
+        for (int size : HeadshotService.RENDITION_SIZES) {
+            verify(assetService).putImage(eq("players/headshots/" + size + "/ten.jpg"), any(), eq("image/jpeg"));
+            assertTrue(Files.exists(diskDirectory.resolve(size + "_ten.jpg")));
+        }
+    }
+
+    @Test
+    void openHeadshot_FallsBackToOriginalWhenRenditionCannotBeCreated() throws IOException {
+        HeadshotService service = newService(1_000_000);
+        givenHeadshot(11L, "eleven.png", 700);
+        givenNoRenditionsInS3();
+
+        HeadshotContent content = service.openHeadshot(11L, 64).orElseThrow();
+
+        assertEquals("eleven.png", content.filename());
+        assertEquals(700, write(content).length);
+        verify(assetService, never()).putImage(any(), any(), any());
+    }
+
+    @Test
+    void openHeadshot_RejectsUnsupportedSize() {
+        HeadshotService service = newService(1_000_000);
+
+        assertThrows(ValidationException.class, () -> service.openHeadshot(1L, 100));
+        verifyNoInteractions(playerAssetRepository);
+    }
+
+    @Test
+    void getBundle_EncodesEveryRenditionAndStreamsItFromDisk() throws IOException {
+        HeadshotService service = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()));
+        when(playerAssetRepository.findAll()).thenReturn(List.of(
+            new PlayerAsset(13L, "thirteen.png"), new PlayerAsset(12L, "twelve.png")));
+        givenS3Object("64/twelve.jpg", 120);
+        givenS3Object("64/thirteen.jpg", 130);
+
+        HeadshotBundle bundle = service.getBundle(64).join();
+        HeadshotBundle again = service.getBundle(64).join();
+
+        assertEquals(bundle.etag(), again.etag());
+        Path file = diskDirectory.resolve(bundle.content().filename());
+        assertEquals(Files.size(file), bundle.content().contentLength());
+        Map<Long, Integer> entries = readBundle(again);
+        assertEquals(List.of(12L, 13L), List.copyOf(entries.keySet()));
+        assertEquals(120, entries.get(12L));
+        assertEquals(130, entries.get(13L));
+        verify(assetService, times(1)).openImage("players/headshots/64/twelve.jpg");
+        // A published bundle is served without reading the asset table
+        verify(playerAssetRepository, times(1)).findAll();
+    }
+
+    @Test
+    void getBundle_StaysOutOfTheMemoryTier() {
+        HeadshotService service = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()));
+        when(playerAssetRepository.findAll()).thenReturn(List.of(new PlayerAsset(12L, "twelve.png")));
+        givenS3Object("64/twelve.jpg", 1_000);
+
+        service.getBundle(64).join();
+
+        // Only the rendition the bundle was built from
+        assertEquals(1, service.getCacheStats().entries());
+    }
+
+    @Test
+    void getBundle_EtagComesFromTheAssetRows() throws IOException {
+        when(playerAssetRepository.findAll()).thenReturn(List.of(new PlayerAsset(12L, "twelve.png")));
+        givenS3Object("64/twelve.jpg", 120);
+
+        HeadshotBundle first = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()))
+            .getBundle(64).join();
+        // Another instance, or this one after a restart, reuses the file written for the same rows
+        HeadshotBundle restarted = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()))
+            .getBundle(64).join();
+        HeadshotBundle inMemory = newService(1_000_000).getBundle(64).join();
+
+        assertEquals(first.etag(), restarted.etag());
+        assertEquals(first.etag(), inMemory.etag());
+        assertEquals(Map.of(12L, 120), readBundle(restarted));
+        verify(assetService, times(2)).openImage("players/headshots/64/twelve.jpg");
+    }
+
+    @Test
+    void getBundle_ChangesEtagWhenAHeadshotIsEvicted() throws IOException {
+        HeadshotService service = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()));
+        List<PlayerAsset> assets = new ArrayList<>(List.of(new PlayerAsset(12L, "twelve.png")));
+        when(playerAssetRepository.findAll()).thenAnswer(invocation -> List.copyOf(assets));
+        givenS3Object("64/twelve.jpg", 120);
+        givenS3Object("64/twelve-v2.jpg", 140);
+
+        HeadshotBundle first = service.getBundle(64).join();
+        assets.set(0, new PlayerAsset(12L, "twelve-v2.png"));
+        service.evict(12L);
+        HeadshotBundle second = service.getBundle(64).join();
+
+        assertNotEquals(first.etag(), second.etag());
+        assertEquals(Map.of(12L, 140), readBundle(second));
+        // The replaced file is kept for requests still streaming it
+        assertTrue(Files.exists(diskDirectory.resolve(first.content().filename())));
+    }
+
+    @Test
+    void getBundle_KeepsEtagWhenEvictionLeavesTheRowsUnchanged() {
+        HeadshotService service = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()));
+        when(playerAssetRepository.findAll()).thenReturn(List.of(new PlayerAsset(12L, "twelve.png")));
+        givenS3Object("64/twelve.jpg", 120);
+
+        String first = service.getBundle(64).join().etag();
+        service.evict(12L);
+        String second = service.getBundle(64).join().etag();
+
+        assertEquals(first, second);
+        verify(playerAssetRepository, times(2)).findAll();
+    }
+
+    @Test
+    void getBundle_FetchesRenditionsInParallel() throws Exception {
+        List<PlayerAsset> assets = new ArrayList<>();
+        for (long playerId = 1; playerId <= 3; playerId++) {
+            assets.add(new PlayerAsset(playerId, playerId + ".png"));
+        }
+        when(playerAssetRepository.findAll()).thenReturn(assets);
+        CountDownLatch allFetching = new CountDownLatch(assets.size());
+        when(assetService.openImage(matches("players/headshots/64/\\d\\.jpg"))).thenAnswer(invocation -> {
+            allFetching.countDown();
+            // Every fetch waits for the others, so this only completes if they overlap
+            assertTrue(allFetching.await(5, TimeUnit.SECONDS));
+            return new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength(10L).contentType("image/jpeg").build(),
+                AbortableInputStream.create(new ByteArrayInputStream(new byte[10])));
+        });
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            HeadshotService service = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()), executor);
+
+            HeadshotBundle bundle = service.getBundle(64).get(10, TimeUnit.SECONDS);
+
+            assertEquals(List.of(1L, 2L, 3L), List.copyOf(readBundle(bundle).keySet()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getBundle_ConcurrentRequestsShareOneBuildOffTheCallingThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            HeadshotService service = newService(1_000_000, new HeadshotDiskStore(true, diskDirectory.toString()),
+                task -> executor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    task.run();
+                }));
+            when(playerAssetRepository.findAll()).thenReturn(List.of(new PlayerAsset(12L, "twelve.png")));
+            givenS3Object("64/twelve.jpg", 120);
+
+            CompletableFuture<HeadshotBundle> first = service.getBundle(64);
+            CompletableFuture<HeadshotBundle> second = service.getBundle(64);
+
+            assertSame(first, second);
+            assertFalse(first.isDone());
+            release.countDown();
+            assertEquals(Map.of(12L, 120), readBundle(first.get(10, TimeUnit.SECONDS)));
+            assertTrue(service.getBundle(64).isDone());
+            verify(playerAssetRepository, times(1)).findAll();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getBundle_LeavesOutUnreadableHeadshots() throws IOException {
+        HeadshotService service = newService(1_000_000);
+        when(playerAssetRepository.findAll()).thenReturn(List.of(
+            new PlayerAsset(12L, "twelve.png"), new PlayerAsset(14L, "gone.png")));
+        givenS3Object("64/twelve.jpg", 120);
+        givenNoRenditionsInS3();
+        when(assetService.openImage("players/headshots/gone.png"))
+            .thenThrow(NoSuchKeyException.builder().message("missing").build());
+
+        HeadshotBundle bundle = service.getBundle(64).join();
+
+        assertEquals(List.of(12L), List.copyOf(readBundle(bundle).keySet()));
+    }
+
+    @Test
+    void getBundle_RejectsOriginalSize() {
+        HeadshotService service = newService(1_000_000);
+
+        assertThrows(ValidationException.class, () -> service.getBundle(0));
+    }
+
+    @Test
+    void openHeadshot_ColdMemoryIsServedFromDisk() {
+        HeadshotDiskStore diskStore = new HeadshotDiskStore(true, diskDirectory.toString());
+        givenHeadshot(4L, "four.jpg", 500);
+        newService(1_000_000, diskStore).openHeadshot(4L);
+
+        // A new service simulates a restart: empty memory tier, same disk directory
+        HeadshotContent content = newService(1_000_000, diskStore).openHeadshot(4L).orElseThrow();
+
+        assertEquals(500, content.contentLength());
+        verify(assetService, times(1)).openImage("players/headshots/four.jpg");
+    }
+
+    @Test
+    void warmDisk_DownloadsMissingFilesAndPrunesUnknownOnes() throws Exception {
+        HeadshotDiskStore diskStore = new HeadshotDiskStore(true, diskDirectory.toString());
+        Files.write(diskDirectory.resolve("orphan.jpg"), new byte[10]);
+        diskStore.write("cached.jpg", new byte[20]);
+        when(playerAssetRepository.findAll()).thenReturn(List.of(
+            new PlayerAsset(5L, "cached.jpg"), new PlayerAsset(6L, "missing.jpg")));
+        givenNoRenditionsInS3();
+        givenS3Object("missing.jpg", 30);
+
+        int downloaded = newService(1_000_000, diskStore).warmDisk();
+
+        assertEquals(1, downloaded);
+        assertFalse(Files.exists(diskDirectory.resolve("orphan.jpg")));
+        assertEquals(30, Files.size(diskDirectory.resolve("missing.jpg")));
+        verify(assetService, never()).openImage("players/headshots/cached.jpg");
+    }
+
+    @Test
+    void openHeadshot_AssetSkipsRepositoryLookup() throws IOException {
+        HeadshotService service = newService(1_000_000);
+        givenS3Object("fifteen.png", 150);
+
+        HeadshotContent content = service.openHeadshot(new PlayerAsset(15L, "fifteen.png"), 0);
+
+        assertEquals(150, write(content).length);
+        verifyNoInteractions(playerAssetRepository);
+    }
+
+    @Test
+    void openHeadshotAsync_CompletesMemoryHitsWithoutExecutor() throws IOException {
+        givenS3Object("seventeen.png", 170);
+        PlayerAsset asset = new PlayerAsset(17L, "seventeen.png");
+        List<Runnable> submitted = new ArrayList<>();
+        HeadshotService service = new HeadshotService(assetService, playerAssetRepository,
+            new CacheConfig().headshotCache(1_000_000, Duration.ZERO),
+            new HeadshotDiskStore(false, diskDirectory.toString()), MAX_ENTRY_BYTES, submitted::add);
+
+        var miss = service.openHeadshotAsync(asset, 0);
+        assertFalse(miss.isDone());
+        submitted.forEach(Runnable::run);
+        assertEquals(170, write(miss.join()).length);
+
+        assertTrue(service.openHeadshotAsync(asset, 0).isDone());
+        assertEquals(1, submitted.size());
+    }
+
+    @Test
+    void etag_UsesContentHashAndFallsBackToFilename() throws IOException {
+        PlayerAsset asset = new PlayerAsset(16L, "sixteen.png");
+        assertEquals("\"sixteen.png\"", HeadshotService.etag(asset, 0));
+
+        asset.setContentHash(HeadshotService.contentHash(new ByteArrayInputStream("abc".getBytes())));
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", asset.getContentHash());
+        assertEquals("\"" + asset.getContentHash() + "\"", HeadshotService.etag(asset, 0));
+        assertEquals("\"" + asset.getContentHash() + "-128\"", HeadshotService.etag(asset, 128));
+    }
+
+    @Test
+    void copyAndHash_StagesTheUploadAndHashesItInOnePass() throws IOException {
+        byte[] image = png(3, 2);
+        Path staged = diskDirectory.resolve("upload.tmp");
+
+        String hash = HeadshotService.copyAndHash(new ByteArrayInputStream(image), staged);
+
+        assertArrayEquals(image, Files.readAllBytes(staged));
+        assertEquals(HeadshotService.contentHash(new ByteArrayInputStream(image)), hash);
+    }
+
+    @Test
+    void contentType_PrefersExtensionThenStoredImageType() {
+        assertEquals("image/png", HeadshotService.contentType("a.png", "image/jpeg"));
+        assertEquals("image/gif", HeadshotService.contentType("noext", "image/gif"));
+        assertEquals("application/octet-stream", HeadshotService.contentType("noext", "text/html"));
+    }
+}
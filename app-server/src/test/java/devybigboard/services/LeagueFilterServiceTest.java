@@ -0,0 +1,141 @@
+package devybigboard.services;
+
+import devybigboard.exceptions.FilterNotFoundException;
+import devybigboard.exceptions.ValidationException;
+import devybigboard.models.FilterBatchRequest;
+import devybigboard.models.FilterBatchResponse;
+import devybigboard.models.Player;
+import devybigboard.models.PlayerWithAdp;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for league filters and the filtered board built from their cached ID sets.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LeagueFilterServiceTest {
+
+    @Autowired
+    private LeagueFilterService leagueFilterService;
+
+    @Autowired
+    private DevyBoardService devyBoardService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void getPlayersExcludingFilter_SubtractsFilterPlayersFromBoard() {
+        Player rostered = verifiedPlayer("Rostered Player");
+        Player available = verifiedPlayer("Available Player");
+        long filterId = leagueFilterService.createLeagueFilter("Home League");
+
+        leagueFilterService.addPlayerToFilter(filterId, rostered);
+        List<PlayerWithAdp> filtered = devyBoardService.getPlayersExcludingFilter(filterId);
+
+        assertFalse(containsPlayer(filtered, rostered));
+        assertTrue(containsPlayer(filtered, available));
+        assertEquals(devyBoardService.getAllPlayers().size() - 1, filtered.size());
+    }
+
+    @Test
+    void removePlayerFromFilter_InvalidatesCachedIds() {
+        Player player = verifiedPlayer("Rostered Player");
+        long filterId = leagueFilterService.createLeagueFilter("Home League");
+        leagueFilterService.addPlayerToFilter(filterId, player);
+        assertFalse(containsPlayer(devyBoardService.getPlayersExcludingFilter(filterId), player));
+
+        leagueFilterService.removePlayerFromFilter(filterId, player);
+
+        assertTrue(containsPlayer(devyBoardService.getPlayersExcludingFilter(filterId), player));
+    }
+
+    @Test
+    void addPlayerToFilter_RequiresPlayerId() {
+        long filterId = leagueFilterService.createLeagueFilter("Home League");
+
+        assertThrows(ValidationException.class, () -> leagueFilterService.addPlayerToFilter(filterId, new Player()));
+    }
+
+    @Test
+    void addPlayerToFilter_RejectsUnknownPlayer() {
+        long filterId = leagueFilterService.createLeagueFilter("Home League");
+        Player unknown = new Player();
+        unknown.setId(Long.MAX_VALUE);
+
+        assertThrows(ValidationException.class, () -> leagueFilterService.addPlayerToFilter(filterId, unknown));
+        assertTrue(leagueFilterService.getPlayerIds(filterId).isEmpty());
+    }
+
+    @Test
+    void addPlayerToFilter_KeepsOtherFiltersCached() {
+        Player player = verifiedPlayer("Rostered Player");
+        Player other = verifiedPlayer("Other Player");
+        long changed = leagueFilterService.createLeagueFilter("Home League");
+        long untouched = leagueFilterService.createLeagueFilter("Work League");
+        leagueFilterService.addPlayerToFilter(untouched, other);
+        PlayerIdSet cached = leagueFilterService.getPlayerIds(untouched);
+        assertTrue(cached.contains(other.getId()));
+
+        leagueFilterService.addPlayerToFilter(changed, player);
+
+        assertSame(cached, leagueFilterService.getPlayerIds(untouched));
+        assertTrue(leagueFilterService.getPlayerIds(changed).contains(player.getId()));
+    }
+
+    @Test
+    void applyBatch_AddsAndRemovesPlayersAndBumpsVersion() {
+        Player first = verifiedPlayer("First Player");
+        Player second = verifiedPlayer("Second Player");
+        Player third = verifiedPlayer("Third Player");
+        long filterId = leagueFilterService.createLeagueFilter("Home League");
+
+        FilterBatchResponse added = leagueFilterService.applyBatch(filterId,
+            new FilterBatchRequest(List.of(first.getId(), second.getId(), first.getId()), null));
+        assertEquals(2, added.playerCount());
+
+        FilterBatchResponse changed = leagueFilterService.applyBatch(filterId,
+            new FilterBatchRequest(List.of(third.getId()), List.of(first.getId())));
+
+        assertTrue(changed.version() > added.version());
+        assertEquals(2, changed.playerCount());
+        List<PlayerWithAdp> filtered = devyBoardService.getPlayersExcludingFilter(filterId);
+        assertTrue(containsPlayer(filtered, first));
+        assertFalse(containsPlayer(filtered, second));
+        assertFalse(containsPlayer(filtered, third));
+    }
+
+    @Test
+    void applyBatch_RejectsInvalidRequests() {
+        Player player = verifiedPlayer("Rostered Player");
+        long filterId = leagueFilterService.createLeagueFilter("Home League");
+
+        assertThrows(ValidationException.class, () -> leagueFilterService.applyBatch(filterId,
+            new FilterBatchRequest(List.of(player.getId()), List.of(player.getId()))));
+        assertThrows(ValidationException.class, () -> leagueFilterService.applyBatch(filterId,
+            new FilterBatchRequest(List.of(Long.MAX_VALUE), null)));
+        assertThrows(FilterNotFoundException.class, () -> leagueFilterService.applyBatch(Long.MAX_VALUE,
+            new FilterBatchRequest(List.of(player.getId()), null)));
+    }
+
+    private boolean containsPlayer(List<PlayerWithAdp> players, Player player) {
+        return players.stream().anyMatch(p -> p.id().equals(player.getId()));
+    }
+
+    private Player verifiedPlayer(String name) {
+        Player player = new Player();
+        player.setName(name);
+        player.setPosition("QB");
+        player.setVerified(true);
+        return playerService.savePlayer(player);
+    }
+}
@@ -0,0 +1,220 @@
+package devybigboard.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devybigboard.dao.DraftDao;
+import devybigboard.exceptions.ValidationException;
+import devybigboard.models.DraftCommandResult;
+import devybigboard.models.DraftEventMessage;
+import devybigboard.models.DraftStateView;
+import devybigboard.models.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for resent pick commands, event broadcast order and failed background writes in LiveDraftEngineService.
+ */
+@ExtendWith(MockitoExtension.class)
+class LiveDraftEngineServiceTest {
+
+    private static final String UUID = "engine-uuid";
+
+    @Mock
+    private DraftDao draftDao;
+
+    @Mock
+    private AdpService adpService;
+
+    @Mock
+    private PlayerService playerService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LiveDraftEngineService service;
+
+    @BeforeEach
+    void setUp() {
+        DraftStateView draft = new DraftStateView(1L, UUID, "Engine Test", "IN_PROGRESS",
+            2, 2, false, 1, 1, null, null, 0L, List.of(), List.of());
+        when(draftDao.findDraftStateView(UUID)).thenReturn(Optional.of(draft));
+        when(playerService.getVerifiedPlayerPool())
+            .thenReturn(new VerifiedPlayerPool(1, List.of(player(100), player(101)), new ObjectMapper()));
+        lenient().when(draftDao.updateDraftProgress(anyLong(), anyLong(), anyInt(), anyInt(), any(), any()))
+            .thenReturn(true);
+
+        service = new LiveDraftEngineService(draftDao, adpService, playerService,
+            messagingTemplate, transactionManager, 2, 2, Duration.ofMinutes(2));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    private Player player(long id) {
+        Player player = new Player("Player " + id, "QB", "Team", "College");
+        player.setId(id);
+        return player;
+    }
+
+    @Test
+    void makePick_ResentCommandReturnsOriginalEventsWithoutApplyingAgain() {
+        DraftCommandResult first = service.makePick(UUID, 100L, "A", "cmd-1");
+        DraftCommandResult resent = service.makePick(UUID, 100L, "A", "cmd-1");
+
+        assertFalse(first.replayed());
+        assertTrue(resent.replayed());
+        assertSame(first.events(), resent.events());
+        assertEquals(1, service.getEngine(UUID).getPicks().size());
+        assertEquals("B", service.getCurrentTurn(UUID));
+        // Only the original PICK_MADE and TURN_CHANGED are broadcast
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/draft/" + UUID), any(DraftEventMessage.class));
+    }
+
+    @Test
+    void makePick_ResentRejectedCommandIsRejectedAgainEvenAfterTurnChanges() {
+        assertThrows(ValidationException.class, () -> service.makePick(UUID, 100L, "B", "cmd-1"));
+        service.makePick(UUID, 101L, "A", "cmd-2");
+        assertEquals("B", service.getCurrentTurn(UUID));
+
+        assertThrows(ValidationException.class, () -> service.makePick(UUID, 100L, "B", "cmd-1"));
+        assertEquals(1, service.getEngine(UUID).getPicks().size());
+    }
+
+    @Test
+    void makePick_CommandIdReusedForAnotherPickIsRejected() {
+        service.makePick(UUID, 100L, "A", "cmd-1");
+
+        ValidationException e = assertThrows(ValidationException.class,
+            () -> service.makePick(UUID, 101L, "B", "cmd-1"));
+        assertTrue(e.getMessage().contains("different command"));
+        assertEquals(1, service.getEngine(UUID).getPicks().size());
+    }
+
+    @Test
+    void makePick_WithoutCommandIdIsAppliedEveryTime() {
+        service.makePick(UUID, 100L, "A", null);
+
+        assertFalse(service.makePick(UUID, 101L, "B", null).replayed());
+        assertEquals(2, service.getEngine(UUID).getPicks().size());
+    }
+
+    /** Wait for the RESYNC broadcast sent when the engine is dropped after a failed write. */
+    private DraftEventMessage awaitResync() {
+        verify(messagingTemplate, timeout(5000)).convertAndSend(eq("/topic/draft/" + UUID),
+            argThat((DraftEventMessage event) -> DraftEventMessage.RESYNC.equals(event.getType())));
+        return broadcastEvents().stream()
+            .filter(event -> DraftEventMessage.RESYNC.equals(event.getType()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private List<DraftEventMessage> broadcastEvents() {
+        ArgumentCaptor<DraftEventMessage> events = ArgumentCaptor.forClass(DraftEventMessage.class);
+        verify(messagingTemplate, atLeastOnce()).convertAndSend(eq("/topic/draft/" + UUID), events.capture());
+        return events.getAllValues();
+    }
+
+    @Test
+    void concurrentCommands_AreBroadcastInSequenceOrder() throws Exception {
+        // A slow send widens the window in which a later command could overtake an earlier one
+        doAnswer(invocation -> {
+            Thread.sleep(20);
+            return null;
+        }).when(messagingTemplate).convertAndSend(eq("/topic/draft/" + UUID), any(Object.class));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // Forced picks, so both apply whichever runs first
+            Future<?> first = callers.submit(() -> {
+                start.await();
+                return service.forcePick(UUID, 100L, "A", "B", null);
+            });
+            Future<?> second = callers.submit(() -> {
+                start.await();
+                return service.forcePick(UUID, 101L, "B", "A", null);
+            });
+            start.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            callers.shutdownNow();
+        }
+
+        List<Long> sequences = broadcastEvents().stream().map(DraftEventMessage::getSequence).toList();
+        assertEquals(4, sequences.size());
+        for (int i = 1; i < sequences.size(); i++) {
+            assertEquals(sequences.get(i - 1) + 1, sequences.get(i), "broadcast order " + sequences);
+        }
+    }
+
+    @Test
+    void makePick_FailedWriteDropsEngineAndTellsClientsToResync() {
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+            .when(draftDao).insertLivePick(anyLong(), anyLong(), anyInt(), any(), any(), anyInt(), any());
+        DraftEngine engine = service.getEngine(UUID);
+
+        service.makePick(UUID, 100L, "A", null);
+
+        assertEquals(DraftEventMessage.WRITE_FAILED, awaitResync().getReason());
+        DraftEngine reloaded = service.getEngine(UUID);
+        assertNotSame(engine, reloaded);
+        assertEquals(0, reloaded.getPicks().size());
+        verify(draftDao, times(2)).findDraftStateView(UUID);
+    }
+
+    @Test
+    void makePick_VersionConflictDropsEngineAndTellsClientsTheDraftChanged() {
+        when(draftDao.updateDraftProgress(anyLong(), anyLong(), anyInt(), anyInt(), any(), any()))
+            .thenReturn(false);
+        DraftEngine engine = service.getEngine(UUID);
+
+        service.makePick(UUID, 100L, "A", null);
+
+        assertEquals(DraftEventMessage.DRAFT_CONFLICT, awaitResync().getReason());
+        DraftEngine reloaded = service.getEngine(UUID);
+        assertNotSame(engine, reloaded);
+        assertEquals(0, reloaded.getPicks().size());
+        verify(draftDao, times(2)).findDraftStateView(UUID);
+    }
+
+    @Test
+    void makePick_ResendAfterFailedWriteRunsAgain() {
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+            .doNothing()
+            .when(draftDao).insertLivePick(anyLong(), anyLong(), anyInt(), any(), any(), anyInt(), any());
+
+        assertFalse(service.makePick(UUID, 100L, "A", "cmd-1").replayed());
+        awaitResync();
+        DraftCommandResult resent = service.makePick(UUID, 100L, "A", "cmd-1");
+
+        assertFalse(resent.replayed());
+        assertEquals(1, service.getEngine(UUID).getPicks().size());
+        verify(draftDao, timeout(5000).times(2))
+            .insertLivePick(anyLong(), eq(100L), anyInt(), any(), any(), anyInt(), any());
+    }
+}
@@ -0,0 +1,241 @@
+package devybigboard.services;
+
+import devybigboard.dao.DraftDao;
+import devybigboard.dao.DraftRepository;
+import devybigboard.exceptions.DraftNotFoundException;
+import devybigboard.models.Draft;
+import devybigboard.models.DraftDTO;
+import devybigboard.models.DraftEventMessage;
+import devybigboard.models.DraftParticipant;
+import devybigboard.models.DraftPick;
+import devybigboard.models.DraftStateMessage;
+import devybigboard.models.PickDTO;
+import devybigboard.models.Player;
+import devybigboard.models.PlayerResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests that live draft commands applied by LiveDraftEngineService are written behind to the database,
+ * including the ADP aggregate of completed drafts, and that a conflicting writer is detected.
+ *
+ * Not transactional: the engine loads and writes drafts on its own threads, so test data is committed
+ * and removed after each test. Each test uses its own engine service and shuts it down to drain writes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LiveDraftWriteBehindTest {
+
+    @Autowired
+    private DraftService draftService;
+
+    @Autowired
+    private DraftRepository draftRepository;
+
+    @Autowired
+    private DraftDao draftDao;
+
+    @Autowired
+    private AdpService adpService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> draftUuids = new ArrayList<>();
+    private final List<Long> playerIds = new ArrayList<>();
+
+    private SimpMessagingTemplate messagingTemplate;
+    private LiveDraftEngineService engineService;
+
+    @BeforeEach
+    void setUp() {
+        engineService = newEngineService();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engineService.shutdown();
+        for (String uuid : draftUuids) {
+            draftService.deleteDraft(uuid);
+        }
+        for (Long playerId : playerIds) {
+            playerService.deletePlayer(playerId);
+        }
+    }
+
+    private LiveDraftEngineService newEngineService() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        return new LiveDraftEngineService(draftDao, adpService, playerService, messagingTemplate,
+            transactionManager, 1, 1, Duration.ofMinutes(2));
+    }
+
+    /**
+     * Wait for every queued write, then continue with a fresh engine service,
+     * which reloads drafts from the database.
+     */
+    private void drainWrites() throws InterruptedException {
+        engineService.shutdown();
+        engineService = newEngineService();
+    }
+
+    private Draft inProgressDraft(int participantCount, int totalRounds, String... nicknames) {
+        Draft draft = draftService.createLiveDraft("Write Behind", "Alice", participantCount, totalRounds, "1234", false);
+        draftUuids.add(draft.getUuid());
+        for (int i = 0; i < nicknames.length; i++) {
+            draft.addParticipant(new DraftParticipant(draft, String.valueOf((char) ('A' + i)), nicknames[i]));
+        }
+        draft.setStatus("IN_PROGRESS");
+        return draftRepository.save(draft);
+    }
+
+    private Player player(String name, boolean verified) {
+        Player player = new Player(name, "RB", "Team", "College");
+        player.setVerified(verified);
+        player = playerService.savePlayer(player);
+        playerIds.add(player.getId());
+        return player;
+    }
+
+    private int adpPickCount(Long playerId) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(pick_count), 0) FROM player_adp WHERE player_id = ?", Integer.class, playerId);
+        return count != null ? count : 0;
+    }
+
+    @Test
+    void makePick_WritesPickAndDraftProgress() throws InterruptedException {
+        Draft draft = inProgressDraft(4, 10);
+        Player player = player("Write Behind Pick", true);
+
+        engineService.makePick(draft.getUuid(), player.getId(), "A", null);
+        drainWrites();
+
+        Draft saved = draftService.getDraftAggregate(draft.getUuid());
+        assertEquals(1, saved.getPicks().size());
+        DraftPick pick = saved.getPicks().get(0);
+        assertEquals(player.getId(), pick.getPlayer().getId());
+        assertEquals("A", pick.getPosition());
+        assertEquals(1, pick.getRoundNumber());
+        assertEquals(1, pick.getPickNumber());
+        assertNotNull(pick.getPickedAt());
+        assertNull(pick.getForcedBy());
+        assertEquals(2, saved.getCurrentPick());
+        assertEquals("B", engineService.getCurrentTurn(draft.getUuid()));
+    }
+
+    @Test
+    void forcePick_WritesForcedByAttribution() throws InterruptedException {
+        Draft draft = inProgressDraft(4, 10);
+        Player player = player("Write Behind Forced", true);
+
+        engineService.forcePick(draft.getUuid(), player.getId(), "C", "B", null);
+        drainWrites();
+
+        DraftPick pick = draftService.getDraftAggregate(draft.getUuid()).getPicks().get(0);
+        assertEquals("C", pick.getPosition());
+        assertEquals("B", pick.getForcedBy());
+    }
+
+    @Test
+    void finalPick_CompletesDraftAndUndoRemovesItFromAdp() throws InterruptedException {
+        Player first = player("Write Behind First", true);
+        Player second = player("Write Behind Second", true);
+        draftUuids.add(draftService.saveDraft(new DraftDTO("Mock", 1, List.of(new PickDTO(first.getId(), 5)))).getUuid());
+        Draft draft = inProgressDraft(2, 1);
+
+        engineService.makePick(draft.getUuid(), first.getId(), "A", null);
+        engineService.makePick(draft.getUuid(), second.getId(), "B", null);
+        drainWrites();
+
+        Draft completed = draftService.getDraftAggregate(draft.getUuid());
+        assertEquals("COMPLETED", completed.getStatus());
+        assertNotNull(completed.getCompletedAt());
+        assertEquals(2, adpPickCount(first.getId()));
+        assertEquals(1, adpPickCount(second.getId()));
+
+        engineService.undoLastPick(draft.getUuid());
+        drainWrites();
+
+        Draft reopened = draftService.getDraftAggregate(draft.getUuid());
+        assertEquals("IN_PROGRESS", reopened.getStatus());
+        assertNull(reopened.getCompletedAt());
+        assertEquals(1, reopened.getPicks().size());
+        assertEquals(1, adpPickCount(first.getId()));
+        assertEquals(0, adpPickCount(second.getId()));
+    }
+
+    @Test
+    void makePick_ConflictingWriterIsReportedAndNothingIsWritten() throws InterruptedException {
+        Draft draft = inProgressDraft(1, 1);
+        Player player = player("Write Behind Conflict", true);
+        engineService.getEngine(draft.getUuid());
+
+        // Another writer updates the row after the engine loaded it
+        jdbcTemplate.update("UPDATE drafts SET version = version + 1 WHERE id = ?", draft.getId());
+        engineService.makePick(draft.getUuid(), player.getId(), "A", null);
+        SimpMessagingTemplate conflictMessaging = messagingTemplate;
+        drainWrites();
+
+        verify(conflictMessaging).convertAndSend(eq("/topic/draft/" + draft.getUuid()),
+            argThat((Object event) -> event instanceof DraftEventMessage message
+                && DraftEventMessage.RESYNC.equals(message.getType())
+                && DraftEventMessage.DRAFT_CONFLICT.equals(message.getReason())));
+        Draft saved = draftService.getDraftAggregate(draft.getUuid());
+        assertTrue(saved.getPicks().isEmpty());
+        assertEquals("IN_PROGRESS", saved.getStatus());
+    }
+
+    @Test
+    void getDraftStateMessage_ListsPicksWithAttributionAndOnlyAvailableVerifiedPlayers() {
+        Draft draft = inProgressDraft(3, 5, "Alice", "Bob", "Charlie");
+        Player picked = player("Write Behind Picked", true);
+        Player forced = player("Write Behind Forced Pick", true);
+        Player available = player("Write Behind Available", true);
+        Player unverified = player("Write Behind Unverified", false);
+
+        engineService.makePick(draft.getUuid(), picked.getId(), "A", null);
+        engineService.forcePick(draft.getUuid(), forced.getId(), "B", "C", null);
+        DraftStateMessage state = engineService.getDraftStateMessage(draft.getUuid());
+
+        assertEquals("IN_PROGRESS", state.getStatus());
+        assertEquals(3, state.getCurrentPick());
+        assertEquals("C", state.getCurrentTurnPosition());
+        assertEquals(3, state.getParticipants().size());
+        assertEquals(2, state.getPicks().size());
+        assertNull(state.getPicks().get(0).getForcedByPosition());
+        assertEquals("C", state.getPicks().get(1).getForcedByPosition());
+        List<Long> availableIds = state.getAvailablePlayers().stream().map(PlayerResponse::getId).toList();
+        assertFalse(availableIds.contains(picked.getId()));
+        assertFalse(availableIds.contains(forced.getId()));
+        assertTrue(availableIds.contains(available.getId()));
+        assertFalse(availableIds.contains(unverified.getId()));
+    }
+
+    @Test
+    void getDraftStateMessage_ThrowsForUnknownDraft() {
+        assertThrows(DraftNotFoundException.class, () -> engineService.getDraftStateMessage("invalid-uuid"));
+    }
+}
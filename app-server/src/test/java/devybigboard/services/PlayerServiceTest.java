@@ -0,0 +1,68 @@
+package devybigboard.services;
+
+import devybigboard.models.Player;
+import devybigboard.models.PlayerDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the shared verified player pool maintained by PlayerService.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PlayerServiceTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void getVerifiedPlayerPool_ReturnsSameSnapshotWhenNothingChanged() {
+        VerifiedPlayerPool first = playerService.getVerifiedPlayerPool();
+        VerifiedPlayerPool second = playerService.getVerifiedPlayerPool();
+
+        assertSame(first, second);
+        assertEquals(first.getVersion(), second.getVersion());
+    }
+
+    @Test
+    void verifyPlayer_RebuildsPoolWithNewVersion() {
+        Player player = playerService.createPlayer(playerDTO("Pool Player", "RB"));
+        VerifiedPlayerPool before = playerService.getVerifiedPlayerPool();
+        assertNull(before.findById(player.getId()));
+
+        playerService.verifyPlayer(player.getId());
+        VerifiedPlayerPool after = playerService.getVerifiedPlayerPool();
+
+        assertTrue(after.getVersion() > before.getVersion());
+        assertNotNull(after.findById(player.getId()));
+        assertEquals("Pool Player", after.findResponseById(player.getId()).getName());
+    }
+
+    @Test
+    void updateAndDeletePlayer_InvalidatePool() {
+        Player player = playerService.createPlayer(playerDTO("Original Name", "WR"));
+        playerService.verifyPlayer(player.getId());
+
+        playerService.updatePlayer(player.getId(), playerDTO("Updated Name", "WR"));
+        VerifiedPlayerPool updated = playerService.getVerifiedPlayerPool();
+        assertEquals("Updated Name", updated.findById(player.getId()).getName());
+
+        playerService.deletePlayer(player.getId());
+        VerifiedPlayerPool deleted = playerService.getVerifiedPlayerPool();
+        assertTrue(deleted.getVersion() > updated.getVersion());
+        assertNull(deleted.findById(player.getId()));
+    }
+
+    private PlayerDTO playerDTO(String name, String position) {
+        PlayerDTO dto = new PlayerDTO();
+        dto.setName(name);
+        dto.setPosition(position);
+        return dto;
+    }
+}